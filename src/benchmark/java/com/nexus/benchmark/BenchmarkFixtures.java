@@ -0,0 +1,170 @@
+package com.nexus.benchmark;
+
+import com.nexus.model.Game;
+import com.nexus.util.HibernateUtil;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Libraries, databases and timing loops shared by the benchmarks.
+ */
+final class BenchmarkFixtures {
+
+    private static final String[] WORDS = {
+            "the", "witcher", "dark", "souls", "grand", "theft", "auto", "legend", "zelda", "cyber",
+            "punk", "halo", "star", "wars", "racing", "simulator", "battle", "field", "kingdom", "hearts",
+            "final", "fantasy", "call", "duty", "mass", "effect", "elder", "scrolls", "fallout", "doom"
+    };
+    private static final String[] DEVELOPERS = {
+            "CD Projekt Red", "FromSoftware", "Rockstar Games", "Nintendo", "Bungie", "Bethesda",
+            "id Software", "BioWare", "Square Enix", "Valve"
+    };
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Unsaved games "Benchmark Game 0" to "Benchmark Game n-1", cycling through the
+     * platforms, with a remote cover, a developer and an install path.
+     */
+    static List<Game> library(int count) {
+        List<Game> library = new ArrayList<>(count);
+        Game.Platform[] platforms = Game.Platform.values();
+        for (int i = 0; i < count; i++) {
+            Game game = new Game(null, "Benchmark Game " + i, "https://cdn.example.com/covers/" + i + ".jpg",
+                    platforms[i % platforms.length], Game.Status.READY);
+            game.setUniqueId("benchmark_" + i);
+            game.setDeveloper("Studio " + (i % 50));
+            game.setInstallPath("C:\\Games\\Benchmark Game " + i);
+            library.add(game);
+        }
+        return library;
+    }
+
+    /**
+     * Games with varied multi-word titles and real developer names, for search; the same
+     * library on every run. The first three are well-known titles.
+     */
+    static List<Game> searchLibrary(int count) {
+        Random random = new Random(42);
+        Game.Platform[] platforms = Game.Platform.values();
+        List<Game> games = new ArrayList<>(count);
+        games.add(searchGame(count, "The Witcher 3: Wild Hunt", "CD Projekt Red", Game.Platform.STEAM));
+        games.add(searchGame(count + 1, "Grand Theft Auto V", "Rockstar Games", Game.Platform.EPIC));
+        games.add(searchGame(count + 2, "DARK SOULS III", "FromSoftware", Game.Platform.STEAM));
+        for (int i = games.size(); i < count; i++) {
+            int words = 2 + random.nextInt(3);
+            StringBuilder title = new StringBuilder();
+            for (int w = 0; w < words; w++) {
+                String word = WORDS[random.nextInt(WORDS.length)];
+                if (w > 0) title.append(' ');
+                title.append(Character.toUpperCase(word.charAt(0))).append(word.substring(1));
+            }
+            title.append(' ').append(i);
+
+            games.add(searchGame(i, title.toString(), DEVELOPERS[random.nextInt(DEVELOPERS.length)],
+                    platforms[i % platforms.length]));
+        }
+        return games;
+    }
+
+    private static Game searchGame(int id, String title, String developer, Game.Platform platform) {
+        Game game = new Game((long) id, title, null, platform, Game.Status.READY);
+        game.setUniqueId("benchmark_" + id);
+        game.setDeveloper(developer);
+        return game;
+    }
+
+    /**
+     * Points nexus.db.url at a new throwaway database file.
+     */
+    static File useTempDatabase(String prefix) throws IOException {
+        File database = File.createTempFile(prefix, ".db");
+        database.deleteOnExit();
+        System.setProperty("nexus.db.url", "jdbc:sqlite:" + database.getAbsolutePath());
+        return database;
+    }
+
+    /**
+     * Inserts the benchmark library with full details, as a scan would store it, in one
+     * transaction through a stateless session (bypassing the repositories and the cache).
+     */
+    static void populate(int count) {
+        String description = "A long store description. ".repeat(76);
+        try (StatelessSession session = HibernateUtil.getSessionFactory().openStatelessSession()) {
+            Transaction transaction = session.beginTransaction();
+            for (Game game : library(count)) {
+                game.setDescription(description);
+                game.setExecutablePath(game.getInstallPath() + "\\game.exe");
+                game.setHeroImageUrl(game.getCoverImageUrl().replace("/covers/", "/heroes/"));
+                game.setReleaseDate("2020-01-01");
+                session.insert(game);
+            }
+            transaction.commit();
+        }
+        System.out.println("[BenchmarkFixtures] Inserted " + count + " games");
+    }
+
+    /**
+     * Fastest of the measured runs after the warmup runs, in milliseconds.
+     */
+    static double bestMillis(int warmups, int runs, Runnable work) {
+        for (int i = 0; i < warmups; i++) {
+            work.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            work.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1_000_000.0;
+    }
+
+    /**
+     * Mean duration of the measured runs after the warmup runs, in nanoseconds.
+     */
+    static double meanNanos(int warmups, int runs, Runnable work) {
+        for (int i = 0; i < warmups; i++) {
+            work.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            work.run();
+        }
+        return (double) (System.nanoTime() - start) / runs;
+    }
+
+    /**
+     * Duration of each measured run after the warmup runs, in nanoseconds, sorted.
+     */
+    static long[] sortedLatencies(int warmups, int runs, Runnable work) {
+        for (int i = 0; i < warmups; i++) {
+            work.run();
+        }
+        long[] latencies = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            work.run();
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    /**
+     * The p-th percentile (0 to 1) of sorted nanosecond latencies, in milliseconds.
+     */
+    static double percentileMillis(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,100 @@
+package com.nexus.benchmark;
+
+import com.nexus.model.Game;
+import com.nexus.model.GameSummary;
+import com.nexus.repository.GameRepository;
+import com.nexus.repository.HibernateGameRepository;
+import com.nexus.util.HibernateUtil;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures how library reads behave while a scan-like writer saves games, for each
+ * persistence profile (see DataSourceFactory): the WAL profile with a connection pool
+ * against the rollback-journal profile with a single connection.
+ *
+ * Run with:
+ *   mvn -Pbenchmark compile javafx:run -Djavafx.mainClass=com.nexus.launcher/com.nexus.benchmark.ConcurrencyBenchmark
+ */
+public class ConcurrencyBenchmark {
+
+    private static final int GAME_COUNT = 5_000;
+    private static final int READER_THREADS = 3;
+    private static final int PAGE_SIZE = 200;
+    private static final long DURATION_MS = 5_000;
+
+    public static void main(String[] args) throws Exception {
+        for (String profile : new String[]{"rollback", "wal"}) {
+            run(profile);
+        }
+    }
+
+    private static void run(String profile) throws IOException, InterruptedException {
+        BenchmarkFixtures.useTempDatabase("nexus-concurrency");
+        System.setProperty("nexus.db.profile", profile);
+
+        try {
+            BenchmarkFixtures.populate(GAME_COUNT);
+            GameRepository repository = new HibernateGameRepository();
+            List<Long> ids = new ArrayList<>();
+            for (GameSummary summary : repository.findAllSummaries()) {
+                ids.add(summary.id());
+            }
+
+            AtomicBoolean running = new AtomicBoolean(true);
+            AtomicInteger writes = new AtomicInteger();
+            List<Long> readLatencies = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch done = new CountDownLatch(READER_THREADS + 1);
+
+            // Writer: one small transaction per game, like the scanner's saves
+            Thread writer = new Thread(() -> {
+                Random random = new Random(1);
+                while (running.get()) {
+                    repository.findById(ids.get(random.nextInt(ids.size()))).ifPresent(game -> {
+                        game.setLastPlayed(LocalDateTime.now());
+                        repository.save(game);
+                        writes.incrementAndGet();
+                    });
+                }
+                done.countDown();
+            });
+
+            List<Thread> readers = new ArrayList<>();
+            for (int r = 0; r < READER_THREADS; r++) {
+                int seed = r;
+                readers.add(new Thread(() -> {
+                    Random random = new Random(100 + seed);
+                    while (running.get()) {
+                        long start = System.nanoTime();
+                        repository.findSummaryPageAfter(null, PAGE_SIZE);
+                        repository.findById(ids.get(random.nextInt(ids.size())));
+                        readLatencies.add(System.nanoTime() - start);
+                    }
+                    done.countDown();
+                }));
+            }
+
+            writer.start();
+            readers.forEach(Thread::start);
+            Thread.sleep(DURATION_MS);
+            running.set(false);
+            done.await();
+
+            long[] latencies = readLatencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            double seconds = DURATION_MS / 1000.0;
+            System.out.printf("[ConcurrencyBenchmark] %-8s reads %7.0f/s (p50 %6.2f ms, p99 %7.2f ms)  writes %6.0f/s%n",
+                    profile, latencies.length / seconds, BenchmarkFixtures.percentileMillis(latencies, 0.50),
+                    BenchmarkFixtures.percentileMillis(latencies, 0.99), writes.get() / seconds);
+        } finally {
+            HibernateUtil.shutdown();
+        }
+    }
+}
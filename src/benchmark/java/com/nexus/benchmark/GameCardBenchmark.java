@@ -0,0 +1,145 @@
+package com.nexus.benchmark;
+
+import com.nexus.component.GameCard;
+import com.nexus.component.GameCardPool;
+import com.nexus.model.Game;
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.effect.ColorAdjust;
+import javafx.scene.layout.StackPane;
+import javafx.scene.shape.Rectangle;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Measures the cost of creating 1,000 game cards:
+ * - FXML-loaded cards (the previous GameCard construction path)
+ * - Programmatically built cards
+ * - Rebinding 1,000 games onto a warm pool of one screen worth of cards
+ *
+ * Unverified: this benchmark has not been run yet (it needs a display and the JavaFX font
+ * stack), so there are no recorded before/after numbers for the programmatic card or the
+ * pool.
+ *
+ * Run with:
+ *   mvn -Pbenchmark compile javafx:run -Djavafx.mainClass=com.nexus.launcher/com.nexus.benchmark.GameCardBenchmark
+ */
+public class GameCardBenchmark {
+
+    private static final int CARD_COUNT = 1000;
+    private static final int POOL_SIZE = 40;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    // 1x1 PNG so cover loading hits the local disk instead of the network
+    private static final String COVER_PNG =
+            "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNk+M9QDwADhgGAWjR9awAAAABJRU5ErkJggg==";
+
+    public static void main(String[] args) throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        started.await();
+
+        String cover = writeCoverImage();
+        List<Game> games = BenchmarkFixtures.library(CARD_COUNT);
+        for (int i = 0; i < games.size(); i++) {
+            Game game = games.get(i);
+            game.setId((long) i);
+            game.setCoverImageUrl(cover);
+            if (i % 7 == 0) game.setStatus(Game.Status.MISSING);
+        }
+
+        CountDownLatch done = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            try {
+                GameCardPool pool = new GameCardPool();
+                warmPool(pool, games);
+
+                System.out.println("[GameCardBenchmark] Creating " + CARD_COUNT + " cards, "
+                        + MEASURED_ROUNDS + " measured rounds after " + WARMUP_ROUNDS + " warmup rounds");
+                report("FXML GameCard (before)", measure(() -> createFxmlCards(games)));
+                report("Programmatic GameCard", measure(() -> createCards(games)));
+                report("Pooled rebind (" + POOL_SIZE + " cards)", measure(() -> rebindPooled(pool, games)));
+            } catch (Exception e) {
+                e.printStackTrace();
+            } finally {
+                done.countDown();
+            }
+        });
+
+        done.await();
+        Platform.exit();
+    }
+
+    /**
+     * Previous construction path: FXML parse + reflective injection, plus a fresh
+     * effect and bound clip per card.
+     */
+    private static void createFxmlCards(List<Game> games) {
+        for (Game ignored : games) {
+            StackPane root = new StackPane();
+            FXMLLoader loader = new FXMLLoader(GameCard.class.getResource("/com/nexus/views/GameCard.fxml"));
+            loader.setRoot(root);
+            try {
+                loader.load();
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to load GameCard.fxml", e);
+            }
+
+            ColorAdjust darkenEffect = new ColorAdjust();
+            darkenEffect.setBrightness(-0.1);
+            Rectangle clip = new Rectangle();
+            clip.widthProperty().bind(root.widthProperty());
+            clip.heightProperty().bind(root.heightProperty());
+            root.setClip(clip);
+        }
+    }
+
+    private static void createCards(List<Game> games) {
+        for (Game game : games) {
+            new GameCard(game);
+        }
+    }
+
+    private static void warmPool(GameCardPool pool, List<Game> games) {
+        List<GameCard> cards = new ArrayList<>();
+        for (int i = 0; i < POOL_SIZE; i++) {
+            cards.add(pool.acquire(games.get(i)));
+        }
+        cards.forEach(pool::release);
+    }
+
+    private static void rebindPooled(GameCardPool pool, List<Game> games) {
+        List<GameCard> screen = new ArrayList<>(POOL_SIZE);
+        for (Game game : games) {
+            screen.add(pool.acquire(game));
+            if (screen.size() == POOL_SIZE) {
+                screen.forEach(pool::release);
+                screen.clear();
+            }
+        }
+        screen.forEach(pool::release);
+    }
+
+    private static double measure(Runnable work) {
+        return BenchmarkFixtures.bestMillis(WARMUP_ROUNDS, MEASURED_ROUNDS, work);
+    }
+
+    private static void report(String name, double millis) {
+        System.out.printf("[GameCardBenchmark] %-28s %8.1f ms total  %6.1f us/card%n",
+                name, millis, millis * 1000 / CARD_COUNT);
+    }
+
+    private static String writeCoverImage() throws IOException {
+        Path cover = Files.createTempFile("nexus-benchmark-cover", ".png");
+        cover.toFile().deleteOnExit();
+        Files.write(cover, Base64.getDecoder().decode(COVER_PNG));
+        return cover.toUri().toString();
+    }
+}
@@ -0,0 +1,79 @@
+package com.nexus.benchmark;
+
+import com.nexus.model.Game;
+import com.nexus.model.GameSummary;
+import com.nexus.repository.GameRepository;
+import com.nexus.repository.HibernateGameRepository;
+import com.nexus.util.HibernateUtil;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Compares loading the library as full Game entities against the GameSummary
+ * projection used by list views (in one query and in keyset pages), plus a streamed
+ * pass over the table, on a throwaway 20,000-row SQLite database.
+ * Reports load time and the heap retained by the loaded list.
+ *
+ * Run with:
+ *   mvn -Pbenchmark compile javafx:run -Djavafx.mainClass=com.nexus.launcher/com.nexus.benchmark.ProjectionBenchmark
+ */
+public class ProjectionBenchmark {
+
+    private static final int GAME_COUNT = 20_000;
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int MEASURED_ITERATIONS = 5;
+    private static final int PAGE_SIZE = 1000;
+
+    public static void main(String[] args) throws IOException {
+        BenchmarkFixtures.useTempDatabase("nexus-benchmark");
+
+        try {
+            BenchmarkFixtures.populate(GAME_COUNT);
+            GameRepository repository = new HibernateGameRepository();
+
+            measure("full entities", repository::findAll);
+            measure("summaries", repository::findAllSummaries);
+            measure("keyset pages", () -> loadInPages(repository));
+            measure("stream count", () -> {
+                try (Stream<Game> games = repository.streamAll()) {
+                    return List.of(games.count());
+                }
+            });
+        } finally {
+            HibernateUtil.shutdown();
+        }
+    }
+
+    private static void measure(String name, Supplier<List<?>> load) {
+        double millis = BenchmarkFixtures.meanNanos(WARMUP_ITERATIONS, MEASURED_ITERATIONS, load::get) / 1_000_000.0;
+
+        long before = usedHeap();
+        List<?> retained = load.get();
+        long after = usedHeap();
+
+        System.out.printf("[ProjectionBenchmark] %-14s %6d rows  %8.1f ms/load  %8.1f MB retained%n",
+                name, retained.size(), millis, (after - before) / (1024.0 * 1024.0));
+    }
+
+    private static List<GameSummary> loadInPages(GameRepository repository) {
+        List<GameSummary> all = new ArrayList<>(GAME_COUNT);
+        List<GameSummary> page = repository.findSummaryPageAfter(null, PAGE_SIZE);
+        while (!page.isEmpty()) {
+            all.addAll(page);
+            page = repository.findSummaryPageAfter(page.get(page.size() - 1), PAGE_SIZE);
+        }
+        return all;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,91 @@
+package com.nexus.benchmark;
+
+import com.nexus.model.Game;
+import com.nexus.model.GameSummary;
+import com.nexus.repository.GameRepository;
+import com.nexus.repository.RepositoryFactory;
+import com.nexus.repository.SettingsRepository;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares the JDBC and Hibernate repository implementations (see RepositoryFactory)
+ * on a throwaway database: time from a cold start to the first answered query, a
+ * batched insert of the whole library, and per-operation latency of the hot calls.
+ *
+ * JDBC runs first, so it alone pays for loading the driver and connection pool classes;
+ * the startup comparison is tilted in Hibernate's favor. Hibernate's numbers include
+ * its second-level cache, as the application runs with it, plus the cost of collecting
+ * the cache statistics it prints at the end.
+ *
+ * Run with:
+ *   mvn -Pbenchmark compile javafx:run -Djavafx.mainClass=com.nexus.launcher/com.nexus.benchmark.RepositoryBenchmark
+ */
+public class RepositoryBenchmark {
+
+    private static final int GAME_COUNT = 5_000;
+    private static final int WARMUP_ITERATIONS = 500;
+    private static final int MEASURED_ITERATIONS = 2_000;
+    private static final int PAGE_SIZE = 200;
+
+    public static void main(String[] args) throws IOException {
+        // Hibernate logs its cache hit ratios on shutdown
+        System.setProperty("nexus.db.statistics", "true");
+        for (String backend : new String[]{"jdbc", "hibernate"}) {
+            run(backend);
+        }
+    }
+
+    private static void run(String backend) throws IOException {
+        BenchmarkFixtures.useTempDatabase("nexus-repository");
+        System.setProperty("nexus.repository", backend);
+
+        try {
+            long start = System.nanoTime();
+            RepositoryFactory.initialize();
+            GameRepository games = RepositoryFactory.getGameRepository();
+            games.count();
+            report(backend, "startup", (System.nanoTime() - start) / 1_000_000.0, "ms");
+
+            List<Game> library = BenchmarkFixtures.library(GAME_COUNT);
+            library.forEach(game -> game.setDescription("A store description. ".repeat(20)));
+            start = System.nanoTime();
+            games.saveAll(library);
+            report(backend, "saveAll " + GAME_COUNT, (System.nanoTime() - start) / 1_000_000.0, "ms");
+
+            Random random = new Random(1);
+            SettingsRepository settings = RepositoryFactory.getSettingsRepository();
+            measure(backend, "findById", () -> games.findById(library.get(random.nextInt(GAME_COUNT)).getId()));
+            measure(backend, "findByUniqueId", () -> games.findByUniqueId("benchmark_" + random.nextInt(GAME_COUNT)));
+            measure(backend, "summary page", () -> {
+                GameSummary after = games.findSummaryPageAfter(null, 1).get(0);
+                games.findSummaryPageAfter(after, PAGE_SIZE);
+            });
+            measure(backend, "getSettings", settings::getSettings);
+            measure(backend, "save", () -> {
+                Game game = library.get(random.nextInt(GAME_COUNT));
+                game.setLastPlayed(LocalDateTime.now());
+                games.save(game);
+            });
+        } finally {
+            RepositoryFactory.shutdown();
+        }
+    }
+
+    /**
+     * Reports the median and 99th percentile latency of an operation, in microseconds.
+     */
+    private static void measure(String backend, String name, Runnable operation) {
+        long[] latencies = BenchmarkFixtures.sortedLatencies(WARMUP_ITERATIONS, MEASURED_ITERATIONS, operation);
+        System.out.printf("[RepositoryBenchmark] %-9s %-16s p50 %8.1f us  p99 %8.1f us%n", backend, name,
+                BenchmarkFixtures.percentileMillis(latencies, 0.50) * 1000,
+                BenchmarkFixtures.percentileMillis(latencies, 0.99) * 1000);
+    }
+
+    private static void report(String backend, String name, double value, String unit) {
+        System.out.printf("[RepositoryBenchmark] %-9s %-16s %8.1f %s%n", backend, name, value, unit);
+    }
+}
@@ -0,0 +1,63 @@
+package com.nexus.benchmark;
+
+import com.nexus.model.Game;
+import com.nexus.service.GameSearchIndex;
+import com.nexus.service.LibrarySearchEngine;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Measures build time and per-query latency of the library search structures
+ * (GameSearchIndex substring index, LibrarySearchEngine ranked search) on a
+ * 10,000-game library.
+ *
+ * Run with:
+ *   mvn -Pbenchmark compile javafx:run -Djavafx.mainClass=com.nexus.launcher/com.nexus.benchmark.SearchIndexBenchmark
+ */
+public class SearchIndexBenchmark {
+
+    private static final int GAME_COUNT = 10_000;
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURED_ITERATIONS = 2_000;
+
+    private static final String[] QUERIES = {
+            "w", "wi", "witcher", "dark souls", "rockstar", "steam", "punk 2", "zzzz", "the legend of"
+    };
+    private static final String[] RANKED_QUERIES = {
+            "w", "witcher", "wticher", "witcher3", "gta", "dsouls", "the legend of", "zzzz"
+    };
+
+    public static void main(String[] args) {
+        List<Game> games = BenchmarkFixtures.searchLibrary(GAME_COUNT);
+
+        GameSearchIndex index = new GameSearchIndex();
+        long buildStart = System.nanoTime();
+        index.rebuild(games);
+        report("Substring index build", buildStart);
+        for (String query : QUERIES) {
+            measure("index", query, index::search);
+        }
+
+        LibrarySearchEngine engine = new LibrarySearchEngine();
+        buildStart = System.nanoTime();
+        engine.rebuild(games);
+        report("Ranked engine build", buildStart);
+        for (String query : RANKED_QUERIES) {
+            measure("ranked", query, engine::search);
+        }
+    }
+
+    private static void measure(String name, String query, Function<String, List<Game>> search) {
+        List<Game> results = search.apply(query);
+        double micros = BenchmarkFixtures.meanNanos(WARMUP_ITERATIONS, MEASURED_ITERATIONS,
+                () -> search.apply(query)) / 1_000.0;
+        String top = results.isEmpty() ? "-" : results.get(0).getTitle();
+        System.out.printf("[SearchIndexBenchmark] %-6s %-16s %6d hits  %8.1f us/query  top: %s%n",
+                name, "\"" + query + "\"", results.size(), micros, top);
+    }
+
+    private static void report(String name, long start) {
+        System.out.printf("[SearchIndexBenchmark] %s: %.1f ms%n", name, (System.nanoTime() - start) / 1_000_000.0);
+    }
+}
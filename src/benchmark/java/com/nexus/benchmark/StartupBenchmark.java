@@ -0,0 +1,210 @@
+package com.nexus.benchmark;
+
+import com.nexus.Main;
+import com.nexus.StartupOrchestrator;
+import com.nexus.model.Game;
+import com.nexus.repository.GameRepository;
+import com.nexus.repository.RepositoryFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Launches the application repeatedly with {@code -Dnexus.startup.exit=true} and collects
+ * time-to-first-frame ("stage shown") and time-to-first-cards from each run's startup report
+ * (see StartupOrchestrator), measured from JVM start.
+ *
+ * The library is a seeded database of 5,000 games. The first run of each configuration is
+ * cold: there is no library snapshot yet, so the cards come from the database. The following
+ * runs are warm and paint from the snapshot the previous run saved on exit.
+ *
+ * Each run uses the same module or class path as the benchmark itself.
+ *
+ * Options:
+ *   [runs]             launches per configuration (default 5)
+ *   --archive <jsa>    also runs every launch with this AppCDS archive
+ *   --headless         renders with Monocle; needs openjfx-monocle next to JavaFX on the path
+ *   --seed <db file>   only fills the given database with the benchmark library
+ *
+ * Run with:
+ *   mvn -Pbenchmark compile javafx:run -Djavafx.mainClass=com.nexus.launcher/com.nexus.benchmark.StartupBenchmark
+ * or, comparing against the AppCDS archive (which needs the packaged jars on the class path):
+ *   mvn -Pappcds package exec:exec@startup-benchmark
+ */
+public class StartupBenchmark {
+
+    private static final int GAME_COUNT = 5_000;
+    private static final int DEFAULT_RUNS = 5;
+    private static final long RUN_TIMEOUT_SECONDS = 120;
+
+    // Milestone rows of the startup report, and milestones reached after it was printed
+    private static final Pattern REPORT_ROW = Pattern.compile("^\\s+(\\D+?)\\s+(\\d+)\\s*$");
+    private static final Pattern LATE_MILESTONE = Pattern.compile("Reached (.+) at (\\d+) ms");
+
+    public static void main(String[] args) throws Exception {
+        int runs = DEFAULT_RUNS;
+        Path archive = null;
+        boolean headless = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--seed" -> {
+                    seed(Path.of(args[++i]));
+                    return;
+                }
+                case "--archive" -> archive = Path.of(args[++i]);
+                case "--headless" -> headless = true;
+                default -> runs = Integer.parseInt(args[i]);
+            }
+        }
+
+        Path directory = Files.createTempDirectory("nexus-startup");
+        Path database = directory.resolve("nexus.db");
+        seed(database);
+
+        List<String> headlessOptions = headless
+                ? List.of("-Dglass.platform=Monocle", "-Dmonocle.platform=Headless", "-Dprism.order=sw")
+                : List.of();
+        run("default", runs, directory, headlessOptions);
+        if (archive != null) {
+            if (!Files.isRegularFile(archive)) {
+                System.err.println("[StartupBenchmark] No archive at " + archive + "; build it with mvn -Pappcds package");
+                return;
+            }
+            List<String> options = new ArrayList<>(headlessOptions);
+            options.add("-XX:SharedArchiveFile=" + archive.toAbsolutePath());
+            run("appcds", runs, directory, options);
+        }
+    }
+
+    /**
+     * Fills the database with the benchmark library, unless it already has games.
+     */
+    private static void seed(Path database) throws IOException {
+        Path directory = database.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        System.setProperty("nexus.db.url", "jdbc:sqlite:" + database.toAbsolutePath());
+        try {
+            RepositoryFactory.initialize();
+            GameRepository games = RepositoryFactory.getGameRepository();
+            if (games.count() == 0) {
+                List<Game> library = BenchmarkFixtures.library(GAME_COUNT);
+                for (Game game : library) {
+                    // Manual games, so the background scan started by the app leaves them alone;
+                    // no covers, so startup never waits on the network
+                    game.setPlatform(Game.Platform.MANUAL);
+                    game.setUniqueId("startup_" + game.getUniqueId());
+                    game.setCoverImageUrl(null);
+                }
+                games.saveAll(library);
+                System.out.println("[StartupBenchmark] Seeded " + GAME_COUNT + " games into " + database);
+            }
+        } finally {
+            RepositoryFactory.shutdown();
+        }
+    }
+
+    private static void run(String configuration, int runs, Path directory, List<String> options) throws Exception {
+        Path snapshot = directory.resolve(configuration + ".snapshot");
+        Files.deleteIfExists(snapshot);
+
+        List<Long> warmFrames = new ArrayList<>();
+        List<Long> warmCards = new ArrayList<>();
+        for (int run = 1; run <= runs; run++) {
+            Map<String, Long> milestones = launch(directory.resolve("nexus.db"), snapshot, options);
+            Long frame = milestones.get(StartupOrchestrator.STAGE_SHOWN);
+            Long cards = milestones.get(StartupOrchestrator.FIRST_CARDS);
+            System.out.printf("[StartupBenchmark] %-8s run %2d %-5s first frame %6s ms  first cards %6s ms%n",
+                    configuration, run, run == 1 ? "cold" : "warm", format(frame), format(cards));
+            if (run > 1 && frame != null && cards != null) {
+                warmFrames.add(frame);
+                warmCards.add(cards);
+            }
+        }
+        if (!warmFrames.isEmpty()) {
+            System.out.printf("[StartupBenchmark] %-8s warm median  first frame %6d ms  first cards %6d ms%n",
+                    configuration, median(warmFrames), median(warmCards));
+        }
+    }
+
+    /**
+     * Starts the application in a new JVM and returns the milestones it reported.
+     */
+    private static Map<String, Long> launch(Path database, Path snapshot, List<String> options) throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(options);
+        command.add("-Dnexus.startup.exit=true");
+        command.add("-Dnexus.db.url=jdbc:sqlite:" + database.toAbsolutePath());
+        command.add("-Dnexus.snapshot.path=" + snapshot.toAbsolutePath());
+        // Same launch as the benchmark itself: as a module under javafx:run (which also puts the
+        // non-modular jars on the class path), from the class path otherwise
+        String modulePath = System.getProperty("jdk.module.path");
+        String classPath = System.getProperty("java.class.path");
+        if (classPath != null && !classPath.isEmpty()) {
+            command.add("-cp");
+            command.add(classPath);
+        }
+        if (modulePath != null && !modulePath.isEmpty()) {
+            command.add("-p");
+            command.add(modulePath);
+            command.add("-m");
+            command.add("com.nexus.launcher/com.nexus.NexusLauncherApp");
+        } else {
+            command.add(Main.class.getName());
+        }
+
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        Map<String, Long> milestones = new ConcurrentHashMap<>();
+        Thread reader = new Thread(() -> readMilestones(process, milestones), "startup-benchmark-output");
+        reader.setDaemon(true);
+        reader.start();
+
+        if (!process.waitFor(RUN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+            System.err.println("[StartupBenchmark] Run did not finish within " + RUN_TIMEOUT_SECONDS + " s");
+        }
+        reader.join(TimeUnit.SECONDS.toMillis(5));
+        return milestones;
+    }
+
+    private static void readMilestones(Process process, Map<String, Long> milestones) {
+        try (BufferedReader output = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = output.readLine()) != null) {
+                Matcher row = REPORT_ROW.matcher(line);
+                Matcher late = LATE_MILESTONE.matcher(line);
+                if (row.matches()) {
+                    milestones.put(row.group(1), Long.parseLong(row.group(2)));
+                } else if (late.find()) {
+                    milestones.put(late.group(1), Long.parseLong(late.group(2)));
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("[StartupBenchmark] Could not read application output: " + e.getMessage());
+        }
+    }
+
+    private static long median(List<Long> values) {
+        List<Long> sorted = new ArrayList<>(values);
+        sorted.sort(null);
+        return sorted.get(sorted.size() / 2);
+    }
+
+    private static String format(Long value) {
+        return value != null ? String.valueOf(value) : "-";
+    }
+}
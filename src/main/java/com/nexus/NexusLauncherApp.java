@@ -1,7 +1,9 @@
 package com.nexus;
 
 import atlantafx.base.theme.PrimerDark;
-import com.nexus.util.HibernateUtil;
+import com.nexus.repository.RepositoryFactory;
+import com.nexus.repository.WriteBehindQueue;
+import com.nexus.service.LibraryStore;
 import com.nexus.util.WindowsThemeUtil;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
@@ -22,18 +24,32 @@ public class NexusLauncherApp extends Application {
     private static final double MIN_WIDTH = 1024;
     private static final double MIN_HEIGHT = 700;
 
+    @Override
+    public void init() {
+        // Database, credentials, library snapshot and fonts load while the FX thread builds the scene
+        StartupOrchestrator.getInstance().start();
+    }
+
     @Override
     public void start(Stage stage) throws IOException {
+        StartupOrchestrator startup = StartupOrchestrator.getInstance();
+
         // Set the AtlantaFX dark theme (must be done after toolkit initialization)
-        Application.setUserAgentStylesheet(new PrimerDark().getUserAgentStylesheet());
+        startup.measure("theme", () -> {
+            Application.setUserAgentStylesheet(new PrimerDark().getUserAgentStylesheet());
+            return null;
+        });
 
         primaryStage = stage;
 
-        FXMLLoader loader = new FXMLLoader(getClass().getResource("views/MainView.fxml"));
-        Parent root = loader.load();
+        Parent root = startup.measure("main view",
+                () -> new FXMLLoader(getClass().getResource("views/MainView.fxml")).<Parent>load());
 
-        Scene scene = new Scene(root, 1280, 800);
-        scene.getStylesheets().add(getClass().getResource("styles/application.css").toExternalForm());
+        Scene scene = startup.measure("scene", () -> {
+            Scene created = new Scene(root, 1280, 800);
+            created.getStylesheets().add(getClass().getResource("styles/application.css").toExternalForm());
+            return created;
+        });
 
         stage.setTitle("Nexus Launcher");
         stage.setScene(scene);
@@ -47,7 +63,11 @@ public class NexusLauncherApp extends Application {
             // Icon not found, continue without it
         }
 
-        stage.show();
+        startup.measure("show stage", () -> {
+            stage.show();
+            return null;
+        });
+        startup.mark(StartupOrchestrator.STAGE_SHOWN);
 
         // Enable dark title bar on Windows
         WindowsThemeUtil.enableDarkTitleBar(stage);
@@ -55,8 +75,14 @@ public class NexusLauncherApp extends Application {
 
     @Override
     public void stop() {
-        // Ensure Hibernate is shut down when app closes
-        HibernateUtil.shutdown();
+        // Keep the library snapshot current for the next start's first frame
+        LibraryStore.getInstance().saveSnapshot();
+
+        // Write queued updates (favorites, last played, settings) before closing the database
+        WriteBehindQueue.getInstance().shutdown();
+
+        // Ensure Hibernate and the database are shut down when app closes
+        RepositoryFactory.shutdown();
     }
 
     public static Stage getPrimaryStage() {
@@ -0,0 +1,223 @@
+package com.nexus;
+
+import com.nexus.repository.RepositoryFactory;
+import com.nexus.service.CombinedMetadataService;
+import com.nexus.service.LibraryStore;
+import javafx.application.Platform;
+import javafx.scene.text.Font;
+import org.kordamp.ikonli.IkonHandler;
+import org.kordamp.ikonli.javafx.IkonResolver;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Runs the independent parts of application startup in parallel and records how long each took.
+ *
+ * Background phases (database, metadata credentials, library snapshot, font and icon warmup)
+ * are started from Application.init(), so they overlap with the FX thread building the first
+ * scene. Serial work on the FX thread is timed with {@link #measure}, and milestones mark what
+ * the user sees ("stage shown", "first cards"). The report is printed once every background
+ * phase has finished and the stage is up; all times are measured from JVM start.
+ *
+ * With {@code -Dnexus.startup.exit=true} the application exits once the report is printed and
+ * the library from the database is on screen; StartupBenchmark and the appcds Maven profile
+ * launch it that way.
+ */
+public class StartupOrchestrator {
+
+    public static final String STAGE_SHOWN = "stage shown";
+    public static final String FIRST_CARDS = "first cards";
+    public static final String LIBRARY_SHOWN = "library shown";
+
+    private static StartupOrchestrator instance;
+
+    private final long jvmStartMillis = ProcessHandle.current().info().startInstant()
+            .map(Instant::toEpochMilli)
+            .orElse(System.currentTimeMillis());
+    private final List<Phase> phases = new CopyOnWriteArrayList<>();
+    private final Map<String, Long> milestones = new LinkedHashMap<>();
+    private final List<CompletableFuture<Void>> background = new ArrayList<>();
+    private final boolean exitWhenShown = Boolean.getBoolean("nexus.startup.exit");
+    private CompletableFuture<Void> database;
+    private boolean reported;
+    private boolean exiting;
+
+    private StartupOrchestrator() {
+    }
+
+    public static synchronized StartupOrchestrator getInstance() {
+        if (instance == null) {
+            instance = new StartupOrchestrator();
+        }
+        return instance;
+    }
+
+    /**
+     * Starts the background phases. Does nothing if they are already running.
+     */
+    public synchronized void start() {
+        if (database != null) return;
+        database = runInBackground("database", RepositoryFactory::initialize);
+        runInBackground("metadata credentials", CombinedMetadataService::loadCredentials);
+        runInBackground("library snapshot", () -> LibraryStore.getInstance().loadSnapshot());
+        runInBackground("font warmup", StartupOrchestrator::warmUpFonts);
+
+        CompletableFuture.allOf(background.toArray(CompletableFuture[]::new))
+                .whenComplete((ignored, error) -> reportIfComplete());
+    }
+
+    /**
+     * Completes when the repositories are ready; fails if the database could not be opened.
+     */
+    public synchronized CompletableFuture<Void> database() {
+        start();
+        return database;
+    }
+
+    /**
+     * Runs a serial startup step on the calling thread and records it as a phase.
+     */
+    public <T, E extends Exception> T measure(String name, Step<T, E> step) throws E {
+        long offset = sinceJvmStart();
+        long start = System.nanoTime();
+        String error = null;
+        try {
+            return step.run();
+        } catch (Exception | Error e) {
+            error = e.toString();
+            throw e;
+        } finally {
+            phases.add(new Phase(name, offset, (System.nanoTime() - start) / 1_000_000,
+                    Thread.currentThread().getName(), false, error));
+        }
+    }
+
+    /**
+     * Records the first time a milestone is reached; later calls are ignored.
+     */
+    public void mark(String milestone) {
+        long offset = sinceJvmStart();
+        boolean late;
+        synchronized (this) {
+            if (milestones.putIfAbsent(milestone, offset) != null) return;
+            late = reported;
+        }
+        if (late) {
+            System.out.println("[StartupOrchestrator] Reached " + milestone + " at " + offset + " ms");
+        }
+        reportIfComplete();
+        exitIfRequested();
+    }
+
+    public synchronized Report getReport() {
+        return new Report(List.copyOf(phases), new LinkedHashMap<>(milestones));
+    }
+
+    private CompletableFuture<Void> runInBackground(String name, Runnable work) {
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
+            long offset = sinceJvmStart();
+            long start = System.nanoTime();
+            String error = null;
+            try {
+                work.run();
+            } catch (RuntimeException | Error e) {
+                error = e.toString();
+                throw e;
+            } finally {
+                phases.add(new Phase(name, offset, (System.nanoTime() - start) / 1_000_000,
+                        Thread.currentThread().getName(), true, error));
+            }
+        }, task -> {
+            Thread thread = new Thread(task, "startup-" + name.replace(' ', '-'));
+            thread.setDaemon(true);
+            thread.start();
+        });
+        background.add(future);
+        return future;
+    }
+
+    /**
+     * Loads the icon fonts (one icon per pack used in the views) and the default UI font,
+     * which the FX thread would otherwise read on first use. Only fonts are loaded here;
+     * no nodes are created off the FX thread.
+     */
+    private static void warmUpFonts() {
+        for (String icon : new String[]{"fas-gamepad", "mdi2g-gamepad-variant"}) {
+            IkonHandler handler = IkonResolver.getInstance().resolve(icon);
+            handler.resolve(icon);
+            // Same font FontIcon would load on first use, stored where it looks for it
+            if (handler.getFont() == null) {
+                handler.setFont(Font.loadFont(handler.getFontResourceAsStream(), 16));
+            }
+        }
+        Font.getDefault();
+        Font.font("System", 13);
+    }
+
+    private void reportIfComplete() {
+        Report report;
+        synchronized (this) {
+            if (reported || !milestones.containsKey(STAGE_SHOWN)
+                    || background.stream().anyMatch(future -> !future.isDone())) {
+                return;
+            }
+            reported = true;
+            report = getReport();
+        }
+        System.out.print(report.format());
+        exitIfRequested();
+    }
+
+    private void exitIfRequested() {
+        synchronized (this) {
+            if (!exitWhenShown || exiting || !reported || !milestones.containsKey(LIBRARY_SHOWN)) {
+                return;
+            }
+            exiting = true;
+        }
+        System.out.println("[StartupOrchestrator] Startup complete, exiting (nexus.startup.exit)");
+        Platform.exit();
+    }
+
+    private long sinceJvmStart() {
+        return System.currentTimeMillis() - jvmStartMillis;
+    }
+
+    /**
+     * A startup step that may throw a checked exception.
+     */
+    @FunctionalInterface
+    public interface Step<T, E extends Exception> {
+        T run() throws E;
+    }
+
+    /**
+     * One timed phase. {@code start} is in milliseconds from JVM start; {@code error} is null on success.
+     */
+    public record Phase(String name, long start, long duration, String thread, boolean parallel, String error) {
+    }
+
+    /**
+     * Phases in completion order and milestones in the order they were reached.
+     */
+    public record Report(List<Phase> phases, Map<String, Long> milestones) {
+
+        public String format() {
+            StringBuilder out = new StringBuilder("[StartupOrchestrator] Startup report (ms from JVM start)\n");
+            out.append(String.format("  %-22s %7s %9s  %s%n", "phase", "start", "duration", "thread"));
+            for (Phase phase : phases) {
+                out.append(String.format("  %-22s %7d %9d  %s%s%n", phase.name(), phase.start(), phase.duration(),
+                        phase.thread(), phase.error() != null ? "  FAILED: " + phase.error() : ""));
+            }
+            milestones.forEach((name, offset) ->
+                    out.append(String.format("  %-22s %7d%n", name, offset)));
+            return out.toString();
+        }
+    }
+}
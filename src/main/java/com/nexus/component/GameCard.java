@@ -3,47 +3,68 @@ package com.nexus.component;
 import com.nexus.model.Game;
 import com.nexus.util.PlaceholderImageUtil;
 import javafx.animation.ScaleTransition;
-import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
 import javafx.scene.control.Label;
 import javafx.scene.effect.ColorAdjust;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 import javafx.util.Duration;
-import org.kordamp.ikonli.fontawesome5.FontAwesomeBrands;
 import org.kordamp.ikonli.coreui.CoreUiBrands;
+import org.kordamp.ikonli.fontawesome5.FontAwesomeBrands;
 import org.kordamp.ikonli.fontawesome5.FontAwesomeSolid;
 import org.kordamp.ikonli.javafx.FontIcon;
 import org.kordamp.ikonli.materialdesign2.MaterialDesignF;
-import org.kordamp.ikonli.materialdesign2.MaterialDesignG;
 
-import java.io.IOException;
+import java.util.Objects;
 
 /**
- * Custom FXML-based component representing a game card in the library grid.
+ * Custom component representing a game card in the library grid.
+ * The layout is built in code (same structure as GameCard.fxml) so creating a card
+ * does no XML parsing or reflective injection. Cards are designed to be recycled:
+ * {@link #rebind(Game)} reuses the nodes, clip and hover transition for another game,
+ * and {@link #update(Game)} applies only the fields that changed for the same game.
  */
 public class GameCard extends StackPane {
 
     private static final double CARD_WIDTH = 180;
     private static final double CARD_HEIGHT = 240;
     private static final double CORNER_RADIUS = 12;
+    private static final Duration HOVER_DURATION = Duration.millis(200);
+    private static final double HOVER_SCALE = 1.03;
+
+    // Effects are not scene graph nodes, so one instance can be shared by every card
+    private static final ColorAdjust DARKEN_EFFECT = new ColorAdjust();
+    static {
+        DARKEN_EFFECT.setBrightness(-0.1);
+    }
 
-    @FXML private ImageView coverImage;
-    @FXML private Label titleLabel;
-    @FXML private HBox platformBadge;
-    @FXML private FontIcon platformIcon;
-    @FXML private FontIcon statusCheckmark;
+    private final ImageView coverImage = new ImageView();
+    private final Label titleLabel = new Label();
+    private final FontIcon platformIcon = new FontIcon();
+    private final FontIcon statusCheckmark = new FontIcon(FontAwesomeSolid.CHECK_CIRCLE);
+    private final ScaleTransition hoverTransition = new ScaleTransition(HOVER_DURATION, this);
 
-    private final Game game;
+    private Game game;
+    private Label fallbackLabel;
     private Runnable onCardClick;
     private Runnable onPlayClick;
 
-    // Color adjustment for darkening the image
-    private final ColorAdjust darkenEffect;
+    // Last values applied to the nodes, used to update only what changed
+    private String appliedTitle;
+    private Game.Platform appliedPlatform;
+    private Game.Status appliedStatus;
+    private String appliedCoverUrl;
+    private boolean coverApplied;
+    // Incremented per cover load so late image callbacks from an older load are ignored
+    private int coverLoadId;
 
     public GameCard(Game game) {
         this.game = game;
@@ -52,101 +73,168 @@ public class GameCard extends StackPane {
         setPrefSize(CARD_WIDTH, CARD_HEIGHT);
         setMinSize(CARD_WIDTH, CARD_HEIGHT);
         setMaxSize(CARD_WIDTH, CARD_HEIGHT);
+        getStyleClass().add("game-card");
 
-        // Create darkening effect for the cover image
-        darkenEffect = new ColorAdjust();
-        darkenEffect.setBrightness(-0.1); // Darken by 30%
+        buildLayout();
+        setupInteractions();
 
-        loadFXML();
-        initialize();
+        // Set up game data
+        setupGameData();
     }
 
-    private void loadFXML() {
-        FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/nexus/views/GameCard.fxml"));
-        loader.setRoot(this);
-        loader.setController(this);
+    /**
+     * Builds the card layout: cover image with an info section (title, platform icon,
+     * status checkmark) anchored to the bottom.
+     */
+    private void buildLayout() {
+        // Cover image with darkening effect to make white text readable
+        coverImage.setPreserveRatio(false);
+        coverImage.setFitWidth(CARD_WIDTH);
+        coverImage.setFitHeight(CARD_HEIGHT);
+        coverImage.setEffect(DARKEN_EFFECT);
+
+        // Clip for rounded corners (card size is fixed, so no bindings are needed)
+        Rectangle clip = new Rectangle(CARD_WIDTH, CARD_HEIGHT);
+        clip.setArcWidth(CORNER_RADIUS * 2);
+        clip.setArcHeight(CORNER_RADIUS * 2);
+        setClip(clip);
 
-        try {
-            loader.load();
-        } catch (IOException e) {
-            System.err.println("[GameCard] Failed to load FXML: " + e.getMessage());
-            createFallbackLayout();
-        }
-    }
+        // Title
+        titleLabel.getStyleClass().add("game-card-title");
+        titleLabel.setWrapText(false);
 
-    private void initialize() {
-        getStyleClass().add("game-card");
+        // Platform icon
+        platformIcon.setIconSize(18);
+        platformIcon.setIconColor(Color.WHITE);
+        platformIcon.getStyleClass().add("platform-icon");
 
-        // Bind cover image to card size
-        coverImage.fitWidthProperty().bind(widthProperty());
-        coverImage.fitHeightProperty().bind(heightProperty());
+        HBox platformBadge = new HBox(platformIcon);
+        platformBadge.setAlignment(Pos.CENTER_LEFT);
 
-        // Apply darkening effect to make white text readable
-        coverImage.setEffect(darkenEffect);
+        Region spacer = new Region();
+        HBox.setHgrow(spacer, Priority.ALWAYS);
 
-        // Apply clip for rounded corners
-        Rectangle clip = new Rectangle();
-        clip.widthProperty().bind(widthProperty());
-        clip.heightProperty().bind(heightProperty());
-        clip.setArcWidth(CORNER_RADIUS * 2);
-        clip.setArcHeight(CORNER_RADIUS * 2);
-        setClip(clip);
+        // Status checkmark
+        statusCheckmark.setIconSize(18);
+        statusCheckmark.setIconColor(Color.web("#22c55e"));
+        statusCheckmark.getStyleClass().add("status-checkmark");
+
+        HBox bottomRow = new HBox(platformBadge, spacer, statusCheckmark);
+        bottomRow.setAlignment(Pos.CENTER_LEFT);
+
+        // Info section with title and icons
+        VBox infoSection = new VBox(6, titleLabel, bottomRow);
+        infoSection.setAlignment(Pos.BOTTOM_LEFT);
+        infoSection.setPadding(new Insets(0, 10, 10, 10));
+        infoSection.setPickOnBounds(false);
+        StackPane.setAlignment(infoSection, Pos.BOTTOM_LEFT);
+
+        getChildren().addAll(coverImage, infoSection);
+    }
+
+    /**
+     * Rebinds this card to a different game so the node can be recycled
+     * (e.g. by a virtualized grid) instead of building a new card.
+     */
+    public void rebind(Game game) {
+        if (game == this.game) return;
+        this.game = game;
+
+        // Reset state left over from the previous game
+        hoverTransition.stop();
+        getStyleClass().remove("game-card-hover");
+        setScaleX(1.0);
+        setScaleY(1.0);
+        appliedTitle = null;
+        appliedPlatform = null;
+        appliedStatus = null;
+        appliedCoverUrl = null;
+        coverApplied = false;
 
-        // Set up game data
         setupGameData();
+    }
 
-        // Set up interactions
-        setupInteractions();
+    /**
+     * Updates the card in place for the same logical game (e.g. after its metadata
+     * changed or it was reloaded). Only the fields that differ are touched, so the
+     * cover is reloaded only when its URL changes.
+     */
+    public void update(Game game) {
+        this.game = game;
+        setupGameData();
+    }
 
-        // Apply missing style if needed
+    private void updateMissingStyle() {
         if (game.getStatus() == Game.Status.MISSING) {
-            getStyleClass().add("game-card-missing");
+            if (!getStyleClass().contains("game-card-missing")) {
+                getStyleClass().add("game-card-missing");
+            }
+        } else {
+            getStyleClass().remove("game-card-missing");
         }
     }
 
     private void setupGameData() {
+        boolean titleChanged = !Objects.equals(appliedTitle, game.getTitle());
+
         // Set title
-        if (titleLabel != null) {
+        if (titleChanged) {
             titleLabel.setText(game.getTitle());
+            appliedTitle = game.getTitle();
         }
 
         // Set platform icon
-        if (platformIcon != null) {
+        if (appliedPlatform != game.getPlatform()) {
             switch (game.getPlatform()) {
                 case STEAM -> platformIcon.setIconCode(FontAwesomeBrands.STEAM);
                 case EPIC -> platformIcon.setIconCode(CoreUiBrands.EPIC_GAMES);
                 default -> platformIcon.setIconCode(MaterialDesignF.FOLDER);
             }
-            platformIcon.setIconSize(18);
-            platformIcon.setIconColor(Color.WHITE);
+            appliedPlatform = game.getPlatform();
         }
 
-        // Set status checkmark
-        if (statusCheckmark != null) {
+        // Set status checkmark and missing style
+        if (appliedStatus != game.getStatus()) {
             boolean isReady = game.getStatus() == Game.Status.READY;
             statusCheckmark.setVisible(isReady);
             statusCheckmark.setManaged(isReady);
-            if (isReady) {
-                statusCheckmark.setIconCode(FontAwesomeSolid.CHECK_CIRCLE);
-                statusCheckmark.setIconSize(18);
-                statusCheckmark.setIconColor(Color.web("#22c55e"));
-            }
+            updateMissingStyle();
+            appliedStatus = game.getStatus();
+        }
+
+        // Load cover image (placeholders are generated from the title)
+        String coverUrl = game.getCoverImageUrl();
+        if (!coverApplied || !Objects.equals(appliedCoverUrl, coverUrl) || (titleChanged && !hasCoverUrl())) {
+            clearFallback();
+            coverImage.setImage(null);
+            appliedCoverUrl = coverUrl;
+            coverApplied = true;
+            loadCoverImage();
         }
+    }
 
-        // Load cover image
-        loadCoverImage();
+    private boolean hasCoverUrl() {
+        String coverUrl = game.getCoverImageUrl();
+        return coverUrl != null && !coverUrl.isEmpty() && !coverUrl.startsWith("/assets/");
     }
 
-    private void loadCoverImage() {
-        if (coverImage == null) return;
+    private void clearFallback() {
+        setStyle(null);
+        if (fallbackLabel != null) {
+            getChildren().remove(fallbackLabel);
+        }
+    }
 
+    private void loadCoverImage() {
+        int loadId = ++coverLoadId;
         String coverUrl = game.getCoverImageUrl();
-        if (coverUrl != null && !coverUrl.isEmpty() && !coverUrl.startsWith("/assets/")) {
+        if (hasCoverUrl()) {
             try {
                 Image image = new Image(coverUrl, CARD_WIDTH * 2, CARD_HEIGHT * 2, true, true, true);
 
                 image.errorProperty().addListener((obs, wasError, isError) -> {
-                    if (isError) {
+                    // Card may have been recycled for another game in the meantime
+                    if (isError && coverLoadId == loadId) {
                         loadPlaceholderImage();
                     }
                 });
@@ -165,6 +253,7 @@ public class GameCard extends StackPane {
     }
 
     private void loadPlaceholderImage() {
+        int loadId = coverLoadId;
         String gameTitle = game.getTitle() != null ? game.getTitle() : "Game";
         int width = (int) (CARD_WIDTH * 2);
         int height = (int) (CARD_HEIGHT * 2);
@@ -174,13 +263,13 @@ public class GameCard extends StackPane {
             Image placeholderImage = new Image(placeholderUrl, width, height, true, true, true);
 
             placeholderImage.progressProperty().addListener((obs, oldVal, newVal) -> {
-                if (newVal.doubleValue() >= 1.0 && !placeholderImage.isError()) {
+                if (newVal.doubleValue() >= 1.0 && !placeholderImage.isError() && coverLoadId == loadId) {
                     coverImage.setImage(placeholderImage);
                 }
             });
 
             placeholderImage.errorProperty().addListener((obs, wasError, isError) -> {
-                if (isError) {
+                if (isError && coverLoadId == loadId) {
                     showLocalFallback(gameTitle);
                 }
             });
@@ -198,36 +287,31 @@ public class GameCard extends StackPane {
     private void showLocalFallback(String gameTitle) {
         setStyle("-fx-background-color: linear-gradient(to bottom, #4f46e5, #1f2937);");
 
-        boolean hasLabel = getChildren().stream()
-                .anyMatch(n -> n instanceof Label && "placeholder-title".equals(n.getId()));
-
-        if (!hasLabel) {
-            Label fallbackLabel = new Label(gameTitle);
+        if (fallbackLabel == null) {
+            fallbackLabel = new Label();
             fallbackLabel.setId("placeholder-title");
             fallbackLabel.setStyle("-fx-text-fill: white; -fx-font-size: 14px; -fx-font-weight: bold; " +
                     "-fx-wrap-text: true; -fx-text-alignment: center; -fx-padding: 16;");
             fallbackLabel.setMaxWidth(CARD_WIDTH - 20);
             fallbackLabel.setWrapText(true);
-            StackPane.setAlignment(fallbackLabel, javafx.geometry.Pos.CENTER);
+            StackPane.setAlignment(fallbackLabel, Pos.CENTER);
+        }
+        fallbackLabel.setText(gameTitle);
+
+        if (!getChildren().contains(fallbackLabel)) {
             getChildren().add(1, fallbackLabel);
         }
     }
 
     private void setupInteractions() {
-        // Hover effects - just scale, no overlay
+        // Hover effects - just scale, no overlay. The transition is reused for every hover.
         setOnMouseEntered(e -> {
-            ScaleTransition scale = new ScaleTransition(Duration.millis(200), this);
-            scale.setToX(1.03);
-            scale.setToY(1.03);
-            scale.play();
+            playHoverTransition(HOVER_SCALE);
             getStyleClass().add("game-card-hover");
         });
 
         setOnMouseExited(e -> {
-            ScaleTransition scale = new ScaleTransition(Duration.millis(200), this);
-            scale.setToX(1.0);
-            scale.setToY(1.0);
-            scale.play();
+            playHoverTransition(1.0);
             getStyleClass().remove("game-card-hover");
         });
 
@@ -239,71 +323,11 @@ public class GameCard extends StackPane {
         });
     }
 
-    /**
-     * Creates a fallback layout if FXML loading fails.
-     */
-    private void createFallbackLayout() {
-        setPrefSize(CARD_WIDTH, CARD_HEIGHT);
-        setMinSize(CARD_WIDTH, CARD_HEIGHT);
-        setMaxSize(CARD_WIDTH, CARD_HEIGHT);
-        getStyleClass().add("game-card");
-
-        // Create cover image with darkening effect
-        coverImage = new ImageView();
-        coverImage.setFitWidth(CARD_WIDTH);
-        coverImage.setFitHeight(CARD_HEIGHT);
-        coverImage.setPreserveRatio(false);
-        coverImage.setEffect(darkenEffect);
-        getChildren().add(coverImage);
-
-        // Create info section with title and icons
-        javafx.scene.layout.VBox infoSection = new javafx.scene.layout.VBox(6);
-        infoSection.setAlignment(javafx.geometry.Pos.BOTTOM_LEFT);
-        infoSection.setPadding(new javafx.geometry.Insets(0, 10, 10, 10));
-        infoSection.setPickOnBounds(false);
-
-        // Title
-        titleLabel = new Label(game.getTitle());
-        titleLabel.getStyleClass().add("game-card-title");
-        titleLabel.setMaxWidth(CARD_WIDTH - 20);
-        titleLabel.setWrapText(true);
-
-        // Bottom row with platform icon and checkmark
-        HBox bottomRow = new HBox();
-        bottomRow.setAlignment(javafx.geometry.Pos.CENTER_LEFT);
-
-        // Platform icon
-        platformIcon = new FontIcon();
-        platformIcon.setIconSize(18);
-        platformIcon.setIconColor(Color.WHITE);
-        platformIcon.getStyleClass().add("platform-icon");
-
-        switch (game.getPlatform()) {
-            case STEAM -> platformIcon.setIconCode(FontAwesomeBrands.STEAM);
-            case EPIC -> platformIcon.setIconCode(MaterialDesignG.GAMEPAD_SQUARE);
-            default -> platformIcon.setIconCode(MaterialDesignF.FOLDER);
-        }
-
-        platformBadge = new HBox();
-        platformBadge.setAlignment(javafx.geometry.Pos.CENTER_LEFT);
-        platformBadge.getChildren().add(platformIcon);
-
-        javafx.scene.layout.Region spacer = new javafx.scene.layout.Region();
-        HBox.setHgrow(spacer, javafx.scene.layout.Priority.ALWAYS);
-
-        bottomRow.getChildren().addAll(platformBadge, spacer);
-
-        // Status checkmark
-        if (game.getStatus() == Game.Status.READY) {
-            statusCheckmark = FontIcon.of(FontAwesomeSolid.CHECK_CIRCLE, 18);
-            statusCheckmark.setIconColor(Color.web("#22c55e"));
-            statusCheckmark.getStyleClass().add("status-checkmark");
-            bottomRow.getChildren().add(statusCheckmark);
-        }
-
-        infoSection.getChildren().addAll(titleLabel, bottomRow);
-        StackPane.setAlignment(infoSection, javafx.geometry.Pos.BOTTOM_LEFT);
-        getChildren().add(infoSection);
+    private void playHoverTransition(double scale) {
+        hoverTransition.stop();
+        hoverTransition.setToX(scale);
+        hoverTransition.setToY(scale);
+        hoverTransition.playFromStart();
     }
 
     // Public API methods
@@ -319,4 +343,3 @@ public class GameCard extends StackPane {
         return game;
     }
 }
-
@@ -0,0 +1,73 @@
+package com.nexus.component;
+
+import com.nexus.model.Game;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+
+/**
+ * Pool of reusable GameCard nodes.
+ * Released cards keep their nodes, clip and hover transition and are rebound to
+ * another game on the next {@link #acquire(Game)}, so scrolling or refreshing a
+ * grid does not allocate new cards once the pool is warm.
+ */
+public class GameCardPool {
+
+    private final Deque<GameCard> freeCards = new ArrayDeque<>();
+    private final Consumer<GameCard> onCreate;
+    private int createdCount;
+
+    /**
+     * @param onCreate Called once for every newly created card (e.g. to attach handlers
+     *                 or add it to a parent). May be null.
+     */
+    public GameCardPool(Consumer<GameCard> onCreate) {
+        this.onCreate = onCreate;
+    }
+
+    public GameCardPool() {
+        this(null);
+    }
+
+    /**
+     * Returns a card bound to the given game, reusing a released card when available.
+     */
+    public GameCard acquire(Game game) {
+        GameCard card = freeCards.poll();
+        if (card != null) {
+            card.rebind(game);
+            return card;
+        }
+
+        card = new GameCard(game);
+        createdCount++;
+        if (onCreate != null) {
+            onCreate.accept(card);
+        }
+        return card;
+    }
+
+    /**
+     * Returns a card to the pool so it can be rebound later.
+     */
+    public void release(GameCard card) {
+        if (card != null) {
+            freeCards.push(card);
+        }
+    }
+
+    /**
+     * Number of cards waiting in the pool.
+     */
+    public int getFreeCount() {
+        return freeCards.size();
+    }
+
+    /**
+     * Total number of cards this pool has ever created.
+     */
+    public int getCreatedCount() {
+        return createdCount;
+    }
+}
@@ -0,0 +1,272 @@
+package com.nexus.component;
+
+import com.nexus.model.Game;
+import javafx.geometry.Orientation;
+import javafx.scene.Node;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import javafx.scene.shape.Rectangle;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Virtualized grid of game cards.
+ * Only the rows inside the viewport (plus a small overscan) get a GameCard node.
+ * Cards that scroll out of view are recycled by rebinding them to another game,
+ * so the node count stays constant no matter how large the library is.
+ *
+ * Cards are keyed by {@link Game#getUniqueId()}: when the game list changes, a game
+ * that is still visible keeps its card (moved to its new cell and updated in place),
+ * and only games that appeared or disappeared cost a rebind or release.
+ */
+public class VirtualGameGrid extends Region {
+
+    private static final double CELL_WIDTH = 180;
+    private static final double CELL_HEIGHT = 240;
+    private static final double H_GAP = 24;
+    private static final double V_GAP = 24;
+    private static final double PADDING = 32;
+    private static final int OVERSCAN_ROWS = 1;
+    private static final double SCROLL_MULTIPLIER = 3.0;
+
+    private final Pane viewport = new Pane();
+    private final Rectangle viewportClip = new Rectangle();
+    private final ScrollBar scrollBar = new ScrollBar();
+
+    // Cards currently bound to a visible cell, keyed by Game.identityKey
+    private Map<String, GameCard> activeCards = new HashMap<>();
+    // Scratch map swapped with activeCards on every layout pass to avoid allocations
+    private Map<String, GameCard> retainedCards = new HashMap<>();
+    // Cards that are not bound to a visible cell and can be rebound
+    private final GameCardPool cardPool = new GameCardPool(this::initializeCard);
+
+    private List<Game> games = List.of();
+    private Node trailingNode;
+    private Consumer<Game> onCardClick;
+    private Consumer<Game> onPlayClick;
+
+    public VirtualGameGrid() {
+        getStyleClass().add("virtual-game-grid");
+
+        viewport.setClip(viewportClip);
+        viewport.setManaged(false);
+
+        scrollBar.setOrientation(Orientation.VERTICAL);
+        scrollBar.setManaged(false);
+        scrollBar.setMin(0);
+        scrollBar.setUnitIncrement((CELL_HEIGHT + V_GAP) / 2);
+        scrollBar.valueProperty().addListener((obs, oldVal, newVal) -> requestLayout());
+
+        getChildren().addAll(viewport, scrollBar);
+
+        setOnScroll(e -> {
+            double target = scrollBar.getValue() - e.getDeltaY() * SCROLL_MULTIPLIER;
+            scrollBar.setValue(clamp(target, 0, scrollBar.getMax()));
+            e.consume();
+        });
+    }
+
+    /**
+     * Replaces the games shown in the grid.
+     * Reconciliation happens on the next layout pass: cards of games that are still
+     * visible are kept and updated in place, the rest are released or rebound.
+     */
+    public void setGames(List<Game> games) {
+        this.games = games != null ? new ArrayList<>(games) : List.of();
+        requestLayout();
+    }
+
+    public List<Game> getGames() {
+        return games;
+    }
+
+    /**
+     * Sets a node that is laid out as an extra cell after the last game
+     * (e.g. the "Add Game" placeholder card).
+     */
+    public void setTrailingNode(Node node) {
+        if (trailingNode != null) {
+            viewport.getChildren().remove(trailingNode);
+        }
+        trailingNode = node;
+        if (node != null) {
+            node.setManaged(false);
+            viewport.getChildren().add(node);
+        }
+        requestLayout();
+    }
+
+    public void setOnCardClick(Consumer<Game> handler) {
+        this.onCardClick = handler;
+    }
+
+    public void setOnPlayClick(Consumer<Game> handler) {
+        this.onPlayClick = handler;
+    }
+
+    /**
+     * Scrolls back to the first row.
+     */
+    public void scrollToTop() {
+        scrollBar.setValue(0);
+    }
+
+    @Override
+    protected void layoutChildren() {
+        double width = getWidth();
+        double height = getHeight();
+        double barWidth = scrollBar.prefWidth(-1);
+        double contentWidth = Math.max(0, width - barWidth);
+
+        int columns = computeColumns(contentWidth);
+        int itemCount = games.size();
+        int cellCount = itemCount + (trailingNode != null ? 1 : 0);
+        int rows = (cellCount + columns - 1) / columns;
+        double rowHeight = CELL_HEIGHT + V_GAP;
+        double contentHeight = rows == 0 ? 0 : PADDING * 2 + rows * CELL_HEIGHT + (rows - 1) * V_GAP;
+
+        // Update scroll range
+        double maxScroll = Math.max(0, contentHeight - height);
+        scrollBar.setMax(maxScroll);
+        scrollBar.setVisibleAmount(contentHeight > 0 ? maxScroll * height / contentHeight : 0);
+        scrollBar.setBlockIncrement(Math.max(rowHeight, height - rowHeight));
+        scrollBar.setVisible(maxScroll > 0);
+        if (scrollBar.getValue() > maxScroll) {
+            scrollBar.setValue(maxScroll);
+        }
+        scrollBar.resizeRelocate(width - barWidth, 0, barWidth, height);
+
+        viewport.resizeRelocate(0, 0, contentWidth, height);
+        viewportClip.setWidth(contentWidth);
+        viewportClip.setHeight(height);
+
+        double offset = scrollBar.getValue();
+
+        // Visible row range plus overscan
+        int firstRow = Math.max(0, (int) Math.floor((offset - PADDING) / rowHeight) - OVERSCAN_ROWS);
+        int lastRow = Math.min(rows - 1, (int) Math.floor((offset + height - PADDING) / rowHeight) + OVERSCAN_ROWS);
+        int firstIndex = firstRow * columns;
+        int lastIndex = Math.min(cellCount - 1, (lastRow + 1) * columns - 1);
+
+        int lastItemIndex = Math.min(lastIndex, itemCount - 1);
+
+        // Keep the cards of games that are still in range, updating changed fields in place
+        for (int i = firstIndex; i <= lastItemIndex; i++) {
+            Game game = games.get(i);
+            String key = Game.identityKey(game);
+            GameCard card = activeCards.remove(key);
+            if (card != null) {
+                card.update(game);
+                retainedCards.put(key, card);
+            }
+        }
+
+        // Whatever is left scrolled out of range or was removed from the list
+        for (GameCard card : activeCards.values()) {
+            release(card);
+        }
+        activeCards.clear();
+        Map<String, GameCard> swap = activeCards;
+        activeCards = retainedCards;
+        retainedCards = swap;
+
+        // Center the grid horizontally like the previous FlowPane layout
+        double rowWidth = columns * CELL_WIDTH + (columns - 1) * H_GAP;
+        double left = Math.max(PADDING, (contentWidth - rowWidth) / 2);
+
+        boolean trailingVisible = false;
+        for (int i = firstIndex; i <= lastIndex; i++) {
+            Node node;
+            if (i < itemCount) {
+                Game game = games.get(i);
+                String key = Game.identityKey(game);
+                GameCard card = activeCards.get(key);
+                if (card == null) {
+                    card = acquire(game);
+                    activeCards.put(key, card);
+                }
+                node = card;
+            } else {
+                node = trailingNode;
+                trailingVisible = true;
+            }
+
+            int row = i / columns;
+            int col = i % columns;
+            double x = left + col * (CELL_WIDTH + H_GAP);
+            double y = PADDING + row * rowHeight - offset;
+            node.resizeRelocate(x, y, CELL_WIDTH, CELL_HEIGHT);
+        }
+
+        if (trailingNode != null) {
+            trailingNode.setVisible(trailingVisible);
+        }
+    }
+
+    private int computeColumns(double contentWidth) {
+        double available = contentWidth - PADDING * 2 + H_GAP;
+        return Math.max(1, (int) Math.floor(available / (CELL_WIDTH + H_GAP)));
+    }
+
+    /**
+     * Takes a recycled card from the pool (or creates one) bound to the given game.
+     */
+    private GameCard acquire(Game game) {
+        GameCard card = cardPool.acquire(game);
+        card.setVisible(true);
+        return card;
+    }
+
+    /**
+     * One-time setup for cards created by the pool. Handlers look up the bound game
+     * at click time because the card may be rebound many times.
+     */
+    private void initializeCard(GameCard card) {
+        card.setManaged(false);
+        card.setOnCardClick(() -> {
+            if (onCardClick != null) onCardClick.accept(card.getGame());
+        });
+        card.setOnPlayClick(() -> {
+            if (onPlayClick != null) onPlayClick.accept(card.getGame());
+        });
+        viewport.getChildren().add(card);
+    }
+
+    /**
+     * Hides a card and keeps it in the scene graph for reuse,
+     * which avoids re-applying CSS when it is rebound.
+     */
+    private void release(GameCard card) {
+        card.setVisible(false);
+        cardPool.release(card);
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    @Override
+    protected double computeMinWidth(double height) {
+        return CELL_WIDTH + PADDING * 2;
+    }
+
+    @Override
+    protected double computeMinHeight(double width) {
+        return 0;
+    }
+
+    @Override
+    protected double computePrefWidth(double height) {
+        return CELL_WIDTH * 4 + H_GAP * 3 + PADDING * 2;
+    }
+
+    @Override
+    protected double computePrefHeight(double width) {
+        return CELL_HEIGHT + PADDING * 2;
+    }
+}
@@ -1,6 +1,6 @@
 package com.nexus.controller;
 
-import com.nexus.service.GameService;
+import com.nexus.service.LibraryStore;
 import com.nexus.model.Game;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
@@ -34,7 +34,7 @@ public class EditGameDialogController implements Initializable {
     private Game currentGame;
     private Consumer<Game> onGameUpdated;
     private Runnable onGameDeleted;
-    private final GameService gameService = GameService.getInstance();
+    private final LibraryStore libraryStore = LibraryStore.getInstance();
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
@@ -153,8 +153,8 @@ public class EditGameDialogController implements Initializable {
             default -> currentGame.setPlatform(Game.Platform.MANUAL);
         }
 
-        // Save to database
-        gameService.saveGame(currentGame);
+        // Save to database (the library store notifies the open views)
+        currentGame = libraryStore.save(currentGame);
 
         // Callback
         if (onGameUpdated != null) {
@@ -187,7 +187,7 @@ public class EditGameDialogController implements Initializable {
         alert.showAndWait().ifPresent(response -> {
             if (response == ButtonType.OK) {
                 // Delete from database
-                gameService.deleteGame(currentGame);
+                libraryStore.delete(currentGame);
 
                 System.out.println("[DELETE GAME] Deleted: " + currentGame.getTitle());
 
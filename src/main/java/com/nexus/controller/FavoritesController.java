@@ -1,20 +1,20 @@
 package com.nexus.controller;
 
-import com.nexus.component.GameCard;
+import com.nexus.component.VirtualGameGrid;
 import com.nexus.service.GameLauncher;
-import com.nexus.service.GameService;
+import com.nexus.service.LibraryStore;
 import com.nexus.model.Game;
 import javafx.application.Platform;
 import javafx.concurrent.Task;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.Label;
-import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.VBox;
 
 import java.net.URL;
 import java.util.List;
 import java.util.ResourceBundle;
+import java.util.function.Consumer;
 
 /**
  * Controller for the Favorites view.
@@ -23,15 +23,29 @@ public class FavoritesController implements Initializable {
 
     @FXML private VBox rootContainer;
     @FXML private Label gameCountLabel;
-    @FXML private FlowPane favoritesGrid;
+    @FXML private VirtualGameGrid favoritesGrid;
     @FXML private VBox emptyState;
 
     private MainController mainController;
-    private final GameService gameService = GameService.getInstance();
+    private final LibraryStore libraryStore = LibraryStore.getInstance();
     private final GameLauncher gameLauncher = new GameLauncher();
+    private final Consumer<LibraryStore.Change> libraryListener = change -> showCurrentFavorites();
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
+        favoritesGrid.setOnCardClick(this::openGameDetails);
+        favoritesGrid.setOnPlayClick(this::launchGame);
+
+        // Follow library changes only while the view is on screen
+        rootContainer.sceneProperty().addListener((obs, oldScene, newScene) -> {
+            if (newScene != null) {
+                libraryStore.addListener(libraryListener);
+                showCurrentFavorites();
+            } else {
+                libraryStore.removeListener(libraryListener);
+            }
+        });
+
         loadFavorites();
     }
 
@@ -39,11 +53,21 @@ public class FavoritesController implements Initializable {
         this.mainController = mainController;
     }
 
+    /**
+     * Shows favorites from the library store; the store is loaded in the background
+     * only if no other view has loaded it yet.
+     */
     private void loadFavorites() {
+        if (libraryStore.isLoaded()) {
+            showCurrentFavorites();
+            return;
+        }
+
         Task<List<Game>> loadTask = new Task<>() {
             @Override
             protected List<Game> call() {
-                return gameService.getFavoriteGames();
+                libraryStore.load();
+                return libraryStore.getFavorites();
             }
         };
 
@@ -67,6 +91,16 @@ public class FavoritesController implements Initializable {
         thread.start();
     }
 
+    private void showCurrentFavorites() {
+        if (!libraryStore.isLoaded()) return;
+        List<Game> favorites = libraryStore.getFavorites();
+        if (favorites.isEmpty()) {
+            showEmptyState();
+        } else {
+            showFavorites(favorites);
+        }
+    }
+
     private void showEmptyState() {
         favoritesGrid.setVisible(false);
         favoritesGrid.setManaged(false);
@@ -81,14 +115,7 @@ public class FavoritesController implements Initializable {
         favoritesGrid.setVisible(true);
         favoritesGrid.setManaged(true);
 
-        favoritesGrid.getChildren().clear();
-
-        for (Game game : favorites) {
-            GameCard card = new GameCard(game);
-            card.setOnCardClick(() -> openGameDetails(game));
-            card.setOnPlayClick(() -> launchGame(game));
-            favoritesGrid.getChildren().add(card);
-        }
+        favoritesGrid.setGames(favorites);
 
         gameCountLabel.setText(favorites.size() + " GAMES");
     }
@@ -2,11 +2,13 @@ package com.nexus.controller;
 
 import com.nexus.NexusLauncherApp;
 import com.nexus.service.GameLauncher;
-import com.nexus.service.GameService;
+import com.nexus.service.LibraryStore;
+import com.nexus.util.GameTagUtil;
 import com.nexus.util.PlaceholderImageUtil;
 import com.nexus.model.Game;
 import javafx.application.Platform;
 import javafx.concurrent.Task;
+import javafx.concurrent.WorkerStateEvent;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.fxml.Initializable;
@@ -32,6 +34,7 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.ResourceBundle;
+import java.util.function.Consumer;
 
 /**
  * Controller for the Game Details view.
@@ -76,8 +79,12 @@ public class GameDetailsController implements Initializable {
 
     private MainController mainController;
     private Game currentGame;
+    /** Details load in flight, shared by everything that needs the full entity of that game. */
+    private Task<Void> detailsTask;
+    private Game detailsGame;
     private final GameLauncher gameLauncher = new GameLauncher();
-    private final GameService gameService = GameService.getInstance();
+    private final LibraryStore libraryStore = LibraryStore.getInstance();
+    private final Consumer<LibraryStore.Change> libraryListener = this::onLibraryChanged;
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
@@ -86,6 +93,28 @@ public class GameDetailsController implements Initializable {
 
         // Create settings context menu
         createSettingsContextMenu();
+
+        // Follow changes to the shown game only while the view is on screen
+        rootScrollPane.sceneProperty().addListener((obs, oldScene, newScene) -> {
+            if (newScene != null) {
+                libraryStore.addListener(libraryListener);
+            } else {
+                libraryStore.removeListener(libraryListener);
+            }
+        });
+    }
+
+    /**
+     * Refreshes the view when the shown game was updated elsewhere (edit dialog, scan).
+     */
+    private void onLibraryChanged(LibraryStore.Change change) {
+        if (change.getType() == LibraryStore.ChangeType.UPDATED && change.affects(currentGame)) {
+            Game latest = libraryStore.find(currentGame);
+            if (latest != null) {
+                currentGame = latest;
+                populateView();
+            }
+        }
     }
 
     /**
@@ -173,9 +202,55 @@ public class GameDetailsController implements Initializable {
         this.mainController = mainController;
     }
 
+    /**
+     * Shows a game. The view is cached and reused, so this also resets state left over
+     * from the previously shown game.
+     */
     public void setGame(Game game) {
+        boolean sameGame = currentGame == game;
         this.currentGame = game;
+        if (!sameGame) {
+            settingsContextMenu.hide();
+            coverImage.setImage(null);
+            rootScrollPane.setVvalue(0);
+        }
         populateView();
+        if (!game.isDetailsLoaded()) {
+            // Fill in the rest of the view once the full entity is loaded
+            withDetails(game, () -> {
+                if (currentGame == game) populateView();
+            });
+        }
+    }
+
+    /**
+     * Runs the action on the FX thread once the full entity behind a library summary is
+     * loaded. Joins the load already in flight for that game rather than reading it again.
+     */
+    private void withDetails(Game game, Runnable action) {
+        if (game.isDetailsLoaded()) {
+            action.run();
+            return;
+        }
+        if (detailsTask == null || detailsGame != game || detailsTask.isDone()) {
+            Task<Void> task = new Task<>() {
+                @Override
+                protected Void call() {
+                    libraryStore.loadDetails(game);
+                    return null;
+                }
+            };
+            task.setOnFailed(e ->
+                    System.err.println("[GameDetailsController] Failed to load details: " + task.getException()));
+            detailsTask = task;
+            detailsGame = game;
+
+            Thread thread = new Thread(task);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        // State events are delivered on the FX thread, so this cannot miss the completion
+        detailsTask.addEventHandler(WorkerStateEvent.WORKER_STATE_SUCCEEDED, e -> action.run());
     }
 
     private void populateView() {
@@ -186,6 +261,7 @@ public class GameDetailsController implements Initializable {
 
         // Set platform badge
         platformBadgeLabel.setText(currentGame.getPlatform().getDisplayName().toUpperCase());
+        platformBadgeLabel.getStyleClass().removeIf(styleClass -> styleClass.startsWith("platform-"));
         platformBadgeLabel.getStyleClass().add("platform-" + currentGame.getPlatform().name().toLowerCase());
 
         // Set status badge
@@ -193,7 +269,9 @@ public class GameDetailsController implements Initializable {
 
         // Set description
         String description = currentGame.getDescription();
-        if (description != null && !description.isEmpty()) {
+        if (!currentGame.isDetailsLoaded()) {
+            descriptionLabel.setText("Loading...");
+        } else if (description != null && !description.isEmpty()) {
             descriptionLabel.setText(description);
         } else {
             descriptionLabel.setText("No description available for this game.");
@@ -224,7 +302,7 @@ public class GameDetailsController implements Initializable {
     private void updateStatusBadge() {
         if (currentGame.getStatus() == Game.Status.READY) {
             statusLabel.setText("Ready");
-            statusBadgeContainer.getStyleClass().removeAll("status-missing");
+            statusBadgeContainer.getStyleClass().removeAll("status-missing", "status-ready");
             statusBadgeContainer.getStyleClass().add("status-ready");
             if (statusIcon != null) {
                 statusIcon.setIconCode(FontAwesomeSolid.CHECK_CIRCLE);
@@ -232,7 +310,7 @@ public class GameDetailsController implements Initializable {
             updatePlayButton(false);
         } else if (currentGame.getStatus() == Game.Status.MISSING) {
             statusLabel.setText("Missing");
-            statusBadgeContainer.getStyleClass().removeAll("status-ready");
+            statusBadgeContainer.getStyleClass().removeAll("status-ready", "status-missing");
             statusBadgeContainer.getStyleClass().add("status-missing");
             if (statusIcon != null) {
                 statusIcon.setIconCode(MaterialDesignF.FOLDER_ALERT);
@@ -250,7 +328,9 @@ public class GameDetailsController implements Initializable {
             if (isMissing) {
                 icon.setIconLiteral("fas-folder-open");
                 label.setText("LOCATE");
-                playButton.getStyleClass().add("locate-mode");
+                if (!playButton.getStyleClass().contains("locate-mode")) {
+                    playButton.getStyleClass().add("locate-mode");
+                }
             } else {
                 icon.setIconLiteral("fas-play");
                 label.setText("PLAY");
@@ -301,17 +381,9 @@ public class GameDetailsController implements Initializable {
         // Add platform as a tag
         addTag(currentGame.getPlatform().getDisplayName());
 
-        // Add some default genre tags based on common patterns
-        // In a real app, these would come from the game metadata
-        String title = currentGame.getTitle().toLowerCase();
-        if (title.contains("rpg") || title.contains("fantasy")) {
-            addTag("RPG");
-        }
-        if (title.contains("action") || title.contains("shooter")) {
-            addTag("Action");
-        }
-        if (title.contains("indie")) {
-            addTag("Indie");
+        // Add genre tags (shared with the library filter chips)
+        for (String tag : GameTagUtil.getTags(currentGame)) {
+            addTag(tag);
         }
 
         // Always add at least one generic tag if empty
@@ -362,14 +434,16 @@ public class GameDetailsController implements Initializable {
     }
 
     private void loadCoverImage() {
+        // The view is reused, so ignore images that finish loading after another game is shown
+        Game boundGame = currentGame;
         if (currentGame.getCoverImageUrl() != null && !currentGame.getCoverImageUrl().isEmpty()) {
             try {
                 Image image = new Image(currentGame.getCoverImageUrl(), 180, 240, false, true, true);
                 image.errorProperty().addListener((obs, wasError, isError) -> {
-                    if (isError) loadPlaceholderCoverImage();
+                    if (isError && currentGame == boundGame) loadPlaceholderCoverImage();
                 });
                 image.progressProperty().addListener((obs, oldProgress, newProgress) -> {
-                    if (newProgress.doubleValue() >= 1.0 && !image.isError()) {
+                    if (newProgress.doubleValue() >= 1.0 && !image.isError() && currentGame == boundGame) {
                         coverImage.setImage(image);
                     }
                 });
@@ -387,12 +461,13 @@ public class GameDetailsController implements Initializable {
     }
 
     private void loadPlaceholderCoverImage() {
+        Game boundGame = currentGame;
         String gameTitle = currentGame.getTitle() != null ? currentGame.getTitle() : "Game";
         String placeholderUrl = PlaceholderImageUtil.getCoverPlaceholder(gameTitle, 360, 480);
         try {
             Image image = new Image(placeholderUrl, 180, 240, false, true, true);
             image.progressProperty().addListener((obs, oldProgress, newProgress) -> {
-                if (newProgress.doubleValue() >= 1.0 && !image.isError()) {
+                if (newProgress.doubleValue() >= 1.0 && !image.isError() && currentGame == boundGame) {
                     coverImage.setImage(image);
                 }
             });
@@ -476,27 +551,16 @@ public class GameDetailsController implements Initializable {
 
     @FXML
     private void onFavoriteClick() {
-        Task<Void> favoriteTask = new Task<>() {
-            @Override
-            protected Void call() {
-                gameService.toggleFavorite(currentGame);
-                return null;
-            }
-        };
+        // Non-blocking (written behind); the shared game and the indexes change on the FX thread
+        libraryStore.toggleFavorite(currentGame);
 
-        favoriteTask.setOnSucceeded(e -> Platform.runLater(() -> {
-            updateFavoriteButton();
-            String message = currentGame.isFavorite()
-                    ? currentGame.getTitle() + " added to favorites"
-                    : currentGame.getTitle() + " removed from favorites";
-            if (mainController != null) {
-                mainController.showToast("Favorites", message);
-            }
-        }));
-
-        Thread thread = new Thread(favoriteTask);
-        thread.setDaemon(true);
-        thread.start();
+        updateFavoriteButton();
+        String message = currentGame.isFavorite()
+                ? currentGame.getTitle() + " added to favorites"
+                : currentGame.getTitle() + " removed from favorites";
+        if (mainController != null) {
+            mainController.showToast("Favorites", message);
+        }
     }
 
     /**
@@ -512,16 +576,22 @@ public class GameDetailsController implements Initializable {
 
         File selectedFile = fileChooser.showOpenDialog(rootScrollPane.getScene().getWindow());
         if (selectedFile != null) {
-            currentGame.setExecutablePath(selectedFile.getAbsolutePath());
-            currentGame.setInstallPath(selectedFile.getParent());
-            currentGame.setStatus(Game.Status.READY);
-
-            gameService.saveGame(currentGame);
-            populateView();
+            Game game = currentGame;
+            withDetails(game, () -> {
+                game.setExecutablePath(selectedFile.getAbsolutePath());
+                game.setInstallPath(selectedFile.getParent());
+                game.setStatus(Game.Status.READY);
+
+                Game saved = libraryStore.save(game);
+                if (currentGame == game) {
+                    currentGame = saved;
+                    populateView();
+                }
 
-            if (mainController != null) {
-                mainController.showToast("Executable Located", "Game is now ready to play!");
-            }
+                if (mainController != null) {
+                    mainController.showToast("Executable Located", "Game is now ready to play!");
+                }
+            });
         }
     }
 
@@ -529,6 +599,14 @@ public class GameDetailsController implements Initializable {
      * Opens the edit game dialog.
      */
     private void openEditDialog() {
+        // The dialog edits every column, so it needs the full entity (usually loaded already)
+        Game game = currentGame;
+        withDetails(game, () -> {
+            if (currentGame == game) showEditDialog();
+        });
+    }
+
+    private void showEditDialog() {
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/nexus/views/EditGameDialog.fxml"));
             VBox dialogContent = loader.load();
@@ -595,7 +673,7 @@ public class GameDetailsController implements Initializable {
         Task<Void> deleteTask = new Task<>() {
             @Override
             protected Void call() {
-                gameService.deleteGame(currentGame);
+                libraryStore.delete(currentGame);
                 return null;
             }
         };
@@ -646,7 +724,7 @@ public class GameDetailsController implements Initializable {
         Task<Void> ignoreTask = new Task<>() {
             @Override
             protected Void call() {
-                gameService.ignoreGame(currentGame);
+                libraryStore.ignore(currentGame);
                 return null;
             }
         };
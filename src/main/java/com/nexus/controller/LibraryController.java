@@ -1,36 +1,51 @@
 package com.nexus.controller;
 
 import com.nexus.NexusLauncherApp;
-import com.nexus.component.GameCard;
+import com.nexus.StartupOrchestrator;
+import com.nexus.component.VirtualGameGrid;
+import com.nexus.service.GameFacetIndex;
 import com.nexus.service.GameLauncher;
 import com.nexus.service.GameService;
+import com.nexus.service.LibraryReconcileTask;
+import com.nexus.service.LibraryStore;
 import com.nexus.service.ScannerService;
 import com.nexus.model.Game;
-import com.nexus.util.HibernateUtil;
+import javafx.animation.PauseTransition;
 import javafx.application.Platform;
 import javafx.concurrent.Task;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.fxml.Initializable;
+import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
-import javafx.scene.layout.FlowPane;
+import javafx.scene.control.ToggleButton;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 import org.kordamp.ikonli.fontawesome5.FontAwesomeSolid;
 import org.kordamp.ikonli.javafx.FontIcon;
 
 import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 
 /**
  * Controller for the Library view displaying game cards.
@@ -43,7 +58,8 @@ public class LibraryController implements Initializable {
     @FXML private Button scanButton;
     @FXML private FontIcon scanButtonIcon;
     @FXML private Label gameCountLabel;
-    @FXML private FlowPane gamesGrid;
+    @FXML private VirtualGameGrid gamesGrid;
+    @FXML private HBox filterChipsBar;
 
     // Non-blocking scan status UI
     @FXML private HBox scanStatusContainer;
@@ -52,37 +68,73 @@ public class LibraryController implements Initializable {
 
     private MainController mainController;
     private final GameService gameService = GameService.getInstance();
+    private final LibraryStore libraryStore = LibraryStore.getInstance();
     private final GameLauncher gameLauncher = new GameLauncher();
 
     private Task<?> currentScanTask;
+    private LibraryReconcileTask currentReconcileTask;
     private boolean isScanning = false;
 
-    // Cache of currently displayed games to avoid unnecessary re-renders
-    private List<Game> cachedGames = null;
+    // Search: keystrokes are debounced, run one at a time, and superseded queries are dropped
+    private static final Duration SEARCH_DEBOUNCE = Duration.millis(150);
+    private static final ExecutorService SEARCH_EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "library-search");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final PauseTransition searchDebounce = new PauseTransition(SEARCH_DEBOUNCE);
+    private Task<GameFacetIndex.Result> currentSearchTask;
+    private long searchGeneration;
+
+    // Facet filter state and the chips that toggle it
+    private final Set<Game.Platform> selectedPlatforms = EnumSet.noneOf(Game.Platform.class);
+    private final Set<Game.Status> selectedStatuses = EnumSet.noneOf(Game.Status.class);
+    private final Set<String> selectedTags = new TreeSet<>();
+    private boolean favoritesOnly = false;
+    private ToggleButton favoritesChip;
+    private final Map<Game.Platform, ToggleButton> platformChips = new EnumMap<>(Game.Platform.class);
+    private final Map<Game.Status, ToggleButton> statusChips = new EnumMap<>(Game.Status.class);
+    private final Map<String, ToggleButton> tagChips = new LinkedHashMap<>();
+    private Button clearFiltersButton;
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
-        // Setup search listener
+        // Setup virtualized grid: cards are recycled, so handlers receive the bound game
+        gamesGrid.setOnCardClick(this::openGameDetails);
+        gamesGrid.setOnPlayClick(this::launchGame);
+        gamesGrid.setTrailingNode(createAddGamePlaceholder());
+
+        // Setup search listener and filter chips
         setupSearchListener();
+        setupFilterChips();
+
+        // The store publishes every library change (scan, edit, favorite, delete); re-filter in memory
+        libraryStore.addListener(change -> filterGames(searchField.getText()));
 
-        // Initialize database and load existing games IMMEDIATELY
-        initializeDatabaseAndLoad();
+        // The startup snapshot may have been published before this listener existed
+        if (!libraryStore.getGames().isEmpty()) {
+            filterGames(searchField.getText());
+        }
+
+        // Load existing games as soon as the database is ready
+        loadWhenDatabaseReady();
     }
 
     /**
-     * Initializes the database and loads games instantly from DB.
+     * Loads games from the database once the startup orchestrator has opened it.
      * Background scan runs AFTER UI is ready and non-blocking.
      */
-    private void initializeDatabaseAndLoad() {
-        Task<Void> initTask = new Task<>() {
-            @Override
-            protected Void call() {
-                HibernateUtil.initialize();
-                return null;
+    private void loadWhenDatabaseReady() {
+        StartupOrchestrator.getInstance().database().whenComplete((ignored, error) -> {
+            if (error != null) {
+                System.err.println("[LibraryController] Database initialization failed: " + error);
+                Platform.runLater(() -> {
+                    displayGames(new java.util.ArrayList<>());
+                    updateGameCount(0);
+                });
+                return;
             }
-        };
 
-        initTask.setOnSucceeded(e -> {
             // IMMEDIATELY load existing games from DB - user can interact right away
             loadGamesFromDatabase();
 
@@ -94,18 +146,6 @@ public class LibraryController implements Initializable {
                 delay.play();
             });
         });
-
-        initTask.setOnFailed(e -> {
-            System.err.println("[LibraryController] Database initialization failed: " + initTask.getException());
-            Platform.runLater(() -> {
-                displayGames(new java.util.ArrayList<>());
-                updateGameCount(0);
-            });
-        });
-
-        Thread thread = new Thread(initTask);
-        thread.setDaemon(true);
-        thread.start();
     }
 
     /**
@@ -132,16 +172,21 @@ public class LibraryController implements Initializable {
 
                 updateMessage("Scanning for changes...");
 
-                // Get current games from DB
-                List<Game> existingGames = gameService.getAllGames();
-                int existingCount = existingGames.size();
+                // Current library size (in memory once the store is loaded)
+                libraryStore.load();
+                int existingCount = libraryStore.getGames().size();
 
                 // Perform scan (this merges with DB internally)
-                List<Game> scannedGames = scannerService.scanAll();
+                scannerService.scanAll();
+
+                // The scan only returns detected games; manual and undetected ones stay in
+                // the library, so hand the store the whole library and let it publish the differences
+                List<Game> libraryGames = gameService.getLibraryGames();
+                libraryStore.replaceAll(libraryGames);
 
-                int newGamesFound = scannedGames.size() - existingCount;
+                int newGamesFound = libraryGames.size() - existingCount;
 
-                return new ScanResult(scannedGames, newGamesFound);
+                return new ScanResult(libraryGames, newGamesFound);
             }
         };
 
@@ -159,9 +204,7 @@ public class LibraryController implements Initializable {
                 showScanStatus(false, null);
                 updateScanButtonState(false);
 
-                // Always refresh display after manual scan
-                displayGames(result.games);
-                updateGameCount(result.games.size());
+                // The grid refreshes itself from the store's change events
 
                 if (mainController != null) {
                     if (result.newGamesFound > 0) {
@@ -176,6 +219,7 @@ public class LibraryController implements Initializable {
                 }
 
                 isScanning = false;
+                runLibraryReconcile();
             });
         });
 
@@ -185,6 +229,7 @@ public class LibraryController implements Initializable {
                 updateScanButtonState(false);
                 isScanning = false;
                 System.err.println("[LibraryController] Background scan failed: " + scanTask.getException());
+                runLibraryReconcile();
             })
         );
 
@@ -205,6 +250,34 @@ public class LibraryController implements Initializable {
         scanThread.start();
     }
 
+    /**
+     * Removes duplicates and backfills missing metadata in the background.
+     * Runs after a scan; fetched games reach the grid through the store's change events.
+     */
+    private void runLibraryReconcile() {
+        if (currentReconcileTask != null && currentReconcileTask.isRunning()) {
+            return;
+        }
+
+        LibraryReconcileTask reconcileTask = new LibraryReconcileTask();
+        reconcileTask.messageProperty().addListener((obs, oldMsg, newMsg) -> {
+            if (!isScanning && newMsg != null && newMsg.startsWith("Fetching")) {
+                showScanStatus(true, newMsg);
+            }
+        });
+        reconcileTask.setOnSucceeded(e -> {
+            if (!isScanning) showScanStatus(false, null);
+        });
+        reconcileTask.setOnFailed(e -> {
+            if (!isScanning) showScanStatus(false, null);
+        });
+
+        currentReconcileTask = reconcileTask;
+        Thread thread = new Thread(reconcileTask);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
     /**
      * Handles scan button click - starts or cancels scan.
      */
@@ -282,28 +355,28 @@ public class LibraryController implements Initializable {
     }
 
     private void setupSearchListener() {
+        searchDebounce.setOnFinished(e -> filterGames(searchField.getText()));
         searchField.textProperty().addListener((observable, oldValue, newValue) -> {
-            filterGames(newValue);
+            // Restart the debounce window on every keystroke
+            searchDebounce.playFromStart();
         });
     }
 
     /**
-     * Loads games from the database (fast, instant).
+     * Loads the library store (reads the database only the first time).
      */
     private void loadGamesFromDatabase() {
-        Task<List<Game>> loadTask = new Task<>() {
+        Task<Void> loadTask = new Task<>() {
             @Override
-            protected List<Game> call() {
-                return gameService.getAllGames();
+            protected Void call() {
+                libraryStore.load();
+                return null;
             }
         };
 
         loadTask.setOnSucceeded(e -> {
-            List<Game> games = loadTask.getValue();
-            Platform.runLater(() -> {
-                displayGames(games);
-                updateGameCount(games.size());
-            });
+            // Games are indexed now; apply the current search and filters
+            Platform.runLater(() -> filterGames(searchField.getText()));
         });
 
         loadTask.setOnFailed(e -> {
@@ -322,55 +395,182 @@ public class LibraryController implements Initializable {
         runBackgroundIncrementalScan();
     }
 
+    /**
+     * Clears the search and shows the library again. The store is already up to date,
+     * so this does no I/O.
+     */
     public void refreshGames() {
         searchField.clear();
-        loadGamesFromDatabase();
+        searchDebounce.stop();
+        filterGames("");
     }
 
+    /**
+     * Runs a search against the in-memory indexes and applies the selected filter chips.
+     * A newer query cancels the previous one, and results of a superseded query are
+     * discarded even if it already finished.
+     */
     private void filterGames(String query) {
-        Task<List<Game>> searchTask = new Task<>() {
+        if (currentSearchTask != null) {
+            currentSearchTask.cancel();
+        }
+        long generation = ++searchGeneration;
+        GameFacetIndex.Selection selection = new GameFacetIndex.Selection(
+                selectedPlatforms, selectedStatuses, favoritesOnly, selectedTags);
+
+        Task<GameFacetIndex.Result> searchTask = new Task<>() {
             @Override
-            protected List<Game> call() {
-                return gameService.searchGames(query);
+            protected GameFacetIndex.Result call() {
+                return gameService.filterGames(query, selection);
             }
         };
 
         searchTask.setOnSucceeded(e -> {
-            List<Game> games = searchTask.getValue();
-            Platform.runLater(() -> {
-                displayGames(games);
-                updateGameCount(games.size());
-            });
+            if (generation != searchGeneration) {
+                return;
+            }
+            GameFacetIndex.Result result = searchTask.getValue();
+            // Keep the relevance order of search results; an empty query falls back to A-Z
+            displayGames(result.getGames(), query != null && !query.isBlank());
+            updateGameCount(result.getGames().size());
+            updateFilterChips(result);
+            if (libraryStore.isLoaded()) {
+                StartupOrchestrator.getInstance().mark(StartupOrchestrator.LIBRARY_SHOWN);
+            }
         });
 
-        Thread thread = new Thread(searchTask);
-        thread.setDaemon(true);
-        thread.start();
+        searchTask.setOnFailed(e ->
+            System.err.println("[LibraryController] Search failed: " + searchTask.getException())
+        );
+
+        currentSearchTask = searchTask;
+        SEARCH_EXECUTOR.execute(searchTask);
     }
 
     private void displayGames(List<Game> games) {
-        // Sort games alphabetically by title for consistent ordering
-        List<Game> sortedGames = new ArrayList<>(games);
-        sortedGames.sort((a, b) -> {
-            String titleA = a.getTitle() != null ? a.getTitle().toLowerCase() : "";
-            String titleB = b.getTitle() != null ? b.getTitle().toLowerCase() : "";
-            return titleA.compareTo(titleB);
+        displayGames(games, false);
+    }
+
+    /**
+     * Creates the favorite, platform and status chips. Tag chips are added
+     * as tags show up in the library.
+     */
+    private void setupFilterChips() {
+        favoritesChip = createFilterChip(selected -> favoritesOnly = selected);
+        filterChipsBar.getChildren().add(favoritesChip);
+
+        for (Game.Platform platform : Game.Platform.values()) {
+            ToggleButton chip = createFilterChip(selected -> toggle(selectedPlatforms, platform, selected));
+            platformChips.put(platform, chip);
+            filterChipsBar.getChildren().add(chip);
+        }
+        for (Game.Status status : Game.Status.values()) {
+            ToggleButton chip = createFilterChip(selected -> toggle(selectedStatuses, status, selected));
+            statusChips.put(status, chip);
+            filterChipsBar.getChildren().add(chip);
+        }
+
+        clearFiltersButton = new Button("Clear filters");
+        clearFiltersButton.getStyleClass().add("filter-chip-clear");
+        clearFiltersButton.setOnAction(e -> clearFilters());
+        filterChipsBar.getChildren().add(clearFiltersButton);
+
+        // Hidden until the first result provides counts
+        for (Node chip : filterChipsBar.getChildren()) {
+            chip.setVisible(false);
+            chip.setManaged(false);
+        }
+    }
+
+    private ToggleButton createFilterChip(Consumer<Boolean> onToggle) {
+        ToggleButton chip = new ToggleButton();
+        chip.getStyleClass().add("filter-chip");
+        chip.setFocusTraversable(false);
+        chip.setOnAction(e -> {
+            onToggle.accept(chip.isSelected());
+            // Facet filtering is in-memory, so apply it right away without the search debounce
+            searchDebounce.stop();
+            filterGames(searchField.getText());
         });
+        return chip;
+    }
 
-        // Cache the sorted games
-        this.cachedGames = sortedGames;
+    private static <T> void toggle(Set<T> selection, T value, boolean selected) {
+        if (selected) {
+            selection.add(value);
+        } else {
+            selection.remove(value);
+        }
+    }
 
-        gamesGrid.getChildren().clear();
+    private void clearFilters() {
+        selectedPlatforms.clear();
+        selectedStatuses.clear();
+        selectedTags.clear();
+        favoritesOnly = false;
+        favoritesChip.setSelected(false);
+        platformChips.values().forEach(chip -> chip.setSelected(false));
+        statusChips.values().forEach(chip -> chip.setSelected(false));
+        tagChips.values().forEach(chip -> chip.setSelected(false));
+        searchDebounce.stop();
+        filterGames(searchField.getText());
+    }
 
-        for (Game game : sortedGames) {
-            GameCard card = new GameCard(game);
-            card.setOnCardClick(() -> openGameDetails(game));
-            card.setOnPlayClick(() -> launchGame(game));
-            gamesGrid.getChildren().add(card);
+    /**
+     * Updates chip labels with live counts. Chips with no matching games are hidden
+     * unless they are selected.
+     */
+    private void updateFilterChips(GameFacetIndex.Result result) {
+        updateChip(favoritesChip, "Favorites", result.getFavoriteCount());
+        result.getPlatformCounts().forEach((platform, count) ->
+                updateChip(platformChips.get(platform), platform.getDisplayName(), count));
+        result.getStatusCounts().forEach((status, count) ->
+                updateChip(statusChips.get(status), status.getDisplayName(), count));
+
+        result.getTagCounts().forEach((tag, count) -> {
+            ToggleButton chip = tagChips.get(tag);
+            if (chip == null) {
+                chip = createFilterChip(selected -> toggle(selectedTags, tag, selected));
+                tagChips.put(tag, chip);
+                // Keep the clear button last
+                filterChipsBar.getChildren().add(filterChipsBar.getChildren().indexOf(clearFiltersButton), chip);
+            }
+            updateChip(chip, tag, count);
+        });
+
+        boolean anySelected = favoritesOnly || !selectedPlatforms.isEmpty()
+                || !selectedStatuses.isEmpty() || !selectedTags.isEmpty();
+        clearFiltersButton.setVisible(anySelected);
+        clearFiltersButton.setManaged(anySelected);
+    }
+
+    private void updateChip(ToggleButton chip, String label, int count) {
+        chip.setText(label + " (" + count + ")");
+        boolean visible = count > 0 || chip.isSelected();
+        chip.setVisible(visible);
+        chip.setManaged(visible);
+    }
+
+    /**
+     * @param ranked true when the games are already ordered by search relevance
+     */
+    private void displayGames(List<Game> games, boolean ranked) {
+        // Sort games alphabetically by title for consistent ordering
+        List<Game> sortedGames = new ArrayList<>(games);
+        if (!ranked) {
+            sortedGames.sort((a, b) -> {
+                String titleA = a.getTitle() != null ? a.getTitle().toLowerCase() : "";
+                String titleB = b.getTitle() != null ? b.getTitle().toLowerCase() : "";
+                return titleA.compareTo(titleB);
+            });
         }
 
-        // Add the "Add Game" placeholder card
-        gamesGrid.getChildren().add(createAddGamePlaceholder());
+        // The grid reconciles by uniqueId: existing cards are kept, moved and updated in place.
+        // Only the visible rows get card nodes; the "Add Game" placeholder is the trailing cell
+        gamesGrid.setGames(sortedGames);
+        if (!sortedGames.isEmpty()) {
+            StartupOrchestrator.getInstance().mark(StartupOrchestrator.FIRST_CARDS);
+        }
     }
 
     private StackPane createAddGamePlaceholder() {
@@ -464,10 +664,7 @@ public class LibraryController implements Initializable {
 
             dialogStage.setScene(scene);
             dialogController.setDialogStage(dialogStage);
-            dialogController.setOnGameAdded(game -> {
-                gameService.saveGame(game);
-                loadGamesFromDatabase();
-            });
+            dialogController.setOnGameAdded(libraryStore::save);
 
             dialogStage.showAndWait();
         } catch (IOException e) {
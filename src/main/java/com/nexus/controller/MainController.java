@@ -1,6 +1,7 @@
 package com.nexus.controller;
 
 import com.nexus.model.Game;
+import javafx.animation.PauseTransition;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.fxml.Initializable;
@@ -8,13 +9,21 @@ import javafx.scene.Node;
 import javafx.scene.control.Button;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.VBox;
+import javafx.util.Duration;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.ResourceBundle;
 
 /**
  * Main controller handling the shell layout and navigation.
+ * Views are loaded once and cached; switching tabs only swaps the center node.
+ * Views the user is likely to open next are preloaded while the app is idle.
  */
 public class MainController implements Initializable {
 
@@ -24,14 +33,94 @@ public class MainController implements Initializable {
     @FXML private Button navFavorites;
     @FXML private Button navSettings;
 
+    private static final String FAVORITES_VIEW = "/com/nexus/views/FavoritesView.fxml";
+    private static final String DETAILS_VIEW = "/com/nexus/views/GameDetailsView.fxml";
+    private static final String SETTINGS_VIEW = "/com/nexus/views/SettingsView.fxml";
+
+    // Preloaded in this order: details is one click away from the library
+    private static final List<String> PRELOAD_ORDER = List.of(DETAILS_VIEW, FAVORITES_VIEW, SETTINGS_VIEW);
+    // Give the library and its database load the first frames after startup
+    private static final Duration PRELOAD_DELAY = Duration.millis(1500);
+    // Gap between preloaded views, so frames render in between
+    private static final Duration PRELOAD_STEP = Duration.millis(100);
+
     private Button currentActiveNav;
     private Node libraryView;
     private LibraryController libraryController;
 
+    // Loaded views by FXML path
+    private final Map<String, CachedView> viewCache = new HashMap<>();
+
     @Override
     public void initialize(URL location, ResourceBundle resources) {
         currentActiveNav = navLibrary;
         loadLibraryView();
+        schedulePreload();
+    }
+
+    /**
+     * A loaded view with its controller.
+     */
+    private static class CachedView {
+        final Node view;
+        final Object controller;
+
+        CachedView(Node view, Object controller) {
+            this.view = view;
+            this.controller = controller;
+        }
+    }
+
+    /**
+     * Returns the cached view for the FXML path, loading it on first use.
+     */
+    private CachedView getView(String fxmlPath) throws IOException {
+        CachedView cached = viewCache.get(fxmlPath);
+        if (cached != null) {
+            return cached;
+        }
+
+        long start = System.nanoTime();
+        FXMLLoader loader = new FXMLLoader(getClass().getResource(fxmlPath));
+        Node view = loader.load();
+        Object controller = loader.getController();
+        if (controller instanceof FavoritesController favoritesController) {
+            favoritesController.setMainController(this);
+        } else if (controller instanceof GameDetailsController detailsController) {
+            detailsController.setMainController(this);
+        }
+
+        cached = new CachedView(view, controller);
+        viewCache.put(fxmlPath, cached);
+        System.out.println("[MainController] Loaded " + fxmlPath + " in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms");
+        return cached;
+    }
+
+    /**
+     * Preloads likely next views during idle time, one view at a time with a short pause
+     * after each, so no single frame has to build more than one view.
+     */
+    private void schedulePreload() {
+        Deque<String> pending = new ArrayDeque<>(PRELOAD_ORDER);
+        PauseTransition delay = new PauseTransition(PRELOAD_DELAY);
+        delay.setOnFinished(e -> preloadNext(pending));
+        delay.play();
+    }
+
+    private void preloadNext(Deque<String> pending) {
+        String fxmlPath = pending.poll();
+        if (fxmlPath == null) return;
+        try {
+            getView(fxmlPath);
+        } catch (IOException e) {
+            System.err.println("[MainController] Failed to preload " + fxmlPath + ": " + e.getMessage());
+        }
+        if (pending.isEmpty()) return;
+        // A timed pause rather than runLater, which can run in the same pulse
+        PauseTransition step = new PauseTransition(PRELOAD_STEP);
+        step.setOnFinished(e -> preloadNext(pending));
+        step.play();
     }
 
     private void loadLibraryView() {
@@ -61,29 +150,18 @@ public class MainController implements Initializable {
     @FXML
     private void onNavFavorites() {
         setActiveNav(navFavorites);
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/nexus/views/FavoritesView.fxml"));
-            Node view = loader.load();
-            FavoritesController controller = loader.getController();
-            controller.setMainController(this);
-            rootPane.setCenter(view);
-        } catch (IOException e) {
-            e.printStackTrace();
-            showError("Failed to load Favorites view");
-        }
+        showView(FAVORITES_VIEW);
     }
 
     @FXML
     private void onNavSettings() {
         setActiveNav(navSettings);
-        loadView("/com/nexus/views/SettingsView.fxml");
+        showView(SETTINGS_VIEW);
     }
 
-    private void loadView(String fxmlPath) {
+    private void showView(String fxmlPath) {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource(fxmlPath));
-            Node view = loader.load();
-            rootPane.setCenter(view);
+            rootPane.setCenter(getView(fxmlPath).view);
         } catch (IOException e) {
             e.printStackTrace();
             showError("Failed to load view: " + fxmlPath);
@@ -103,12 +181,10 @@ public class MainController implements Initializable {
      */
     public void showGameDetails(Game game) {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/nexus/views/GameDetailsView.fxml"));
-            Node view = loader.load();
-            GameDetailsController controller = loader.getController();
-            controller.setMainController(this);
-            controller.setGame(game);
-            rootPane.setCenter(view);
+            // One details view is reused for every game
+            CachedView details = getView(DETAILS_VIEW);
+            ((GameDetailsController) details.controller).setGame(game);
+            rootPane.setCenter(details.view);
 
             // Clear active nav state when viewing details
             if (currentActiveNav != null) {
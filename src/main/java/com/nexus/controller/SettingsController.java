@@ -1,8 +1,14 @@
 package com.nexus.controller;
 
 import com.nexus.service.GameService;
+import com.nexus.service.IgnoreIndex;
+import com.nexus.service.LibraryStore;
+import com.nexus.service.ScannerService;
 import com.nexus.model.AppSettings;
+import com.nexus.model.Game;
 import com.nexus.model.IgnoredGame;
+import com.nexus.model.IgnoredGame.RuleType;
+import com.nexus.repository.RepositoryFactory;
 import com.nexus.repository.SettingsRepository;
 import javafx.application.Platform;
 import javafx.concurrent.Task;
@@ -14,6 +20,7 @@ import javafx.scene.control.*;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
+import javafx.util.StringConverter;
 import org.kordamp.ikonli.javafx.FontIcon;
 
 import java.io.File;
@@ -36,15 +43,22 @@ public class SettingsController implements Initializable {
     @FXML private VBox hiddenGamesContainer;
     @FXML private VBox hiddenGamesEmptyState;
     @FXML private ListView<IgnoredGame> hiddenGamesList;
+    @FXML private ComboBox<RuleType> ignoreRuleTypeBox;
+    @FXML private TextField ignoreRuleField;
+    @FXML private Button addIgnoreRuleButton;
 
-    private final SettingsRepository settingsRepository = new SettingsRepository();
+    private final SettingsRepository settingsRepository = RepositoryFactory.getSettingsRepository();
     private final GameService gameService = GameService.getInstance();
+    private final LibraryStore libraryStore = LibraryStore.getInstance();
     private AppSettings settings;
 
     private boolean launchOnStartup = false;
     private boolean closeToTray = false;
     private boolean darkMode = true;
 
+    // The view is cached: hidden games are re-read only after a game left the library
+    private boolean hiddenGamesStale = false;
+
     @Override
     public void initialize(URL location, ResourceBundle resources) {
         loadSettings();
@@ -57,7 +71,21 @@ public class SettingsController implements Initializable {
 
         // Setup hidden games list
         setupHiddenGamesList();
+        setupIgnoreRuleForm();
         loadHiddenGames();
+
+        // Ignoring a game removes it from the library; refresh the list the next time it is shown
+        libraryStore.addListener(change -> {
+            if (change.getType() == LibraryStore.ChangeType.REMOVED) {
+                hiddenGamesStale = true;
+            }
+        });
+        hiddenGamesContainer.sceneProperty().addListener((obs, oldScene, newScene) -> {
+            if (newScene != null && hiddenGamesStale) {
+                hiddenGamesStale = false;
+                loadHiddenGames();
+            }
+        });
     }
 
     private void loadSettings() {
@@ -139,57 +167,61 @@ public class SettingsController implements Initializable {
     @FXML
     private void onClearLibrary() {
         Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
-        alert.setTitle("Clear Library");
-        alert.setHeaderText("Clear all scanned games?");
-        alert.setContentText("This will remove all automatically detected games from your library. Manually added games will be preserved. A rescan will start automatically.");
+        alert.setTitle("Full Rescan");
+        alert.setHeaderText("Rescan all games from scratch?");
+        alert.setContentText("All sources are scanned again and the automatically detected games are replaced with the result. Games that are no longer installed are removed. Manually added games, favorites and play time are kept, and your library stays available during the scan.");
 
         alert.showAndWait().ifPresent(response -> {
             if (response == ButtonType.OK) {
                 if (clearLibraryButton != null) {
                     clearLibraryButton.setDisable(true);
-                    clearLibraryButton.setText("Clearing...");
+                    clearLibraryButton.setText("Rescanning...");
                 }
 
-                Task<Void> clearTask = new Task<>() {
+                Task<Integer> rescanTask = new Task<>() {
                     @Override
-                    protected Void call() {
-                        gameService.clearAllGames();
-                        return null;
+                    protected Integer call() {
+                        // The scan is swapped in atomically; the store publishes only the differences
+                        libraryStore.load();
+                        List<Game> games = new ScannerService().fullRescan();
+                        libraryStore.replaceAll(games);
+                        return games.size();
                     }
                 };
 
-                clearTask.setOnSucceeded(e -> {
+                rescanTask.setOnSucceeded(e -> {
                     Platform.runLater(() -> {
                         if (clearLibraryButton != null) {
                             clearLibraryButton.setDisable(false);
-                            clearLibraryButton.setText("Clear & Rescan");
+                            clearLibraryButton.setText("Rescan");
                         }
 
                         // Show success message
                         Alert successAlert = new Alert(Alert.AlertType.INFORMATION);
-                        successAlert.setTitle("Library Cleared");
-                        successAlert.setHeaderText("Library has been cleared");
-                        successAlert.setContentText("Please go to the Library view or use Scan Games to rescan your games.");
+                        successAlert.setTitle("Rescan Complete");
+                        successAlert.setHeaderText("Library has been rescanned");
+                        successAlert.setContentText("Your library now has " + rescanTask.getValue() + " game(s).");
                         successAlert.showAndWait();
                     });
                 });
 
-                clearTask.setOnFailed(e -> {
+                rescanTask.setOnFailed(e -> {
+                    System.err.println("[SettingsController] Full rescan failed: " + rescanTask.getException());
                     Platform.runLater(() -> {
                         if (clearLibraryButton != null) {
                             clearLibraryButton.setDisable(false);
-                            clearLibraryButton.setText("Clear & Rescan");
+                            clearLibraryButton.setText("Rescan");
                         }
 
                         Alert errorAlert = new Alert(Alert.AlertType.ERROR);
                         errorAlert.setTitle("Error");
-                        errorAlert.setHeaderText("Failed to clear library");
-                        errorAlert.setContentText("An error occurred while clearing the library.");
+                        errorAlert.setHeaderText("Failed to rescan library");
+                        errorAlert.setContentText("An error occurred while rescanning. Your library was left unchanged.");
                         errorAlert.showAndWait();
                     });
                 });
 
-                Thread thread = new Thread(clearTask);
+                Thread thread = new Thread(rescanTask);
                 thread.setDaemon(true);
                 thread.start();
             }
@@ -243,13 +275,114 @@ public class SettingsController implements Initializable {
                     setGraphic(null);
                 } else {
                     titleLabel.setText(item.getTitle());
-                    pathLabel.setText(item.getInstallPath() != null ? item.getInstallPath() : "Unknown path");
+                    switch (item.getRuleType()) {
+                        case FOLDER -> {
+                            gameIcon.setIconLiteral("fas-folder");
+                            pathLabel.setText("Every game installed in this folder");
+                        }
+                        case TITLE_GLOB, TITLE_REGEX -> {
+                            gameIcon.setIconLiteral("fas-filter");
+                            pathLabel.setText("Every game whose title matches this "
+                                    + (item.getRuleType() == RuleType.TITLE_GLOB ? "pattern" : "regular expression"));
+                        }
+                        default -> {
+                            gameIcon.setIconLiteral("fas-gamepad");
+                            pathLabel.setText(item.getInstallPath() != null ? item.getInstallPath() : "Unknown path");
+                        }
+                    }
                     setGraphic(container);
                 }
             }
         });
     }
 
+    /**
+     * Sets up the form that adds folder and title ignore rules.
+     */
+    private void setupIgnoreRuleForm() {
+        if (ignoreRuleTypeBox == null) return;
+
+        ignoreRuleTypeBox.getItems().setAll(RuleType.FOLDER, RuleType.TITLE_GLOB, RuleType.TITLE_REGEX);
+        ignoreRuleTypeBox.setConverter(new StringConverter<>() {
+            @Override
+            public String toString(RuleType type) {
+                if (type == null) return "";
+                return switch (type) {
+                    case FOLDER -> "Folder";
+                    case TITLE_GLOB -> "Title pattern";
+                    case TITLE_REGEX -> "Title regex";
+                    default -> type.name();
+                };
+            }
+
+            @Override
+            public RuleType fromString(String text) {
+                return null;
+            }
+        });
+        ignoreRuleTypeBox.valueProperty().addListener((obs, oldType, type) -> {
+            ignoreRuleField.setPromptText(switch (type) {
+                case FOLDER -> "Folder, e.g. D:\\Games\\Demos";
+                case TITLE_GLOB -> "Title with * and ?, e.g. *Playtest*";
+                default -> "Regular expression, e.g. \\b(demo|beta)\\b";
+            });
+        });
+        ignoreRuleTypeBox.setValue(RuleType.FOLDER);
+    }
+
+    /**
+     * Adds the ignore rule from the form; the games it covers leave the library.
+     */
+    @FXML
+    private void onAddIgnoreRule() {
+        RuleType type = ignoreRuleTypeBox.getValue();
+        String value = ignoreRuleField.getText() != null ? ignoreRuleField.getText().strip() : "";
+        String error = type == RuleType.FOLDER
+                ? (value.isEmpty() ? "The folder is empty" : null)
+                : IgnoreIndex.validate(value, type);
+        if (error != null) {
+            Alert errorAlert = new Alert(Alert.AlertType.ERROR);
+            errorAlert.setTitle("Invalid Rule");
+            errorAlert.setHeaderText("This rule cannot be added");
+            errorAlert.setContentText(error);
+            errorAlert.showAndWait();
+            return;
+        }
+
+        IgnoredGame rule = type == RuleType.FOLDER ? IgnoredGame.folder(value) : IgnoredGame.titlePattern(value, type);
+        addIgnoreRuleButton.setDisable(true);
+
+        Task<Void> addTask = new Task<>() {
+            @Override
+            protected Void call() {
+                libraryStore.addIgnoreRule(rule);
+                return null;
+            }
+        };
+
+        addTask.setOnSucceeded(e -> Platform.runLater(() -> {
+            addIgnoreRuleButton.setDisable(false);
+            ignoreRuleField.clear();
+            loadHiddenGames();
+        }));
+
+        addTask.setOnFailed(e -> {
+            System.err.println("[SettingsController] Failed to add ignore rule: " + addTask.getException());
+            Platform.runLater(() -> {
+                addIgnoreRuleButton.setDisable(false);
+                Alert errorAlert = new Alert(Alert.AlertType.ERROR);
+                errorAlert.setTitle("Error");
+                errorAlert.setHeaderText("Failed to add rule");
+                errorAlert.setContentText("An error occurred while saving the rule.");
+                errorAlert.showAndWait();
+            });
+        });
+
+        Thread thread = new Thread(addTask);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
     /**
      * Loads hidden games from the database.
      */
@@ -305,7 +438,9 @@ public class SettingsController implements Initializable {
         Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
         alert.setTitle("Restore Game");
         alert.setHeaderText("Restore " + ignoredGame.getTitle() + "?");
-        alert.setContentText("This game will appear in your library on the next scan.");
+        alert.setContentText(ignoredGame.getRuleType() == RuleType.GAME
+                ? "This game will appear in your library on the next scan."
+                : "Games covered by this rule will appear in your library on the next scan.");
 
         // Style the dialog
         DialogPane dialogPane = alert.getDialogPane();
@@ -1,12 +1,16 @@
 package com.nexus.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.io.Serializable;
 
 /**
  * Represents application settings for the Nexus Launcher.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "nexus.settings")
 @Table(name = "app_settings")
 public class AppSettings implements Serializable {
 
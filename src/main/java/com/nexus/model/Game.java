@@ -1,13 +1,18 @@
 package com.nexus.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.io.Serializable;
 import java.time.LocalDateTime;
+import java.util.Locale;
 
 /**
  * Represents a game in the Nexus Launcher library.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "nexus.game")
 @Table(name = "games")
 public class Game implements Serializable {
 
@@ -88,6 +93,10 @@ public class Game implements Serializable {
     @Column(name = "icon_path")
     private String iconPath;
 
+    /** False for games built from a {@link GameSummary} until their details are loaded. */
+    @Transient
+    private boolean detailsLoaded = true;
+
     public Game() {}
 
     public Game(Long id, String title, String coverImageUrl, Platform platform, Status status) {
@@ -103,6 +112,20 @@ public class Game implements Serializable {
         return platform.name().toLowerCase() + "_" + identifier.toLowerCase().replaceAll("[^a-z0-9]", "_");
     }
 
+    /**
+     * The key a game is known by in the in-memory library and its indexes: its uniqueId,
+     * else its database id, else its title and platform.
+     */
+    public static String identityKey(Game game) {
+        if (game.getUniqueId() != null && !game.getUniqueId().isEmpty()) {
+            return game.getUniqueId();
+        }
+        if (game.getId() != null) {
+            return "id:" + game.getId();
+        }
+        return (game.getTitle() + "_" + game.getPlatform()).toLowerCase(Locale.ROOT);
+    }
+
     // Getters and Setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -155,6 +178,38 @@ public class Game implements Serializable {
     public String getIconPath() { return iconPath; }
     public void setIconPath(String iconPath) { this.iconPath = iconPath; }
 
+    public boolean isDetailsLoaded() { return detailsLoaded; }
+
+    void markDetailsUnloaded() { this.detailsLoaded = false; }
+
+    /**
+     * Fills in the fields a summary does not carry from the fully loaded entity.
+     * Summary fields are kept, so in-memory changes (e.g. favorite) are not lost;
+     * load details before editing any of the other fields.
+     */
+    public void copyDetailsFrom(Game full) {
+        this.description = full.description;
+        this.releaseDate = full.releaseDate;
+        this.executablePath = full.executablePath;
+        this.heroImageUrl = full.heroImageUrl;
+        this.appId = full.appId;
+        this.installPath = full.installPath;
+        this.lastPlayed = full.lastPlayed;
+        this.totalPlayTime = full.totalPlayTime;
+        this.iconPath = full.iconPath;
+        this.detailsLoaded = true;
+    }
+
+    /**
+     * Takes over the fields a metadata fetch fills in (cover, hero, description, developer).
+     */
+    public void copyMetadataFrom(Game fetched) {
+        this.coverImageUrl = fetched.coverImageUrl;
+        this.heroImageUrl = fetched.heroImageUrl;
+        this.description = fetched.description;
+        this.developer = fetched.developer;
+    }
+
     @Override
     public String toString() {
         return "Game{" +
@@ -0,0 +1,30 @@
+package com.nexus.model;
+
+/**
+ * The columns a library card needs, loaded with an HQL {@code select new} projection
+ * instead of hydrating the full entity (description, paths, play stats...).
+ */
+public record GameSummary(Long id, String uniqueId, String title, String developer, String coverImageUrl,
+                          Game.Platform platform, Game.Status status, boolean favorite) {
+
+    /**
+     * The summary fields of a game, loaded or not.
+     */
+    public static GameSummary of(Game game) {
+        return new GameSummary(game.getId(), game.getUniqueId(), game.getTitle(), game.getDeveloper(),
+                game.getCoverImageUrl(), game.getPlatform(), game.getStatus(), game.isFavorite());
+    }
+
+    /**
+     * Creates a Game holding only the summary fields. Its details are loaded on demand
+     * (see {@link Game#isDetailsLoaded()}).
+     */
+    public Game toGame() {
+        Game game = new Game(id, title, coverImageUrl, platform, status);
+        game.setUniqueId(uniqueId);
+        game.setDeveloper(developer);
+        game.setFavorite(favorite);
+        game.markDetailsUnloaded();
+        return game;
+    }
+}
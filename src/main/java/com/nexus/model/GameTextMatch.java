@@ -0,0 +1,12 @@
+package com.nexus.model;
+
+/**
+ * A full-text search hit: the matching game's id, its BM25 score (lower is better,
+ * as SQLite reports it) and a short snippet of the best matching column with the
+ * matched terms wrapped in {@link #HIGHLIGHT_START} / {@link #HIGHLIGHT_END}.
+ */
+public record GameTextMatch(long gameId, double score, String snippet) {
+
+    public static final String HIGHLIGHT_START = "\u00AB";
+    public static final String HIGHLIGHT_END = "\u00BB";
+}
@@ -1,17 +1,36 @@
 package com.nexus.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.io.Serializable;
 import java.time.LocalDateTime;
 
 /**
  * Represents a game that has been ignored/hidden by the user.
  * Ignored games will not appear in the library and will be skipped during scans.
+ *
+ * Besides single games, a row can be a rule covering many games (see RuleType):
+ * a folder whose installs are all ignored, or a glob or regular expression over titles,
+ * stored in the title column.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "nexus.ignored-game")
 @Table(name = "ignored_games")
 public class IgnoredGame implements Serializable {
 
+    public enum RuleType {
+        /** One game, matched by unique id, normalized title or exact install path. */
+        GAME,
+        /** Every game installed in or below install_path. */
+        FOLDER,
+        /** Titles matching a glob ("*" any text, "?" one character), case-insensitive. */
+        TITLE_GLOB,
+        /** Titles containing a match of a regular expression, case-insensitive. */
+        TITLE_REGEX
+    }
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -31,6 +50,10 @@ public class IgnoredGame implements Serializable {
     @Column(name = "ignored_at")
     private LocalDateTime ignoredAt;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "rule_type", nullable = false)
+    private RuleType ruleType = RuleType.GAME;
+
     public IgnoredGame() {
         this.ignoredAt = LocalDateTime.now();
     }
@@ -43,6 +66,27 @@ public class IgnoredGame implements Serializable {
         this.ignoredAt = LocalDateTime.now();
     }
 
+    /**
+     * A rule ignoring every game installed in or below a folder.
+     */
+    public static IgnoredGame folder(String path) {
+        IgnoredGame rule = new IgnoredGame(path, path, null);
+        rule.setNormalizedTitle(null);
+        rule.setRuleType(RuleType.FOLDER);
+        return rule;
+    }
+
+    /**
+     * A rule ignoring every game whose title matches a glob or regular expression.
+     */
+    public static IgnoredGame titlePattern(String pattern, RuleType ruleType) {
+        IgnoredGame rule = new IgnoredGame(pattern, null, null);
+        // The pattern must not also match as a plain title
+        rule.setNormalizedTitle(null);
+        rule.setRuleType(ruleType);
+        return rule;
+    }
+
     /**
      * Normalizes a title for consistent matching.
      */
@@ -73,6 +117,9 @@ public class IgnoredGame implements Serializable {
     public LocalDateTime getIgnoredAt() { return ignoredAt; }
     public void setIgnoredAt(LocalDateTime ignoredAt) { this.ignoredAt = ignoredAt; }
 
+    public RuleType getRuleType() { return ruleType; }
+    public void setRuleType(RuleType ruleType) { this.ruleType = ruleType != null ? ruleType : RuleType.GAME; }
+
     @Override
     public String toString() {
         return "IgnoredGame{" +
@@ -80,6 +127,7 @@ public class IgnoredGame implements Serializable {
                 ", title='" + title + '\'' +
                 ", installPath='" + installPath + '\'' +
                 ", uniqueId='" + uniqueId + '\'' +
+                ", ruleType=" + ruleType +
                 '}';
     }
 
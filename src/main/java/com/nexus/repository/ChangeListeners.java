@@ -0,0 +1,35 @@
+package com.nexus.repository;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Callbacks a repository runs after it has committed a change, on the writing thread.
+ */
+class ChangeListeners {
+
+    private final String owner;
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    ChangeListeners(String owner) {
+        this.owner = owner;
+    }
+
+    void add(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    void remove(Runnable listener) {
+        listeners.remove(listener);
+    }
+
+    void fire() {
+        for (Runnable listener : listeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                System.err.println("[" + owner + "] Change listener failed: " + e.getMessage());
+            }
+        }
+    }
+}
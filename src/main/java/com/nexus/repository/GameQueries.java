@@ -0,0 +1,84 @@
+package com.nexus.repository;
+
+import com.nexus.model.Game;
+
+/**
+ * Native SQL shared by the Hibernate and JDBC game repositories.
+ */
+final class GameQueries {
+
+    /** Keeps the oldest row of each uniqueId (or, without one, title and platform) group. */
+    static final String DELETE_DUPLICATES =
+            "DELETE FROM games WHERE id NOT IN (" +
+            "SELECT MIN(id) FROM games " +
+            "GROUP BY COALESCE(NULLIF(unique_id, ''), LOWER(title) || '_' || LOWER(platform)))";
+
+    // ==================== Staged rescan (see GameRepository.replaceScanned) ====================
+
+    static final String CLEAR_STAGING = "DELETE FROM games_staging";
+
+    static final String INSERT_STAGING =
+            "INSERT OR REPLACE INTO games_staging (unique_id, app_id, coverImageUrl, description, developer, " +
+            "executablePath, heroImageUrl, icon_path, install_path, platform, releaseDate, status, title) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * Games still installed take the scanned install location and status. Artwork and text
+     * are only replaced by real values, never by the scanner's placeholders; title, favorite,
+     * play time and last played are kept.
+     */
+    static final String SWAP_UPDATE =
+            "UPDATE games SET " +
+            "install_path = s.install_path, " +
+            "executablePath = s.executablePath, " +
+            "status = s.status, " +
+            "app_id = COALESCE(s.app_id, games.app_id), " +
+            "coverImageUrl = COALESCE(NULLIF(s.coverImageUrl, ''), games.coverImageUrl), " +
+            "description = CASE WHEN s.description IS NULL OR s.description IN ('', 'No description available.') " +
+            "THEN games.description ELSE s.description END, " +
+            "developer = CASE WHEN s.developer IS NULL OR s.developer IN ('', 'Unknown Developer') " +
+            "THEN games.developer ELSE s.developer END, " +
+            "heroImageUrl = COALESCE(NULLIF(s.heroImageUrl, ''), games.heroImageUrl) " +
+            "FROM games_staging s WHERE games.unique_id = s.unique_id";
+
+    static final String SWAP_INSERT =
+            "INSERT INTO games (unique_id, app_id, coverImageUrl, description, developer, executablePath, " +
+            "heroImageUrl, icon_path, install_path, platform, releaseDate, status, title, favorite, total_play_time) " +
+            "SELECT s.unique_id, s.app_id, s.coverImageUrl, s.description, s.developer, s.executablePath, " +
+            "s.heroImageUrl, s.icon_path, s.install_path, s.platform, s.releaseDate, s.status, s.title, 0, 0 " +
+            "FROM games_staging s WHERE NOT EXISTS (SELECT 1 FROM games g WHERE g.unique_id = s.unique_id)";
+
+    /** Scanned games the scan no longer found; manually added games are never removed. */
+    static final String SWAP_DELETE =
+            "DELETE FROM games WHERE platform != 'MANUAL' " +
+            "AND (unique_id IS NULL OR unique_id NOT IN (SELECT unique_id FROM games_staging))";
+
+    private GameQueries() {
+    }
+
+    /**
+     * Staging row values in INSERT_STAGING parameter order.
+     */
+    static Object[] stagingValues(Game game) {
+        return new Object[]{
+                game.getUniqueId(), game.getAppId(), game.getCoverImageUrl(), game.getDescription(),
+                game.getDeveloper(), game.getExecutablePath(), game.getHeroImageUrl(), game.getIconPath(),
+                game.getInstallPath(), game.getPlatform(), game.getReleaseDate(), game.getStatus(), game.getTitle()
+        };
+    }
+
+    /**
+     * Turns user input into an FTS5 expression: each word becomes a quoted prefix term
+     * ("dark" "sou" -> "dark"* "sou"*), so FTS operators typed by the user are inert.
+     */
+    static String toMatchExpression(String query) {
+        if (query == null) return null;
+        StringBuilder match = new StringBuilder();
+        for (String word : query.split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) continue;
+            if (match.length() > 0) match.append(' ');
+            match.append('"').append(word).append("\"*");
+        }
+        return match.length() > 0 ? match.toString() : null;
+    }
+}
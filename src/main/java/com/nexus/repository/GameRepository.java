@@ -1,116 +1,96 @@
 package com.nexus.repository;
 
 import com.nexus.model.Game;
-import com.nexus.util.HibernateUtil;
-import org.hibernate.Session;
-import org.hibernate.Transaction;
+import com.nexus.model.GameSummary;
+import com.nexus.model.GameTextMatch;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
- * Repository for Game entity CRUD operations using Hibernate Native.
+ * Repository for Game CRUD operations.
+ * Implemented with Hibernate and with plain JDBC; see RepositoryFactory.
  */
-public class GameRepository {
-
-    /**
-     * Save or update a game.
-     */
-    public Game save(Game game) {
-        Transaction transaction = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            transaction = session.beginTransaction();
-            if (game.getId() == null) {
-                session.persist(game);
-            } else {
-                game = session.merge(game);
-            }
-            transaction.commit();
-            return game;
-        } catch (Exception e) {
-            if (transaction != null) {
-                transaction.rollback();
-            }
-            throw e;
-        }
-    }
+public interface GameRepository {
+
+    /**
+     * Save or update a game. Returns the persisted instance.
+     */
+    Game save(Game game);
 
     /**
      * Find a game by ID.
      */
-    public Optional<Game> findById(Long id) {
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            return Optional.ofNullable(session.get(Game.class, id));
-        }
-    }
+    Optional<Game> findById(Long id);
 
     /**
-     * Get all games.
+     * Get all games, ordered by title and id.
      */
-    public List<Game> findAll() {
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            return session.createQuery("FROM Game ORDER BY title", Game.class).list();
-        }
-    }
+    List<Game> findAll();
+
+    /**
+     * Streams all games ordered by title and id without holding them all in memory.
+     * The stream owns a database connection: always close it, e.g. with try-with-resources.
+     */
+    Stream<Game> streamAll();
+
+    /**
+     * Keyset page of full games ordered by title, then id.
+     *
+     * @param after Last game of the previous page, or null for the first page
+     */
+    List<Game> findPageAfter(Game after, int limit);
+
+    /**
+     * Keyset page of game summaries ordered by title, then id. Unlike offset paging,
+     * each page is an index range scan, so late pages cost the same as the first.
+     *
+     * @param after Last summary of the previous page, or null for the first page
+     */
+    List<GameSummary> findSummaryPageAfter(GameSummary after, int limit);
+
+    /**
+     * Find all games as lightweight summaries for list views, sorted by title.
+     */
+    List<GameSummary> findAllSummaries();
+
+    /**
+     * Ids of games missing a usable cover or description.
+     */
+    List<Long> findIdsNeedingMetadata();
+
+    /**
+     * Full-text search over title, developer and description (games_fts, see the V4
+     * migration). Every word of the query must match, as a prefix; results are ranked
+     * with BM25, weighting title over developer over description.
+     */
+    List<GameTextMatch> searchFullText(String query, int limit);
 
     /**
      * Find games by favorite status.
      */
-    public List<Game> findByFavorite(boolean favorite) {
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            return session.createQuery("FROM Game WHERE favorite = :fav ORDER BY title", Game.class)
-                    .setParameter("fav", favorite)
-                    .list();
-        }
-    }
+    List<Game> findByFavorite(boolean favorite);
 
     /**
      * Search games by title (case-insensitive).
      */
-    public List<Game> searchByTitle(String keyword) {
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            return session.createQuery("FROM Game WHERE LOWER(title) LIKE LOWER(:kw) ORDER BY title", Game.class)
-                    .setParameter("kw", "%" + keyword + "%")
-                    .list();
-        }
-    }
+    List<Game> searchByTitle(String keyword);
 
     /**
      * Find games by platform.
      */
-    public List<Game> findByPlatform(Game.Platform platform) {
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            return session.createQuery("FROM Game WHERE platform = :platform ORDER BY title", Game.class)
-                    .setParameter("platform", platform)
-                    .list();
-        }
-    }
+    List<Game> findByPlatform(Game.Platform platform);
 
     /**
      * Delete a game by ID.
      */
-    public void delete(Long id) {
-        Transaction transaction = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            transaction = session.beginTransaction();
-            Game game = session.get(Game.class, id);
-            if (game != null) {
-                session.remove(game);
-            }
-            transaction.commit();
-        } catch (Exception e) {
-            if (transaction != null) {
-                transaction.rollback();
-            }
-            throw e;
-        }
-    }
+    void delete(Long id);
 
     /**
      * Delete a game entity.
      */
-    public void delete(Game game) {
+    default void delete(Game game) {
         if (game != null && game.getId() != null) {
             delete(game.getId());
         }
@@ -119,118 +99,53 @@ public class GameRepository {
     /**
      * Count all games.
      */
-    public long count() {
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            return session.createQuery("SELECT COUNT(g) FROM Game g", Long.class).uniqueResult();
-        }
-    }
+    long count();
 
     /**
      * Update favorite status of a game.
      */
-    public void updateFavorite(Long id, boolean favorite) {
-        Transaction transaction = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            transaction = session.beginTransaction();
-            Game game = session.get(Game.class, id);
-            if (game != null) {
-                game.setFavorite(favorite);
-                session.merge(game);
-            }
-            transaction.commit();
-        } catch (Exception e) {
-            if (transaction != null) {
-                transaction.rollback();
-            }
-            throw e;
-        }
-    }
+    void updateFavorite(Long id, boolean favorite);
 
     /**
      * Find a game by its unique ID.
      */
-    public Optional<Game> findByUniqueId(String uniqueId) {
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            return session.createQuery("FROM Game WHERE uniqueId = :uid", Game.class)
-                    .setParameter("uid", uniqueId)
-                    .uniqueResultOptional();
-        }
-    }
+    Optional<Game> findByUniqueId(String uniqueId);
 
     /**
      * Save or update multiple games in a batch.
      */
-    public List<Game> saveAll(List<Game> games) {
-        Transaction transaction = null;
-        List<Game> savedGames = new ArrayList<>();
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            transaction = session.beginTransaction();
-            for (Game game : games) {
-                if (game.getId() == null) {
-                    session.persist(game);
-                } else {
-                    game = session.merge(game);
-                }
-                savedGames.add(game);
-            }
-            transaction.commit();
-            return savedGames;
-        } catch (Exception e) {
-            if (transaction != null) {
-                transaction.rollback();
-            }
-            throw e;
-        }
-    }
+    List<Game> saveAll(List<Game> games);
 
     /**
      * Get all unique IDs in the database.
      */
-    public List<String> findAllUniqueIds() {
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            return session.createQuery("SELECT g.uniqueId FROM Game g WHERE g.uniqueId IS NOT NULL", String.class).list();
-        }
-    }
+    List<String> findAllUniqueIds();
 
     /**
-     * Delete all games not in the given list of unique IDs.
+     * Delete all scanned games not in the given list of unique IDs.
      */
-    public int deleteNotIn(List<String> uniqueIds) {
-        if (uniqueIds == null || uniqueIds.isEmpty()) {
-            return 0;
-        }
-        Transaction transaction = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            transaction = session.beginTransaction();
-            int deleted = session.createMutationQuery("DELETE FROM Game WHERE uniqueId NOT IN :ids AND platform != 'MANUAL'")
-                    .setParameter("ids", uniqueIds)
-                    .executeUpdate();
-            transaction.commit();
-            return deleted;
-        } catch (Exception e) {
-            if (transaction != null) {
-                transaction.rollback();
-            }
-            throw e;
-        }
-    }
+    int deleteNotIn(List<String> uniqueIds);
+
+    /**
+     * Delete duplicate games in a single statement, keeping the oldest row of each group.
+     * Games are duplicates when they share a uniqueId or, without one, a title and platform.
+     */
+    int deleteDuplicates();
+
+    /**
+     * Replace the scanned games with the result of a full scan. The games are written to a
+     * staging table first and then swapped into the library in one transaction, so readers
+     * see either the old library or the new one, never a partial or empty one.
+     * Games still installed keep their id, title, favorite flag, play time and last played
+     * date; scanned games no longer found are deleted; manually added games are left alone.
+     * An empty scan changes nothing, as with deleteNotIn.
+     *
+     * @return number of games deleted
+     */
+    int replaceScanned(List<Game> scannedGames);
 
     /**
      * Delete all games from the database.
      */
-    public int deleteAll() {
-        Transaction transaction = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            transaction = session.beginTransaction();
-            int deleted = session.createMutationQuery("DELETE FROM Game").executeUpdate();
-            transaction.commit();
-            return deleted;
-        } catch (Exception e) {
-            if (transaction != null) {
-                transaction.rollback();
-            }
-            throw e;
-        }
-    }
+    int deleteAll();
 }
-
@@ -0,0 +1,366 @@
+package com.nexus.repository;
+
+import com.nexus.model.Game;
+import com.nexus.model.GameSummary;
+import com.nexus.model.GameTextMatch;
+import com.nexus.util.HibernateUtil;
+import org.hibernate.Session;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.query.Query;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * GameRepository backed by Hibernate Native.
+ */
+public class HibernateGameRepository implements GameRepository {
+
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private static final String SUMMARY_SELECT =
+            "SELECT new com.nexus.model.GameSummary(g.id, g.uniqueId, g.title, g.developer, " +
+            "g.coverImageUrl, g.platform, g.status, g.favorite) FROM Game g";
+
+    /** Rows strictly after (:title, :id) in (title, id) order. */
+    private static final String KEYSET_AFTER =
+            "WHERE g.title > :title OR (g.title = :title AND g.id > :id)";
+
+    @Override
+    public Game save(Game game) {
+        // Queued column updates go first, so they cannot land on top of this write
+        WriteBehindQueue.getInstance().flushBeforeWrite();
+        Transaction transaction = null;
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            transaction = session.beginTransaction();
+            if (game.getId() == null) {
+                session.persist(game);
+            } else {
+                game = session.merge(game);
+            }
+            transaction.commit();
+            return game;
+        } catch (Exception e) {
+            if (transaction != null) {
+                transaction.rollback();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<Game> findById(Long id) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            return Optional.ofNullable(session.get(Game.class, id));
+        }
+    }
+
+    @Override
+    public List<Game> findAll() {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            return session.createQuery("FROM Game ORDER BY title, id", Game.class).list();
+        }
+    }
+
+    @Override
+    public Stream<Game> streamAll() {
+        // Stateless session (nothing is cached), rows fetched in chunks; closed with the stream
+        StatelessSession session = HibernateUtil.getSessionFactory().openStatelessSession();
+        try {
+            return session.createQuery("FROM Game ORDER BY title, id", Game.class)
+                    .setFetchSize(STREAM_FETCH_SIZE)
+                    .stream()
+                    .onClose(session::close);
+        } catch (Exception e) {
+            session.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Game> findPageAfter(Game after, int limit) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            Query<Game> query = after == null
+                    ? session.createQuery("FROM Game g ORDER BY g.title, g.id", Game.class)
+                    : session.createQuery("FROM Game g " + KEYSET_AFTER + " ORDER BY g.title, g.id", Game.class)
+                            .setParameter("title", after.getTitle())
+                            .setParameter("id", after.getId());
+            return query.setMaxResults(limit).list();
+        }
+    }
+
+    @Override
+    public List<GameSummary> findSummaryPageAfter(GameSummary after, int limit) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            Query<GameSummary> query = after == null
+                    ? session.createQuery(SUMMARY_SELECT + " ORDER BY g.title, g.id", GameSummary.class)
+                    : session.createQuery(SUMMARY_SELECT + " " + KEYSET_AFTER + " ORDER BY g.title, g.id", GameSummary.class)
+                            .setParameter("title", after.title())
+                            .setParameter("id", after.id());
+            return query.setMaxResults(limit).list();
+        }
+    }
+
+    @Override
+    public List<GameSummary> findAllSummaries() {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            return session.createQuery(SUMMARY_SELECT + " ORDER BY g.title, g.id", GameSummary.class).list();
+        }
+    }
+
+    @Override
+    public List<Long> findIdsNeedingMetadata() {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            return session.createQuery(
+                    "SELECT g.id FROM Game g " +
+                    "WHERE g.coverImageUrl IS NULL OR g.coverImageUrl = '' OR g.coverImageUrl LIKE '/assets/%' " +
+                    "OR g.description IS NULL OR g.description = '' OR g.description LIKE 'No description%'",
+                    Long.class).list();
+        }
+    }
+
+    @Override
+    public List<GameTextMatch> searchFullText(String query, int limit) {
+        String match = GameQueries.toMatchExpression(query);
+        if (match == null) {
+            return List.of();
+        }
+
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            List<Object[]> rows = session.createNativeQuery(
+                            "SELECT rowid, bm25(games_fts, 10.0, 5.0, 1.0) AS score, " +
+                            "snippet(games_fts, -1, :start, :end, '...', 12) " +
+                            "FROM games_fts WHERE games_fts MATCH :match ORDER BY score LIMIT :limit", Object[].class)
+                    .setParameter("start", GameTextMatch.HIGHLIGHT_START)
+                    .setParameter("end", GameTextMatch.HIGHLIGHT_END)
+                    .setParameter("match", match)
+                    .setParameter("limit", limit)
+                    .list();
+
+            List<GameTextMatch> matches = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                matches.add(new GameTextMatch(((Number) row[0]).longValue(), ((Number) row[1]).doubleValue(),
+                        (String) row[2]));
+            }
+            return matches;
+        }
+    }
+
+    @Override
+    public List<Game> findByFavorite(boolean favorite) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            return session.createQuery("FROM Game WHERE favorite = :fav ORDER BY title", Game.class)
+                    .setParameter("fav", favorite)
+                    .list();
+        }
+    }
+
+    @Override
+    public List<Game> searchByTitle(String keyword) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            return session.createQuery("FROM Game WHERE LOWER(title) LIKE LOWER(:kw) ORDER BY title", Game.class)
+                    .setParameter("kw", "%" + keyword + "%")
+                    .list();
+        }
+    }
+
+    @Override
+    public List<Game> findByPlatform(Game.Platform platform) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            return session.createQuery("FROM Game WHERE platform = :platform ORDER BY title", Game.class)
+                    .setParameter("platform", platform)
+                    .list();
+        }
+    }
+
+    @Override
+    public void delete(Long id) {
+        Transaction transaction = null;
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            transaction = session.beginTransaction();
+            Game game = session.get(Game.class, id);
+            if (game != null) {
+                session.remove(game);
+            }
+            transaction.commit();
+        } catch (Exception e) {
+            if (transaction != null) {
+                transaction.rollback();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public long count() {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            return session.createQuery("SELECT COUNT(g) FROM Game g", Long.class).uniqueResult();
+        }
+    }
+
+    @Override
+    public void updateFavorite(Long id, boolean favorite) {
+        Transaction transaction = null;
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            transaction = session.beginTransaction();
+            Game game = session.get(Game.class, id);
+            if (game != null) {
+                game.setFavorite(favorite);
+                session.merge(game);
+            }
+            transaction.commit();
+        } catch (Exception e) {
+            if (transaction != null) {
+                transaction.rollback();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<Game> findByUniqueId(String uniqueId) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            return session.createQuery("FROM Game WHERE uniqueId = :uid", Game.class)
+                    .setParameter("uid", uniqueId)
+                    .setCacheable(true)
+                    .uniqueResultOptional();
+        }
+    }
+
+    @Override
+    public List<Game> saveAll(List<Game> games) {
+        WriteBehindQueue.getInstance().flushBeforeWrite();
+        Transaction transaction = null;
+        List<Game> savedGames = new ArrayList<>();
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            transaction = session.beginTransaction();
+            for (Game game : games) {
+                if (game.getId() == null) {
+                    session.persist(game);
+                } else {
+                    game = session.merge(game);
+                }
+                savedGames.add(game);
+            }
+            transaction.commit();
+            return savedGames;
+        } catch (Exception e) {
+            if (transaction != null) {
+                transaction.rollback();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public List<String> findAllUniqueIds() {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            return session.createQuery("SELECT g.uniqueId FROM Game g WHERE g.uniqueId IS NOT NULL", String.class).list();
+        }
+    }
+
+    @Override
+    public int deleteNotIn(List<String> uniqueIds) {
+        if (uniqueIds == null || uniqueIds.isEmpty()) {
+            return 0;
+        }
+        Transaction transaction = null;
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            transaction = session.beginTransaction();
+            int deleted = session.createMutationQuery("DELETE FROM Game WHERE uniqueId NOT IN :ids AND platform != 'MANUAL'")
+                    .setParameter("ids", uniqueIds)
+                    .executeUpdate();
+            transaction.commit();
+            return deleted;
+        } catch (Exception e) {
+            if (transaction != null) {
+                transaction.rollback();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public int deleteDuplicates() {
+        Transaction transaction = null;
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            transaction = session.beginTransaction();
+            int deleted = session.createNativeQuery(GameQueries.DELETE_DUPLICATES)
+                    // Only the games cache region and queries over games need invalidating
+                    .addSynchronizedEntityClass(Game.class)
+                    .executeUpdate();
+            transaction.commit();
+            return deleted;
+        } catch (Exception e) {
+            if (transaction != null) {
+                transaction.rollback();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public int replaceScanned(List<Game> scannedGames) {
+        if (scannedGames == null || scannedGames.isEmpty()) {
+            return 0;
+        }
+        WriteBehindQueue.getInstance().flushBeforeWrite();
+        Transaction transaction = null;
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            // Staging has a transaction of its own; only the swap below writes to games
+            transaction = session.beginTransaction();
+            session.doWork(connection -> {
+                try (Statement clear = connection.createStatement();
+                     PreparedStatement insert = connection.prepareStatement(GameQueries.INSERT_STAGING)) {
+                    clear.executeUpdate(GameQueries.CLEAR_STAGING);
+                    for (Game game : scannedGames) {
+                        if (game.getUniqueId() == null) continue;
+                        JdbcSupport.bind(insert, GameQueries.stagingValues(game));
+                        insert.addBatch();
+                    }
+                    insert.executeBatch();
+                }
+            });
+            transaction.commit();
+
+            transaction = session.beginTransaction();
+            // Synchronized on Game: evicts the games cache region and queries over games
+            session.createNativeQuery(GameQueries.SWAP_UPDATE).addSynchronizedEntityClass(Game.class).executeUpdate();
+            session.createNativeQuery(GameQueries.SWAP_INSERT).addSynchronizedEntityClass(Game.class).executeUpdate();
+            int deleted = session.createNativeQuery(GameQueries.SWAP_DELETE)
+                    .addSynchronizedEntityClass(Game.class)
+                    .executeUpdate();
+            // An unsynchronized native update would evict every cache region
+            session.createNativeQuery(GameQueries.CLEAR_STAGING).addSynchronizedQuerySpace("games_staging").executeUpdate();
+            transaction.commit();
+            return deleted;
+        } catch (Exception e) {
+            if (transaction != null && transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public int deleteAll() {
+        Transaction transaction = null;
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            transaction = session.beginTransaction();
+            int deleted = session.createMutationQuery("DELETE FROM Game").executeUpdate();
+            transaction.commit();
+            return deleted;
+        } catch (Exception e) {
+            if (transaction != null) {
+                transaction.rollback();
+            }
+            throw e;
+        }
+    }
+}
+
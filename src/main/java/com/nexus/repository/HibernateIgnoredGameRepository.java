@@ -0,0 +1,181 @@
+package com.nexus.repository;
+
+import com.nexus.model.IgnoredGame;
+import com.nexus.util.HibernateUtil;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * IgnoredGameRepository backed by Hibernate.
+ */
+public class HibernateIgnoredGameRepository implements IgnoredGameRepository {
+
+    private final ChangeListeners changeListeners = new ChangeListeners("HibernateIgnoredGameRepository");
+
+    @Override
+    public IgnoredGame save(IgnoredGame ignoredGame) {
+        Transaction transaction = null;
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            transaction = session.beginTransaction();
+            if (ignoredGame.getId() == null) {
+                session.persist(ignoredGame);
+            } else {
+                ignoredGame = session.merge(ignoredGame);
+            }
+            transaction.commit();
+            changeListeners.fire();
+            return ignoredGame;
+        } catch (Exception e) {
+            if (transaction != null) {
+                transaction.rollback();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<IgnoredGame> findById(Long id) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            return Optional.ofNullable(session.get(IgnoredGame.class, id));
+        }
+    }
+
+    @Override
+    public List<IgnoredGame> findAll() {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            return session.createQuery("FROM IgnoredGame ORDER BY title", IgnoredGame.class).setCacheable(true).list();
+        }
+    }
+
+    @Override
+    public Optional<IgnoredGame> findByUniqueId(String uniqueId) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            return session.createQuery("FROM IgnoredGame WHERE uniqueId = :uid", IgnoredGame.class)
+                    .setParameter("uid", uniqueId)
+                    .setCacheable(true)
+                    .uniqueResultOptional();
+        }
+    }
+
+    @Override
+    public Optional<IgnoredGame> findByInstallPath(String installPath) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            return session.createQuery("FROM IgnoredGame WHERE installPath = :path", IgnoredGame.class)
+                    .setParameter("path", installPath)
+                    .setCacheable(true)
+                    .uniqueResultOptional();
+        }
+    }
+
+    @Override
+    public boolean isIgnored(String uniqueId) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            Long count = session.createQuery("SELECT COUNT(ig) FROM IgnoredGame ig WHERE ig.uniqueId = :uid", Long.class)
+                    .setParameter("uid", uniqueId)
+                    .setCacheable(true)
+                    .uniqueResult();
+            return count != null && count > 0;
+        }
+    }
+
+    @Override
+    public List<String> findAllUniqueIds() {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            return session.createQuery("SELECT ig.uniqueId FROM IgnoredGame ig WHERE ig.uniqueId IS NOT NULL", String.class).setCacheable(true).list();
+        }
+    }
+
+    @Override
+    public List<String> findAllNormalizedTitles() {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            return session.createQuery("SELECT ig.normalizedTitle FROM IgnoredGame ig WHERE ig.normalizedTitle IS NOT NULL", String.class).setCacheable(true).list();
+        }
+    }
+
+    @Override
+    public List<String> findAllInstallPaths() {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            return session.createQuery("SELECT ig.installPath FROM IgnoredGame ig WHERE ig.installPath IS NOT NULL", String.class).setCacheable(true).list();
+        }
+    }
+
+    @Override
+    public boolean isIgnoredByNormalizedTitle(String normalizedTitle) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            Long count = session.createQuery("SELECT COUNT(ig) FROM IgnoredGame ig WHERE ig.normalizedTitle = :title", Long.class)
+                    .setParameter("title", normalizedTitle)
+                    .setCacheable(true)
+                    .uniqueResult();
+            return count != null && count > 0;
+        }
+    }
+
+    @Override
+    public boolean isIgnoredByInstallPath(String installPath) {
+        if (installPath == null || installPath.isEmpty()) return false;
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            Long count = session.createQuery("SELECT COUNT(ig) FROM IgnoredGame ig WHERE ig.installPath = :path", Long.class)
+                    .setParameter("path", installPath)
+                    .setCacheable(true)
+                    .uniqueResult();
+            return count != null && count > 0;
+        }
+    }
+
+    @Override
+    public void delete(Long id) {
+        Transaction transaction = null;
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            transaction = session.beginTransaction();
+            IgnoredGame ignoredGame = session.get(IgnoredGame.class, id);
+            if (ignoredGame != null) {
+                session.remove(ignoredGame);
+            }
+            transaction.commit();
+            changeListeners.fire();
+        } catch (Exception e) {
+            if (transaction != null) {
+                transaction.rollback();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void deleteByUniqueId(String uniqueId) {
+        Transaction transaction = null;
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            transaction = session.beginTransaction();
+            session.createMutationQuery("DELETE FROM IgnoredGame WHERE uniqueId = :uid")
+                    .setParameter("uid", uniqueId)
+                    .executeUpdate();
+            transaction.commit();
+            changeListeners.fire();
+        } catch (Exception e) {
+            if (transaction != null) {
+                transaction.rollback();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public long count() {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            return session.createQuery("SELECT COUNT(ig) FROM IgnoredGame ig", Long.class).uniqueResult();
+        }
+    }
+
+    @Override
+    public void addChangeListener(Runnable listener) {
+        changeListeners.add(listener);
+    }
+
+    @Override
+    public void removeChangeListener(Runnable listener) {
+        changeListeners.remove(listener);
+    }
+}
@@ -0,0 +1,49 @@
+package com.nexus.repository;
+
+import com.nexus.model.AppSettings;
+import com.nexus.util.HibernateUtil;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+
+/**
+ * SettingsRepository backed by Hibernate Native.
+ */
+public class HibernateSettingsRepository implements SettingsRepository {
+
+    @Override
+    public AppSettings getSettings() {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            AppSettings settings = session.createQuery("FROM AppSettings", AppSettings.class)
+                    .setMaxResults(1)
+                    .setCacheable(true)
+                    .uniqueResult();
+
+            if (settings == null) {
+                settings = save(SettingsRepository.defaults());
+            }
+            return settings;
+        }
+    }
+
+    @Override
+    public AppSettings save(AppSettings settings) {
+        WriteBehindQueue.getInstance().flushBeforeWrite();
+        Transaction transaction = null;
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            transaction = session.beginTransaction();
+            if (settings.getId() == null) {
+                session.persist(settings);
+            } else {
+                settings = session.merge(settings);
+            }
+            transaction.commit();
+            return settings;
+        } catch (Exception e) {
+            if (transaction != null) {
+                transaction.rollback();
+            }
+            throw e;
+        }
+    }
+}
+
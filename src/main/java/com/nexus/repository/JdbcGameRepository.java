@@ -0,0 +1,380 @@
+package com.nexus.repository;
+
+import com.nexus.model.Game;
+import com.nexus.model.GameSummary;
+import com.nexus.model.GameTextMatch;
+import com.nexus.util.Database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * GameRepository on plain JDBC: no ORM bootstrap, no session per call, statements
+ * reused per connection and inserts sent in batches (see JdbcSupport).
+ */
+public class JdbcGameRepository implements GameRepository {
+
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private static final String COLUMNS =
+            "id, app_id, coverImageUrl, description, developer, executablePath, favorite, heroImageUrl, " +
+            "icon_path, install_path, last_played, platform, releaseDate, status, title, total_play_time, unique_id";
+
+    private static final String SELECT = "SELECT " + COLUMNS + " FROM games";
+
+    private static final String SUMMARY_SELECT =
+            "SELECT id, unique_id, title, developer, coverImageUrl, platform, status, favorite FROM games";
+
+    private static final String ORDER = " ORDER BY title, id";
+
+    /** Rows strictly after (title, id) in (title, id) order. */
+    private static final String KEYSET_AFTER = " WHERE title > ? OR (title = ? AND id > ?)";
+
+    private static final String INSERT =
+            "INSERT INTO games (app_id, coverImageUrl, description, developer, executablePath, favorite, " +
+            "heroImageUrl, icon_path, install_path, last_played, platform, releaseDate, status, title, " +
+            "total_play_time, unique_id, id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE =
+            "UPDATE games SET app_id = ?, coverImageUrl = ?, description = ?, developer = ?, executablePath = ?, " +
+            "favorite = ?, heroImageUrl = ?, icon_path = ?, install_path = ?, last_played = ?, platform = ?, " +
+            "releaseDate = ?, status = ?, title = ?, total_play_time = ?, unique_id = ? WHERE id = ?";
+
+    private static final String SEARCH_FULL_TEXT =
+            "SELECT rowid, bm25(games_fts, 10.0, 5.0, 1.0) AS score, snippet(games_fts, -1, ?, ?, '...', 12) " +
+            "FROM games_fts WHERE games_fts MATCH ? ORDER BY score LIMIT ?";
+
+    @Override
+    public Game save(Game game) {
+        // Queued column updates go first, so they cannot land on top of this write
+        WriteBehindQueue.getInstance().flushBeforeWrite();
+        return JdbcSupport.inTransaction(handle -> {
+            write(handle, game);
+            return game;
+        });
+    }
+
+    @Override
+    public List<Game> saveAll(List<Game> games) {
+        WriteBehindQueue.getInstance().flushBeforeWrite();
+        return JdbcSupport.inTransaction(handle -> {
+            List<Game> inserted = new ArrayList<>();
+            PreparedStatement update = handle.prepare(UPDATE);
+            for (Game game : games) {
+                if (game.getId() == null) {
+                    inserted.add(game);
+                } else {
+                    JdbcSupport.bind(update, values(game));
+                    update.addBatch();
+                }
+            }
+            int[] counts = update.executeBatch();
+
+            // Updates of rows deleted meanwhile become inserts, as with Hibernate's merge
+            List<Game> missing = new ArrayList<>();
+            int index = 0;
+            for (Game game : games) {
+                if (game.getId() != null && counts[index++] == 0) {
+                    missing.add(game);
+                }
+            }
+            for (Game game : missing) {
+                handle.update(INSERT, values(game));
+            }
+
+            if (!inserted.isEmpty()) {
+                PreparedStatement insert = handle.prepare(INSERT);
+                for (Game game : inserted) {
+                    JdbcSupport.bind(insert, values(game));
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+                // Within this write transaction SQLite hands out consecutive rowids
+                // (max + 1 each time), so the batch's ids end at the last inserted one
+                long id = handle.lastInsertId() - inserted.size() + 1;
+                for (Game game : inserted) {
+                    game.setId(id++);
+                }
+            }
+            return new ArrayList<>(games);
+        });
+    }
+
+    @Override
+    public Optional<Game> findById(Long id) {
+        return JdbcSupport.read(handle -> handle.first(SELECT + " WHERE id = ?", JdbcGameRepository::mapGame, id));
+    }
+
+    @Override
+    public List<Game> findAll() {
+        return JdbcSupport.read(handle -> handle.list(SELECT + ORDER, JdbcGameRepository::mapGame));
+    }
+
+    @Override
+    public Stream<Game> streamAll() {
+        // The stream keeps a pooled connection and an open cursor until it is closed
+        Connection connection = null;
+        try {
+            connection = Database.getDataSource().getConnection();
+            PreparedStatement statement = connection.prepareStatement(SELECT + ORDER);
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            ResultSet rs = statement.executeQuery();
+            Connection owned = connection;
+            Spliterator<Game> rows = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED) {
+                @Override
+                public boolean tryAdvance(Consumer<? super Game> action) {
+                    try {
+                        if (!rs.next()) return false;
+                        action.accept(mapGame(rs));
+                        return true;
+                    } catch (SQLException e) {
+                        throw new RepositoryException("Streaming games failed: " + e.getMessage(), e);
+                    }
+                }
+            };
+            return StreamSupport.stream(rows, false).onClose(() -> {
+                try {
+                    owned.close();
+                } catch (SQLException e) {
+                    System.err.println("[JdbcGameRepository] Failed to close stream connection: " + e.getMessage());
+                }
+            });
+        } catch (SQLException e) {
+            if (connection != null) {
+                try {
+                    connection.close();
+                } catch (SQLException ignored) {
+                    // Already failing
+                }
+            }
+            throw new RepositoryException("Streaming games failed: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<Game> findPageAfter(Game after, int limit) {
+        return JdbcSupport.read(handle -> after == null
+                ? handle.list(SELECT + ORDER + " LIMIT ?", JdbcGameRepository::mapGame, limit)
+                : handle.list(SELECT + KEYSET_AFTER + ORDER + " LIMIT ?", JdbcGameRepository::mapGame,
+                        after.getTitle(), after.getTitle(), after.getId(), limit));
+    }
+
+    @Override
+    public List<GameSummary> findSummaryPageAfter(GameSummary after, int limit) {
+        return JdbcSupport.read(handle -> after == null
+                ? handle.list(SUMMARY_SELECT + ORDER + " LIMIT ?", JdbcGameRepository::mapSummary, limit)
+                : handle.list(SUMMARY_SELECT + KEYSET_AFTER + ORDER + " LIMIT ?", JdbcGameRepository::mapSummary,
+                        after.title(), after.title(), after.id(), limit));
+    }
+
+    @Override
+    public List<GameSummary> findAllSummaries() {
+        return JdbcSupport.read(handle -> handle.list(SUMMARY_SELECT + ORDER, JdbcGameRepository::mapSummary));
+    }
+
+    @Override
+    public List<Long> findIdsNeedingMetadata() {
+        return JdbcSupport.read(handle -> handle.list(
+                "SELECT id FROM games " +
+                "WHERE coverImageUrl IS NULL OR coverImageUrl = '' OR coverImageUrl LIKE '/assets/%' " +
+                "OR description IS NULL OR description = '' OR description LIKE 'No description%'",
+                rs -> rs.getLong(1)));
+    }
+
+    @Override
+    public List<GameTextMatch> searchFullText(String query, int limit) {
+        String match = GameQueries.toMatchExpression(query);
+        if (match == null) {
+            return List.of();
+        }
+        return JdbcSupport.read(handle -> handle.list(SEARCH_FULL_TEXT,
+                rs -> new GameTextMatch(rs.getLong(1), rs.getDouble(2), rs.getString(3)),
+                GameTextMatch.HIGHLIGHT_START, GameTextMatch.HIGHLIGHT_END, match, limit));
+    }
+
+    @Override
+    public List<Game> findByFavorite(boolean favorite) {
+        return JdbcSupport.read(handle ->
+                handle.list(SELECT + " WHERE favorite = ? ORDER BY title", JdbcGameRepository::mapGame, favorite));
+    }
+
+    @Override
+    public List<Game> searchByTitle(String keyword) {
+        return JdbcSupport.read(handle -> handle.list(SELECT + " WHERE LOWER(title) LIKE LOWER(?) ORDER BY title",
+                JdbcGameRepository::mapGame, "%" + keyword + "%"));
+    }
+
+    @Override
+    public List<Game> findByPlatform(Game.Platform platform) {
+        return JdbcSupport.read(handle ->
+                handle.list(SELECT + " WHERE platform = ? ORDER BY title", JdbcGameRepository::mapGame, platform));
+    }
+
+    @Override
+    public void delete(Long id) {
+        JdbcSupport.inTransaction(handle -> handle.update("DELETE FROM games WHERE id = ?", id));
+    }
+
+    @Override
+    public long count() {
+        return JdbcSupport.read(handle -> handle.count("SELECT COUNT(*) FROM games"));
+    }
+
+    @Override
+    public void updateFavorite(Long id, boolean favorite) {
+        JdbcSupport.inTransaction(handle -> handle.update("UPDATE games SET favorite = ? WHERE id = ?", favorite, id));
+    }
+
+    @Override
+    public Optional<Game> findByUniqueId(String uniqueId) {
+        return JdbcSupport.read(handle ->
+                handle.first(SELECT + " WHERE unique_id = ?", JdbcGameRepository::mapGame, uniqueId));
+    }
+
+    @Override
+    public List<String> findAllUniqueIds() {
+        return JdbcSupport.read(handle ->
+                handle.list("SELECT unique_id FROM games WHERE unique_id IS NOT NULL", rs -> rs.getString(1)));
+    }
+
+    @Override
+    public int deleteNotIn(List<String> uniqueIds) {
+        if (uniqueIds == null || uniqueIds.isEmpty()) {
+            return 0;
+        }
+        // The ids go in as one JSON array, so the statement stays the same (and cached)
+        // whatever the size of the list, with no bound-parameter limit
+        return JdbcSupport.inTransaction(handle -> handle.update(
+                "DELETE FROM games WHERE unique_id NOT IN (SELECT value FROM json_each(?)) AND platform != 'MANUAL'",
+                toJsonArray(uniqueIds)));
+    }
+
+    @Override
+    public int deleteDuplicates() {
+        return JdbcSupport.inTransaction(handle -> handle.update(GameQueries.DELETE_DUPLICATES));
+    }
+
+    @Override
+    public int replaceScanned(List<Game> scannedGames) {
+        if (scannedGames == null || scannedGames.isEmpty()) {
+            return 0;
+        }
+        WriteBehindQueue.getInstance().flushBeforeWrite();
+        // Staging has a transaction of its own; only the swap below writes to games
+        JdbcSupport.inTransaction(handle -> {
+            handle.update(GameQueries.CLEAR_STAGING);
+            PreparedStatement insert = handle.prepare(GameQueries.INSERT_STAGING);
+            for (Game game : scannedGames) {
+                if (game.getUniqueId() == null) continue;
+                JdbcSupport.bind(insert, GameQueries.stagingValues(game));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+            return null;
+        });
+        return JdbcSupport.inTransaction(handle -> {
+            handle.update(GameQueries.SWAP_UPDATE);
+            handle.update(GameQueries.SWAP_INSERT);
+            int deleted = handle.update(GameQueries.SWAP_DELETE);
+            handle.update(GameQueries.CLEAR_STAGING);
+            return deleted;
+        });
+    }
+
+    @Override
+    public int deleteAll() {
+        return JdbcSupport.inTransaction(handle -> handle.update("DELETE FROM games"));
+    }
+
+    /**
+     * Inserts or updates one game, assigning the id of a new row.
+     */
+    private static void write(JdbcSupport.Handle handle, Game game) throws SQLException {
+        if (game.getId() != null && handle.update(UPDATE, values(game)) > 0) {
+            return;
+        }
+        handle.update(INSERT, values(game));
+        if (game.getId() == null) {
+            game.setId(handle.lastInsertId());
+        }
+    }
+
+    /**
+     * Column values in INSERT/UPDATE parameter order (id last).
+     */
+    private static Object[] values(Game game) {
+        return new Object[]{
+                game.getAppId(), game.getCoverImageUrl(), game.getDescription(), game.getDeveloper(),
+                game.getExecutablePath(), game.isFavorite(), game.getHeroImageUrl(), game.getIconPath(),
+                game.getInstallPath(), game.getLastPlayed(), game.getPlatform(), game.getReleaseDate(),
+                game.getStatus(), game.getTitle(), game.getTotalPlayTime(), game.getUniqueId(), game.getId()
+        };
+    }
+
+    private static Game mapGame(ResultSet rs) throws SQLException {
+        Game game = new Game();
+        game.setId(rs.getLong("id"));
+        game.setAppId(rs.getString("app_id"));
+        game.setCoverImageUrl(rs.getString("coverImageUrl"));
+        game.setDescription(rs.getString("description"));
+        game.setDeveloper(rs.getString("developer"));
+        game.setExecutablePath(rs.getString("executablePath"));
+        game.setFavorite(rs.getBoolean("favorite"));
+        game.setHeroImageUrl(rs.getString("heroImageUrl"));
+        game.setIconPath(rs.getString("icon_path"));
+        game.setInstallPath(rs.getString("install_path"));
+        game.setLastPlayed(JdbcSupport.getDateTime(rs, "last_played"));
+        game.setPlatform(enumValue(Game.Platform.class, rs.getString("platform")));
+        game.setReleaseDate(rs.getString("releaseDate"));
+        game.setStatus(enumValue(Game.Status.class, rs.getString("status")));
+        game.setTitle(rs.getString("title"));
+        game.setTotalPlayTime(rs.getLong("total_play_time"));
+        game.setUniqueId(rs.getString("unique_id"));
+        return game;
+    }
+
+    private static GameSummary mapSummary(ResultSet rs) throws SQLException {
+        return new GameSummary(rs.getLong("id"), rs.getString("unique_id"), rs.getString("title"),
+                rs.getString("developer"), rs.getString("coverImageUrl"),
+                enumValue(Game.Platform.class, rs.getString("platform")),
+                enumValue(Game.Status.class, rs.getString("status")), rs.getBoolean("favorite"));
+    }
+
+    private static <E extends Enum<E>> E enumValue(Class<E> type, String name) {
+        return name != null ? Enum.valueOf(type, name) : null;
+    }
+
+    private static String toJsonArray(List<String> values) {
+        StringBuilder json = new StringBuilder("[");
+        for (String value : values) {
+            if (value == null) continue;
+            if (json.length() > 1) json.append(',');
+            json.append('"');
+            for (char c : value.toCharArray()) {
+                switch (c) {
+                    case '"' -> json.append("\\\"");
+                    case '\\' -> json.append("\\\\");
+                    default -> {
+                        if (c < 0x20) {
+                            json.append(String.format("\\u%04x", (int) c));
+                        } else {
+                            json.append(c);
+                        }
+                    }
+                }
+            }
+            json.append('"');
+        }
+        return json.append(']').toString();
+    }
+}
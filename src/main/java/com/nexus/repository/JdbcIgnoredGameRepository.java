@@ -0,0 +1,140 @@
+package com.nexus.repository;
+
+import com.nexus.model.IgnoredGame;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * IgnoredGameRepository on plain JDBC (see JdbcSupport).
+ */
+public class JdbcIgnoredGameRepository implements IgnoredGameRepository {
+
+    private static final String SELECT =
+            "SELECT id, ignored_at, install_path, normalized_title, title, unique_id, rule_type FROM ignored_games";
+
+    private final ChangeListeners changeListeners = new ChangeListeners("JdbcIgnoredGameRepository");
+
+    @Override
+    public IgnoredGame save(IgnoredGame ignoredGame) {
+        IgnoredGame saved = JdbcSupport.inTransaction(handle -> {
+            Object[] values = {ignoredGame.getIgnoredAt(), ignoredGame.getInstallPath(),
+                    ignoredGame.getNormalizedTitle(), ignoredGame.getTitle(), ignoredGame.getUniqueId(),
+                    ignoredGame.getRuleType().name(), ignoredGame.getId()};
+            if (ignoredGame.getId() != null && handle.update("UPDATE ignored_games SET ignored_at = ?, " +
+                    "install_path = ?, normalized_title = ?, title = ?, unique_id = ?, rule_type = ? WHERE id = ?",
+                    values) > 0) {
+                return ignoredGame;
+            }
+            handle.update("INSERT INTO ignored_games (ignored_at, install_path, normalized_title, title, unique_id, " +
+                    "rule_type, id) VALUES (?, ?, ?, ?, ?, ?, ?)", values);
+            if (ignoredGame.getId() == null) {
+                ignoredGame.setId(handle.lastInsertId());
+            }
+            return ignoredGame;
+        });
+        changeListeners.fire();
+        return saved;
+    }
+
+    @Override
+    public Optional<IgnoredGame> findById(Long id) {
+        return JdbcSupport.read(handle -> handle.first(SELECT + " WHERE id = ?", JdbcIgnoredGameRepository::map, id));
+    }
+
+    @Override
+    public List<IgnoredGame> findAll() {
+        return JdbcSupport.read(handle -> handle.list(SELECT + " ORDER BY title", JdbcIgnoredGameRepository::map));
+    }
+
+    @Override
+    public Optional<IgnoredGame> findByUniqueId(String uniqueId) {
+        return JdbcSupport.read(handle ->
+                handle.first(SELECT + " WHERE unique_id = ?", JdbcIgnoredGameRepository::map, uniqueId));
+    }
+
+    @Override
+    public Optional<IgnoredGame> findByInstallPath(String installPath) {
+        return JdbcSupport.read(handle ->
+                handle.first(SELECT + " WHERE install_path = ?", JdbcIgnoredGameRepository::map, installPath));
+    }
+
+    @Override
+    public boolean isIgnored(String uniqueId) {
+        return JdbcSupport.read(handle ->
+                handle.count("SELECT COUNT(*) FROM ignored_games WHERE unique_id = ?", uniqueId) > 0);
+    }
+
+    @Override
+    public List<String> findAllUniqueIds() {
+        return JdbcSupport.read(handle ->
+                handle.list("SELECT unique_id FROM ignored_games WHERE unique_id IS NOT NULL", rs -> rs.getString(1)));
+    }
+
+    @Override
+    public List<String> findAllNormalizedTitles() {
+        return JdbcSupport.read(handle -> handle.list(
+                "SELECT normalized_title FROM ignored_games WHERE normalized_title IS NOT NULL", rs -> rs.getString(1)));
+    }
+
+    @Override
+    public List<String> findAllInstallPaths() {
+        return JdbcSupport.read(handle ->
+                handle.list("SELECT install_path FROM ignored_games WHERE install_path IS NOT NULL", rs -> rs.getString(1)));
+    }
+
+    @Override
+    public boolean isIgnoredByNormalizedTitle(String normalizedTitle) {
+        return JdbcSupport.read(handle ->
+                handle.count("SELECT COUNT(*) FROM ignored_games WHERE normalized_title = ?", normalizedTitle) > 0);
+    }
+
+    @Override
+    public boolean isIgnoredByInstallPath(String installPath) {
+        if (installPath == null || installPath.isEmpty()) return false;
+        return JdbcSupport.read(handle ->
+                handle.count("SELECT COUNT(*) FROM ignored_games WHERE install_path = ?", installPath) > 0);
+    }
+
+    @Override
+    public void delete(Long id) {
+        JdbcSupport.inTransaction(handle -> handle.update("DELETE FROM ignored_games WHERE id = ?", id));
+        changeListeners.fire();
+    }
+
+    @Override
+    public void deleteByUniqueId(String uniqueId) {
+        JdbcSupport.inTransaction(handle -> handle.update("DELETE FROM ignored_games WHERE unique_id = ?", uniqueId));
+        changeListeners.fire();
+    }
+
+    @Override
+    public long count() {
+        return JdbcSupport.read(handle -> handle.count("SELECT COUNT(*) FROM ignored_games"));
+    }
+
+    @Override
+    public void addChangeListener(Runnable listener) {
+        changeListeners.add(listener);
+    }
+
+    @Override
+    public void removeChangeListener(Runnable listener) {
+        changeListeners.remove(listener);
+    }
+
+    private static IgnoredGame map(ResultSet rs) throws SQLException {
+        IgnoredGame ignoredGame = new IgnoredGame();
+        ignoredGame.setId(rs.getLong("id"));
+        ignoredGame.setIgnoredAt(JdbcSupport.getDateTime(rs, "ignored_at"));
+        ignoredGame.setInstallPath(rs.getString("install_path"));
+        ignoredGame.setTitle(rs.getString("title"));
+        // After setTitle, which derives a normalized title of its own
+        ignoredGame.setNormalizedTitle(rs.getString("normalized_title"));
+        ignoredGame.setUniqueId(rs.getString("unique_id"));
+        ignoredGame.setRuleType(IgnoredGame.RuleType.valueOf(rs.getString("rule_type")));
+        return ignoredGame;
+    }
+}
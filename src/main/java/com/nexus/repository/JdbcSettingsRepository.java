@@ -0,0 +1,50 @@
+package com.nexus.repository;
+
+import com.nexus.model.AppSettings;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * SettingsRepository on plain JDBC (see JdbcSupport).
+ */
+public class JdbcSettingsRepository implements SettingsRepository {
+
+    @Override
+    public AppSettings getSettings() {
+        AppSettings settings = JdbcSupport.read(handle -> handle.first(
+                "SELECT id, closeToTray, darkMode, epicGamesPath, launchOnStartup, steamLibraryPath " +
+                "FROM app_settings LIMIT 1", JdbcSettingsRepository::map).orElse(null));
+        return settings != null ? settings : save(SettingsRepository.defaults());
+    }
+
+    @Override
+    public AppSettings save(AppSettings settings) {
+        WriteBehindQueue.getInstance().flushBeforeWrite();
+        return JdbcSupport.inTransaction(handle -> {
+            Object[] values = {settings.isCloseToTray(), settings.isDarkMode(), settings.getEpicGamesPath(),
+                    settings.isLaunchOnStartup(), settings.getSteamLibraryPath(), settings.getId()};
+            if (settings.getId() != null && handle.update("UPDATE app_settings SET closeToTray = ?, darkMode = ?, " +
+                    "epicGamesPath = ?, launchOnStartup = ?, steamLibraryPath = ? WHERE id = ?", values) > 0) {
+                return settings;
+            }
+            handle.update("INSERT INTO app_settings (closeToTray, darkMode, epicGamesPath, launchOnStartup, " +
+                    "steamLibraryPath, id) VALUES (?, ?, ?, ?, ?, ?)", values);
+            if (settings.getId() == null) {
+                settings.setId(handle.lastInsertId());
+            }
+            return settings;
+        });
+    }
+
+    private static AppSettings map(ResultSet rs) throws SQLException {
+        AppSettings settings = new AppSettings();
+        settings.setId(rs.getLong("id"));
+        settings.setCloseToTray(rs.getBoolean("closeToTray"));
+        settings.setDarkMode(rs.getBoolean("darkMode"));
+        settings.setEpicGamesPath(rs.getString("epicGamesPath"));
+        settings.setLaunchOnStartup(rs.getBoolean("launchOnStartup"));
+        settings.setSteamLibraryPath(rs.getString("steamLibraryPath"));
+        return settings;
+    }
+}
@@ -0,0 +1,198 @@
+package com.nexus.repository;
+
+import com.nexus.util.Database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Plain JDBC plumbing shared by the Jdbc*Repository classes.
+ *
+ * Work runs on a connection borrowed from the shared pool (see Database), either in
+ * auto-commit mode or in one transaction. Prepared statements are kept per physical
+ * connection and reused on every later borrow of that connection, so each SQL string
+ * is parsed by SQLite once per connection instead of once per call. A pooled connection
+ * is only ever used by the thread that borrowed it, so its statements are too.
+ *
+ * Values are bound the way Hibernate stores them: enums by name, booleans as 0/1 and
+ * LocalDateTime as a JDBC timestamp, so both implementations read each other's rows.
+ */
+final class JdbcSupport {
+
+    @FunctionalInterface
+    interface Work<T> {
+        T run(Handle handle) throws SQLException;
+    }
+
+    @FunctionalInterface
+    interface RowMapper<T> {
+        T map(ResultSet rs) throws SQLException;
+    }
+
+    /** Prepared statements by physical connection, then by SQL. */
+    private static final Map<Connection, Map<String, PreparedStatement>> statements = new IdentityHashMap<>();
+
+    private JdbcSupport() {
+    }
+
+    /**
+     * Runs work in auto-commit mode.
+     */
+    static <T> T read(Work<T> work) {
+        try (Connection connection = Database.getDataSource().getConnection()) {
+            return work.run(new Handle(connection));
+        } catch (SQLException e) {
+            throw new RepositoryException("Database read failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Runs work in one transaction, rolled back if it throws.
+     */
+    static <T> T inTransaction(Work<T> work) {
+        try (Connection connection = Database.getDataSource().getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                T result = work.run(new Handle(connection));
+                connection.commit();
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new RepositoryException("Database write failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the cached statement for this SQL on a physical connection, preparing it
+     * on first use. Entries of closed (retired) connections are dropped along the way.
+     */
+    private static PreparedStatement statement(Connection physical, String sql) throws SQLException {
+        synchronized (statements) {
+            Map<String, PreparedStatement> cache = statements.get(physical);
+            if (cache == null) {
+                statements.keySet().removeIf(JdbcSupport::isClosed);
+                cache = new HashMap<>();
+                statements.put(physical, cache);
+            }
+            PreparedStatement statement = cache.get(sql);
+            if (statement == null || statement.isClosed()) {
+                statement = physical.prepareStatement(sql);
+                cache.put(sql, statement);
+            }
+            return statement;
+        }
+    }
+
+    private static boolean isClosed(Connection connection) {
+        try {
+            return connection.isClosed();
+        } catch (SQLException e) {
+            return true;
+        }
+    }
+
+    static void bind(PreparedStatement statement, Object... params) throws SQLException {
+        for (int i = 0; i < params.length; i++) {
+            Object value = params[i];
+            if (value instanceof LocalDateTime dateTime) {
+                statement.setTimestamp(i + 1, Timestamp.valueOf(dateTime));
+            } else if (value instanceof Enum<?> constant) {
+                statement.setString(i + 1, constant.name());
+            } else {
+                statement.setObject(i + 1, value);
+            }
+        }
+    }
+
+    static LocalDateTime getDateTime(ResultSet rs, String column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    static Long getLong(ResultSet rs, String column) throws SQLException {
+        long value = rs.getLong(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    /**
+     * A borrowed connection with access to its reusable statements.
+     */
+    static final class Handle {
+        private final Connection physical;
+
+        private Handle(Connection pooled) throws SQLException {
+            // The pool wraps connections in a proxy that closes the statements it hands
+            // out; statements prepared on the physical connection outlive the borrow.
+            this.physical = pooled.unwrap(Connection.class);
+        }
+
+        /**
+         * Cached statement for this SQL, with its parameters and batch cleared.
+         */
+        PreparedStatement prepare(String sql) throws SQLException {
+            PreparedStatement statement = statement(physical, sql);
+            statement.clearParameters();
+            statement.clearBatch();
+            return statement;
+        }
+
+        /**
+         * A statement that is not cached, for one-off SQL (e.g. a variable IN list). Close it.
+         */
+        PreparedStatement prepareOnce(String sql) throws SQLException {
+            return physical.prepareStatement(sql);
+        }
+
+        <T> List<T> list(String sql, RowMapper<T> mapper, Object... params) throws SQLException {
+            PreparedStatement statement = prepare(sql);
+            bind(statement, params);
+            List<T> rows = new ArrayList<>();
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    rows.add(mapper.map(rs));
+                }
+            }
+            return rows;
+        }
+
+        <T> Optional<T> first(String sql, RowMapper<T> mapper, Object... params) throws SQLException {
+            PreparedStatement statement = prepare(sql);
+            bind(statement, params);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? Optional.ofNullable(mapper.map(rs)) : Optional.empty();
+            }
+        }
+
+        long count(String sql, Object... params) throws SQLException {
+            return first(sql, rs -> rs.getLong(1), params).orElse(0L);
+        }
+
+        int update(String sql, Object... params) throws SQLException {
+            PreparedStatement statement = prepare(sql);
+            bind(statement, params);
+            return statement.executeUpdate();
+        }
+
+        /**
+         * Rowid of the last row inserted on this connection.
+         */
+        long lastInsertId() throws SQLException {
+            return count("SELECT last_insert_rowid()");
+        }
+    }
+}
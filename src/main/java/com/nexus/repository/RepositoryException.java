@@ -0,0 +1,12 @@
+package com.nexus.repository;
+
+/**
+ * Unchecked wrapper for SQLExceptions thrown by the JDBC repositories, so callers
+ * handle failures the same way for every repository implementation.
+ */
+public class RepositoryException extends RuntimeException {
+
+    public RepositoryException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,89 @@
+package com.nexus.repository;
+
+import com.nexus.util.AppConfig;
+import com.nexus.util.Database;
+import com.nexus.util.HibernateUtil;
+
+/**
+ * Hands out the repository implementations selected by {@code nexus.repository}
+ * (see AppConfig): {@code hibernate} (default, with the second-level cache) or
+ * {@code jdbc}, which skips building the Hibernate SessionFactory altogether.
+ *
+ * Both work on the same schema and data, so the setting can be switched freely,
+ * but one process uses one implementation: Hibernate's cache would not see JDBC writes.
+ */
+public class RepositoryFactory {
+
+    public enum Backend {
+        HIBERNATE,
+        JDBC
+    }
+
+    private static Backend backend;
+    private static GameRepository gameRepository;
+    private static IgnoredGameRepository ignoredGameRepository;
+    private static SettingsRepository settingsRepository;
+
+    private RepositoryFactory() {
+    }
+
+    /**
+     * The configured implementation, fixed on first use until {@link #shutdown()}.
+     */
+    public static synchronized Backend getBackend() {
+        if (backend == null) {
+            String configured = AppConfig.get("nexus.repository", "hibernate");
+            backend = "jdbc".equalsIgnoreCase(configured) ? Backend.JDBC : Backend.HIBERNATE;
+            System.out.println("[RepositoryFactory] Using " + backend + " repositories");
+        }
+        return backend;
+    }
+
+    public static synchronized GameRepository getGameRepository() {
+        if (gameRepository == null) {
+            gameRepository = getBackend() == Backend.JDBC ? new JdbcGameRepository() : new HibernateGameRepository();
+        }
+        return gameRepository;
+    }
+
+    public static synchronized IgnoredGameRepository getIgnoredGameRepository() {
+        if (ignoredGameRepository == null) {
+            ignoredGameRepository = getBackend() == Backend.JDBC
+                    ? new JdbcIgnoredGameRepository() : new HibernateIgnoredGameRepository();
+        }
+        return ignoredGameRepository;
+    }
+
+    public static synchronized SettingsRepository getSettingsRepository() {
+        if (settingsRepository == null) {
+            settingsRepository = getBackend() == Backend.JDBC
+                    ? new JdbcSettingsRepository() : new HibernateSettingsRepository();
+        }
+        return settingsRepository;
+    }
+
+    /**
+     * Opens the database (migrating the schema) and, for Hibernate, builds the SessionFactory.
+     * Blocking: call from a background thread.
+     */
+    public static void initialize() {
+        if (getBackend() == Backend.JDBC) {
+            Database.getDataSource();
+            System.out.println("[RepositoryFactory] Database initialized successfully");
+        } else {
+            HibernateUtil.initialize();
+        }
+    }
+
+    /**
+     * Closes Hibernate (if it was started) and the database. The next use re-reads the configuration.
+     */
+    public static synchronized void shutdown() {
+        HibernateUtil.shutdown();
+        Database.shutdown();
+        backend = null;
+        gameRepository = null;
+        ignoredGameRepository = null;
+        settingsRepository = null;
+    }
+}
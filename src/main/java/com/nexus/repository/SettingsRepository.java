@@ -1,70 +1,49 @@
 package com.nexus.repository;
 
 import com.nexus.model.AppSettings;
-import com.nexus.util.HibernateUtil;
-import org.hibernate.Session;
-import org.hibernate.Transaction;
 
 /**
- * Repository for AppSettings entity operations using Hibernate Native.
+ * Repository for AppSettings operations.
+ * Implemented with Hibernate and with plain JDBC; see RepositoryFactory.
  */
-public class SettingsRepository {
+public interface SettingsRepository {
 
     /**
      * Get the app settings (creates default if not exists).
      */
-    public AppSettings getSettings() {
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            AppSettings settings = session.createQuery("FROM AppSettings", AppSettings.class)
-                    .setMaxResults(1)
-                    .uniqueResult();
-
-            if (settings == null) {
-                settings = new AppSettings();
-                settings.setDarkMode(true);
-                settings.setLaunchOnStartup(false);
-                settings.setCloseToTray(false);
-                save(settings);
-            }
-            return settings;
-        }
-    }
+    AppSettings getSettings();
 
     /**
      * Save or update app settings.
      */
-    public AppSettings save(AppSettings settings) {
-        Transaction transaction = null;
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            transaction = session.beginTransaction();
-            if (settings.getId() == null) {
-                session.persist(settings);
-            } else {
-                settings = session.merge(settings);
-            }
-            transaction.commit();
-            return settings;
-        } catch (Exception e) {
-            if (transaction != null) {
-                transaction.rollback();
-            }
-            throw e;
+    AppSettings save(AppSettings settings);
+
+    /**
+     * Update a specific setting. Written behind (see WriteBehindQueue), so this never
+     * blocks; the flush creates the settings row with defaults if there is none yet.
+     */
+    default void updateSetting(String settingName, Object value) {
+        WriteBehindQueue.Field field = switch (settingName) {
+            case "launchOnStartup" -> WriteBehindQueue.Field.SETTINGS_LAUNCH_ON_STARTUP;
+            case "closeToTray" -> WriteBehindQueue.Field.SETTINGS_CLOSE_TO_TRAY;
+            case "darkMode" -> WriteBehindQueue.Field.SETTINGS_DARK_MODE;
+            case "steamLibraryPath" -> WriteBehindQueue.Field.SETTINGS_STEAM_LIBRARY_PATH;
+            case "epicGamesPath" -> WriteBehindQueue.Field.SETTINGS_EPIC_GAMES_PATH;
+            default -> null;
+        };
+        if (field != null) {
+            WriteBehindQueue.getInstance().enqueue(field, null, value);
         }
     }
 
     /**
-     * Update a specific setting.
+     * Settings defaults for a fresh database.
      */
-    public void updateSetting(String settingName, Object value) {
-        AppSettings settings = getSettings();
-        switch (settingName) {
-            case "launchOnStartup" -> settings.setLaunchOnStartup((Boolean) value);
-            case "closeToTray" -> settings.setCloseToTray((Boolean) value);
-            case "darkMode" -> settings.setDarkMode((Boolean) value);
-            case "steamLibraryPath" -> settings.setSteamLibraryPath((String) value);
-            case "epicGamesPath" -> settings.setEpicGamesPath((String) value);
-        }
-        save(settings);
+    static AppSettings defaults() {
+        AppSettings settings = new AppSettings();
+        settings.setDarkMode(true);
+        settings.setLaunchOnStartup(false);
+        settings.setCloseToTray(false);
+        return settings;
     }
 }
-
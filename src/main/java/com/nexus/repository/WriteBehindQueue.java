@@ -0,0 +1,275 @@
+package com.nexus.repository;
+
+import com.nexus.model.AppSettings;
+import com.nexus.model.Game;
+import com.nexus.util.HibernateUtil;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Write-behind queue for small single-column updates (favorite toggles, last played,
+ * metadata backfill, settings toggles).
+ *
+ * Callers change the in-memory object, enqueue the new value and return immediately;
+ * nothing on the UI path waits on SQLite. Pending values are coalesced per entity and
+ * field (only the latest value is written) and flushed every {@value #FLUSH_INTERVAL_MS} ms,
+ * all in one transaction.
+ *
+ * Ordering: flushes run one at a time and each batch commits atomically, so a later
+ * update never becomes durable before an earlier one. Code that writes whole entities
+ * directly calls {@link #flushBeforeWrite()} first so a queued value cannot overwrite it
+ * afterwards. {@link #shutdown()} flushes whatever is left when the app closes.
+ */
+public class WriteBehindQueue {
+
+    private static final long FLUSH_INTERVAL_MS = 500;
+
+    /**
+     * Columns that can be written behind: the entity setter used with Hibernate and the
+     * SQL table/column used with JDBC. For AppSettings there is a single row, so the id
+     * is ignored.
+     */
+    public enum Field {
+        GAME_FAVORITE("games", "favorite", (game, value) -> game.setFavorite((Boolean) value)),
+        GAME_LAST_PLAYED("games", "last_played", (game, value) -> game.setLastPlayed((LocalDateTime) value)),
+        GAME_DESCRIPTION("games", "description", (game, value) -> game.setDescription((String) value)),
+        GAME_DEVELOPER("games", "developer", (game, value) -> game.setDeveloper((String) value)),
+        GAME_COVER_IMAGE_URL("games", "coverImageUrl", (game, value) -> game.setCoverImageUrl((String) value)),
+        GAME_HERO_IMAGE_URL("games", "heroImageUrl", (game, value) -> game.setHeroImageUrl((String) value)),
+        SETTINGS_LAUNCH_ON_STARTUP("launchOnStartup",
+                (settings, value) -> settings.setLaunchOnStartup((Boolean) value)),
+        SETTINGS_CLOSE_TO_TRAY("closeToTray", (settings, value) -> settings.setCloseToTray((Boolean) value)),
+        SETTINGS_DARK_MODE("darkMode", (settings, value) -> settings.setDarkMode((Boolean) value)),
+        SETTINGS_STEAM_LIBRARY_PATH("steamLibraryPath",
+                (settings, value) -> settings.setSteamLibraryPath((String) value)),
+        SETTINGS_EPIC_GAMES_PATH("epicGamesPath", (settings, value) -> settings.setEpicGamesPath((String) value));
+
+        private final String sql;
+        private final boolean singleRow;
+        private final BiConsumer<Game, Object> gameSetter;
+        private final BiConsumer<AppSettings, Object> settingsSetter;
+
+        Field(String table, String column, BiConsumer<Game, Object> gameSetter) {
+            this.singleRow = false;
+            this.sql = "UPDATE " + table + " SET " + column + " = ? WHERE id = ?";
+            this.gameSetter = gameSetter;
+            this.settingsSetter = null;
+        }
+
+        Field(String column, BiConsumer<AppSettings, Object> settingsSetter) {
+            this.singleRow = true;
+            this.sql = "UPDATE app_settings SET " + column + " = ?";
+            this.gameSetter = null;
+            this.settingsSetter = settingsSetter;
+        }
+    }
+
+    /** Creates the settings row with defaults if a settings update finds none. */
+    private static final String INSERT_DEFAULT_SETTINGS =
+            "INSERT INTO app_settings (closeToTray, darkMode, epicGamesPath, launchOnStartup, steamLibraryPath) " +
+            "SELECT ?, ?, ?, ?, ? WHERE NOT EXISTS (SELECT 1 FROM app_settings)";
+
+    private static WriteBehindQueue instance;
+
+    private final Object lock = new Object();
+    private final Object flushLock = new Object();
+    private Map<Key, Object> pending = new LinkedHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private volatile boolean shutdown;
+
+    private WriteBehindQueue() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    public static synchronized WriteBehindQueue getInstance() {
+        if (instance == null) {
+            instance = new WriteBehindQueue();
+        }
+        return instance;
+    }
+
+    /**
+     * Queues a column update; replaces any value still pending for the same entity and field.
+     *
+     * @param id Entity id (ignored for settings fields)
+     */
+    public void enqueue(Field field, Long id, Object value) {
+        if (!field.singleRow && id == null) {
+            throw new IllegalArgumentException("An id is required for " + field);
+        }
+        Key key = new Key(field, field.singleRow ? null : id);
+        synchronized (lock) {
+            // Re-insert so the entry takes the position of its latest update
+            pending.remove(key);
+            pending.put(key, value);
+        }
+        if (shutdown) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes all pending updates now, in one transaction. Blocking.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            Map<Key, Object> batch;
+            synchronized (lock) {
+                if (pending.isEmpty()) return;
+                batch = pending;
+                pending = new LinkedHashMap<>();
+            }
+
+            try {
+                if (RepositoryFactory.getBackend() == RepositoryFactory.Backend.JDBC) {
+                    writeWithJdbc(batch);
+                } else {
+                    writeWithHibernate(batch);
+                }
+            } catch (RuntimeException e) {
+                requeue(batch);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Loads each changed entity in the flush session and sets the field, so Hibernate
+     * updates just those entries of the second-level cache instead of evicting whole
+     * regions as a bulk update would.
+     */
+    private static void writeWithHibernate(Map<Key, Object> batch) {
+        Transaction transaction = null;
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            transaction = session.beginTransaction();
+            AppSettings settings = null;
+            for (Map.Entry<Key, Object> entry : batch.entrySet()) {
+                Field field = entry.getKey().field;
+                if (field.singleRow) {
+                    if (settings == null) {
+                        settings = session.createQuery("FROM AppSettings", AppSettings.class)
+                                .setMaxResults(1)
+                                .uniqueResult();
+                        if (settings == null) {
+                            settings = SettingsRepository.defaults();
+                            session.persist(settings);
+                        }
+                    }
+                    field.settingsSetter.accept(settings, entry.getValue());
+                } else {
+                    Game game = session.get(Game.class, entry.getKey().id);
+                    // Deleted since the update was queued
+                    if (game != null) {
+                        field.gameSetter.accept(game, entry.getValue());
+                    }
+                }
+            }
+            transaction.commit();
+        } catch (RuntimeException e) {
+            if (transaction != null) {
+                transaction.rollback();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * One JDBC batch per field. Every key is a distinct row and column, so grouping
+     * the updates by field does not change the outcome.
+     */
+    private static void writeWithJdbc(Map<Key, Object> batch) {
+        JdbcSupport.inTransaction(handle -> {
+            if (batch.keySet().stream().anyMatch(key -> key.field.singleRow)) {
+                AppSettings defaults = SettingsRepository.defaults();
+                handle.update(INSERT_DEFAULT_SETTINGS, defaults.isCloseToTray(), defaults.isDarkMode(),
+                        defaults.getEpicGamesPath(), defaults.isLaunchOnStartup(), defaults.getSteamLibraryPath());
+            }
+            Map<Field, PreparedStatement> statements = new EnumMap<>(Field.class);
+            for (Map.Entry<Key, Object> entry : batch.entrySet()) {
+                Field field = entry.getKey().field;
+                PreparedStatement statement = statements.get(field);
+                if (statement == null) {
+                    statement = handle.prepare(field.sql);
+                    statements.put(field, statement);
+                }
+                if (field.singleRow) {
+                    JdbcSupport.bind(statement, entry.getValue());
+                } else {
+                    JdbcSupport.bind(statement, entry.getValue(), entry.getKey().id);
+                }
+                statement.addBatch();
+            }
+            for (PreparedStatement statement : statements.values()) {
+                statement.executeBatch();
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Stops the periodic flush and writes what is left. Later updates are written immediately.
+     */
+    public void shutdown() {
+        shutdown = true;
+        scheduler.shutdown();
+        flush();
+        System.out.println("[WriteBehindQueue] Flushed pending updates on shutdown");
+    }
+
+    public int getPendingCount() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * Flushes before a direct write to the same rows. Never throws: if the flush fails, the
+     * updates stay queued for the next periodic attempt and the caller's own write goes
+     * ahead, so one bad batch cannot block every save.
+     */
+    public void flushBeforeWrite() {
+        flushQuietly();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            System.err.println("[WriteBehindQueue] Flush failed, will retry: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Puts a failed batch back in front of anything queued since; newer values win.
+     */
+    private void requeue(Map<Key, Object> batch) {
+        synchronized (lock) {
+            List<Map.Entry<Key, Object>> newer = new ArrayList<>(pending.entrySet());
+            pending = new LinkedHashMap<>(batch);
+            for (Map.Entry<Key, Object> entry : newer) {
+                pending.remove(entry.getKey());
+                pending.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private record Key(Field field, Long id) {
+    }
+}
@@ -2,16 +2,13 @@ package com.nexus.service;
 
 import com.nexus.model.Game;
 import com.nexus.model.Game.Platform;
+import com.nexus.util.AppConfig;
 
 import java.io.*;
 import java.net.HttpURLConnection;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -91,43 +88,44 @@ public class CombinedMetadataService implements MetadataService {
     private static final String IGDB_COVERS = "https://api.igdb.com/v4/covers";
     private static final String TWITCH_TOKEN_URL = "https://id.twitch.tv/oauth2/token";
 
-    private String igdbClientId;
-    private String igdbClientSecret;
+    /** IGDB client id and secret, read once per process (see {@link #loadCredentials()}). */
+    private static volatile IgdbCredentials credentials;
+
     private String igdbAccessToken;
     private long tokenExpiry = 0;
 
     private final PlaceholderMetadataService fallbackService = new PlaceholderMetadataService();
 
     public CombinedMetadataService() {
-        loadIgdbCredentials();
     }
 
-    private void loadIgdbCredentials() {
-        try {
-            Path propsPath = Paths.get("nexus.properties");
-            if (Files.exists(propsPath)) {
-                Properties props = new Properties();
-                try (InputStream is = Files.newInputStream(propsPath)) {
-                    props.load(is);
-                }
-                igdbClientId = props.getProperty("igdb.client.id");
-                igdbClientSecret = props.getProperty("igdb.client.secret");
+    /**
+     * Reads the IGDB credentials (igdb.client.id and igdb.client.secret in nexus.properties,
+     * see AppConfig). Runs once per process: on first use, or ahead of time during startup.
+     */
+    public static synchronized void loadCredentials() {
+        if (credentials != null) return;
+        String clientId = AppConfig.get("igdb.client.id", null);
+        String clientSecret = AppConfig.get("igdb.client.secret", null);
+        if (clientId != null && !clientId.startsWith("YOUR_") && clientSecret != null) {
+            credentials = new IgdbCredentials(clientId, clientSecret);
+            System.out.println("[CombinedMetadataService] IGDB credentials loaded");
+        } else {
+            credentials = new IgdbCredentials(null, null);
+        }
+    }
 
-                if (igdbClientId != null && !igdbClientId.startsWith("YOUR_") && igdbClientSecret != null) {
-                    System.out.println("[CombinedMetadataService] IGDB credentials loaded");
-                } else {
-                    igdbClientId = null;
-                    igdbClientSecret = null;
-                }
-            }
-        } catch (Exception e) {
-            System.err.println("[CombinedMetadataService] Could not load IGDB credentials: " + e.getMessage());
+    private static IgdbCredentials credentials() {
+        if (credentials == null) {
+            loadCredentials();
         }
+        return credentials;
     }
 
     public boolean hasIgdbCredentials() {
-        return igdbClientId != null && !igdbClientId.isEmpty()
-            && igdbClientSecret != null && !igdbClientSecret.isEmpty();
+        IgdbCredentials igdb = credentials();
+        return igdb.clientId() != null && !igdb.clientId().isEmpty()
+            && igdb.clientSecret() != null && !igdb.clientSecret().isEmpty();
     }
 
     @Override
@@ -442,12 +440,13 @@ public class CombinedMetadataService implements MetadataService {
             return true;
         }
 
-        if (igdbClientId == null || igdbClientSecret == null) return false;
+        IgdbCredentials igdb = credentials();
+        if (igdb.clientId() == null || igdb.clientSecret() == null) return false;
 
         try {
             String tokenUrl = TWITCH_TOKEN_URL +
-                "?client_id=" + igdbClientId +
-                "&client_secret=" + igdbClientSecret +
+                "?client_id=" + igdb.clientId() +
+                "&client_secret=" + igdb.clientSecret() +
                 "&grant_type=client_credentials";
 
             String response = httpPost(tokenUrl, "");
@@ -480,7 +479,7 @@ public class CombinedMetadataService implements MetadataService {
             conn.setRequestMethod("POST");
             conn.setConnectTimeout(10000);
             conn.setReadTimeout(10000);
-            conn.setRequestProperty("Client-ID", igdbClientId);
+            conn.setRequestProperty("Client-ID", credentials().clientId());
             conn.setRequestProperty("Authorization", "Bearer " + igdbAccessToken);
             conn.setRequestProperty("Content-Type", "text/plain");
             conn.setDoOutput(true);
@@ -672,5 +671,7 @@ public class CombinedMetadataService implements MetadataService {
             return System.currentTimeMillis() - timestamp > CACHE_EXPIRY_MS;
         }
     }
-}
 
+    private record IgdbCredentials(String clientId, String clientSecret) {
+    }
+}
@@ -0,0 +1,385 @@
+package com.nexus.service;
+
+import com.nexus.util.AppConfig;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Finds the main executable of an installed game.
+ *
+ * An install root is walked once, to a bounded depth, with each top-level subfolder walked
+ * on its own virtual thread. Every .exe found is scored: name similarity to the title,
+ * file size, depth below the root, and known helper names (crash reporters, uninstallers,
+ * redistributables, setup programs), which are never picked.
+ *
+ * The choice is cached with the root folder's modification time, in memory and in
+ * executables.cache, so later scans skip the walk for installs that have not changed.
+ * Installs and updates usually rewrite files in the root folder, which invalidates the
+ * entry; a cached executable that no longer exists is looked up again as well. Walks go
+ * through VolumeProbe, so a slow drive yields no executable instead of blocking the scan.
+ */
+public class ExecutableDiscovery {
+
+    private static final String DEFAULT_CACHE_PATH = "executables.cache";
+
+    /** Stops a walk after this many entries, so a huge install folder cannot stall a scan. */
+    private static final int MAX_VISITED = 20_000;
+
+    private static final String[] BAD_NAMES = {
+        "unins", "crash", "redist", "setup", "install", "update", "patch", "report",
+        "helper", "prereq", "vcredist", "vc_redist", "dxsetup", "dotnet", "directx",
+        "easyanticheat", "battleye", "cefprocess", "webhelper", "diagnostic", "benchmark"
+    };
+
+    private static final Set<String> SKIPPED_FOLDERS = Set.of(
+        "_commonredist", "redist", "redistributables", "directx", "dotnet", "vcredist",
+        "__installer", "installer", "_installer", "prereqs", "prerequisites", "support",
+        "easyanticheat", "battleye", "crashreportclient"
+    );
+
+    private static ExecutableDiscovery instance;
+
+    private final Path cacheFile;
+    private final VolumeProbe volumeProbe = VolumeProbe.getInstance();
+    private final ExecutorService walkers = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("exe-walk-", 0).factory());
+    private final Map<String, CacheEntry> cache = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+    private volatile boolean dirty;
+
+    private ExecutableDiscovery() {
+        this.cacheFile = Path.of(AppConfig.get("nexus.executables.cache.path", DEFAULT_CACHE_PATH));
+    }
+
+    public static synchronized ExecutableDiscovery getInstance() {
+        if (instance == null) {
+            instance = new ExecutableDiscovery();
+        }
+        return instance;
+    }
+
+    /**
+     * Finds the executable that best matches the title under an install folder.
+     *
+     * @param installPath the game's install folder
+     * @param title       the game title, for name matching
+     * @param exeName     if set, only an executable with exactly this file name qualifies
+     * @param maxDepth    how many folder levels below the root to search
+     * @return the executable, or empty if none qualifies or the volume did not answer
+     */
+    public Optional<Path> find(String installPath, String title, String exeName, int maxDepth) {
+        Path root = toPath(installPath);
+        if (root == null) {
+            return Optional.empty();
+        }
+        loadCache();
+
+        String key = root.toAbsolutePath().toString().toLowerCase();
+        String query = queryOf(title, exeName, maxDepth);
+        Optional<Lookup> lookup = volumeProbe.check(root, VolumeProbe.WALK_DEADLINE, () -> {
+            if (!Files.isDirectory(root)) {
+                return new Lookup(-1, null, false);
+            }
+            long modified = Files.getLastModifiedTime(root).toMillis();
+            CacheEntry cached = cache.get(key);
+            if (cached != null && cached.modified() == modified && cached.query().equals(query)
+                    && (cached.executable() == null || Files.isRegularFile(Paths.get(cached.executable())))) {
+                return new Lookup(modified, cached.executable(), true);
+            }
+            Path best = walk(root, title, exeName, maxDepth);
+            return new Lookup(modified, best != null ? best.toString() : null, false);
+        });
+
+        if (lookup.isEmpty() || lookup.get().modified() < 0) {
+            return Optional.empty();
+        }
+        Lookup result = lookup.get();
+        if (!result.cached()) {
+            cache.put(key, new CacheEntry(result.modified(), query, result.executable()));
+            dirty = true;
+        }
+        return Optional.ofNullable(result.executable()).map(Paths::get);
+    }
+
+    /**
+     * Writes the cache to disk if a scan changed it.
+     */
+    public void saveIfChanged() {
+        if (!dirty) return;
+        dirty = false;
+
+        Properties entries = new Properties();
+        cache.forEach((key, entry) -> entries.setProperty(key, entry.modified() + "|" + entry.query() + "|"
+                + (entry.executable() != null ? entry.executable() : "")));
+        try {
+            Path directory = cacheFile.toAbsolutePath().getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+            Path temp = cacheFile.resolveSibling(cacheFile.getFileName() + ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                entries.store(out, "Nexus executable discovery cache");
+            }
+            try {
+                Files.move(temp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            System.err.println("[ExecutableDiscovery] Could not save cache " + cacheFile + ": " + e.getMessage());
+        }
+    }
+
+    private synchronized void loadCache() {
+        if (loaded) return;
+        loaded = true;
+        if (!Files.isRegularFile(cacheFile)) return;
+
+        Properties entries = new Properties();
+        try (InputStream in = Files.newInputStream(cacheFile)) {
+            entries.load(in);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("[ExecutableDiscovery] Ignoring unreadable cache " + cacheFile + ": " + e.getMessage());
+            return;
+        }
+        for (String key : entries.stringPropertyNames()) {
+            String[] parts = entries.getProperty(key).split("\\|", 3);
+            if (parts.length != 3) continue;
+            try {
+                cache.put(key, new CacheEntry(Long.parseLong(parts[0]), parts[1],
+                        parts[2].isEmpty() ? null : parts[2]));
+            } catch (NumberFormatException e) {
+                // Skip damaged entries
+            }
+        }
+        System.out.println("[ExecutableDiscovery] Loaded " + cache.size() + " cached executables");
+    }
+
+    /**
+     * Walks the root and returns the best scoring executable, or null if none qualifies.
+     */
+    private Path walk(Path root, String title, String exeName, int maxDepth) throws IOException {
+        long start = System.nanoTime();
+        AtomicInteger visited = new AtomicInteger();
+        ConcurrentLinkedQueue<Candidate> candidates = new ConcurrentLinkedQueue<>();
+
+        List<Path> subfolders = new ArrayList<>();
+        try (var entries = Files.list(root)) {
+            for (Path entry : (Iterable<Path>) entries::iterator) {
+                visited.incrementAndGet();
+                if (Files.isDirectory(entry)) {
+                    if (maxDepth > 1 && !isSkippedFolder(entry)) subfolders.add(entry);
+                } else if (entry.getFileName().toString().toLowerCase().endsWith(".exe")) {
+                    try {
+                        addCandidate(candidates, entry, 1, Files.size(entry));
+                    } catch (IOException e) {
+                        // Locked or vanished; skip it like the walkers do
+                    }
+                }
+            }
+        }
+
+        List<Future<?>> walks = new ArrayList<>();
+        for (Path folder : subfolders) {
+            walks.add(walkers.submit(() -> {
+                walkFolder(folder, 2, maxDepth, visited, candidates);
+                return null;
+            }));
+        }
+        // Wait for every subfolder, so a failed one never cuts the others short
+        for (Future<?> walk : walks) {
+            try {
+                walk.get();
+            } catch (InterruptedException e) {
+                walks.forEach(pending -> pending.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while walking " + root, e);
+            } catch (ExecutionException e) {
+                System.err.println("[ExecutableDiscovery] Could not walk part of " + root + ": "
+                        + e.getCause().getMessage());
+            }
+        }
+
+        Candidate best = null;
+        int bestScore = Integer.MIN_VALUE;
+        for (Candidate candidate : candidates) {
+            if (exeName != null && !candidate.path().getFileName().toString().equalsIgnoreCase(exeName)) continue;
+            int score = score(candidate, title);
+            if (score == Integer.MIN_VALUE) continue;
+            if (score > bestScore || (score == bestScore && candidate.path().compareTo(best.path()) < 0)) {
+                best = candidate;
+                bestScore = score;
+            }
+        }
+
+        System.out.printf("[ExecutableDiscovery] %s: %d candidates in %d entries (%d ms), picked %s%n",
+                root, candidates.size(), visited.get(), (System.nanoTime() - start) / 1_000_000,
+                best != null ? best.path().getFileName() + " (score " + bestScore + ")" : "none");
+        return best != null ? best.path() : null;
+    }
+
+    /**
+     * Walks one top-level subfolder; {@code depth} is the depth of its children below the root.
+     */
+    private void walkFolder(Path folder, int depth, int maxDepth, AtomicInteger visited,
+                            ConcurrentLinkedQueue<Candidate> candidates) throws IOException {
+        Files.walkFileTree(folder, EnumSet.noneOf(FileVisitOption.class), maxDepth - depth + 1,
+                new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                if (visited.get() > MAX_VISITED) return FileVisitResult.TERMINATE;
+                return dir.equals(folder) || !isSkippedFolder(dir) ? FileVisitResult.CONTINUE : FileVisitResult.SKIP_SUBTREE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (visited.incrementAndGet() > MAX_VISITED) return FileVisitResult.TERMINATE;
+                if (attrs.isRegularFile()) {
+                    addCandidate(candidates, file, depth + folder.relativize(file).getNameCount() - 1, attrs.size());
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException e) {
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private static void addCandidate(ConcurrentLinkedQueue<Candidate> candidates, Path file, int depth, long size) {
+        if (file.getFileName().toString().toLowerCase().endsWith(".exe")) {
+            candidates.add(new Candidate(file, depth, size));
+        }
+    }
+
+    /**
+     * Scores a candidate; higher is better. Known helper programs score Integer.MIN_VALUE.
+     */
+    private static int score(Candidate candidate, String title) {
+        String fileName = candidate.path().getFileName().toString().toLowerCase();
+        String stem = fileName.substring(0, fileName.length() - ".exe".length());
+        for (String bad : BAD_NAMES) {
+            if (stem.contains(bad)) return Integer.MIN_VALUE;
+        }
+
+        int score = 0;
+
+        // Name similarity to the title
+        String normalizedStem = normalize(stem);
+        String normalizedTitle = normalize(title);
+        String initials = initials(title);
+        if (!normalizedStem.isEmpty() && !normalizedTitle.isEmpty()) {
+            if (normalizedStem.equals(normalizedTitle)) {
+                score += 100;
+            } else if (normalizedTitle.contains(normalizedStem) || normalizedStem.contains(normalizedTitle)) {
+                score += 60;
+            } else if (initials.length() > 1 && normalizedStem.startsWith(initials)) {
+                score += 40;
+            } else {
+                score += 40 * sharedWords(stem, title);
+            }
+        }
+        if (stem.contains("launcher")) score -= 15;
+        if (stem.endsWith("-win64-shipping") || stem.endsWith("-win64")) score += 10;
+
+        // Main binaries are large; stubs and tools are small
+        long megabytes = candidate.size() / (1024 * 1024);
+        if (candidate.size() < 200 * 1024) {
+            score -= 20;
+        } else {
+            score += Math.min(30, 5 * (63 - Long.numberOfLeadingZeros(megabytes + 1)));
+        }
+
+        // Prefer binaries close to the root
+        score -= 8 * (candidate.depth() - 1);
+        return score;
+    }
+
+    private static String normalize(String value) {
+        return value != null ? value.toLowerCase().replaceAll("[^a-z0-9]", "") : "";
+    }
+
+    private static String initials(String title) {
+        StringBuilder initials = new StringBuilder();
+        for (String word : words(title)) {
+            initials.append(word.charAt(0));
+        }
+        return initials.toString();
+    }
+
+    /** Number of title words (3+ letters) that also appear in the file name. */
+    private static int sharedWords(String stem, String title) {
+        Set<String> stemWords = new HashSet<>(words(stem));
+        String joinedStem = normalize(stem);
+        int shared = 0;
+        for (String word : words(title)) {
+            if (word.length() >= 3 && (stemWords.contains(word) || joinedStem.contains(word))) shared++;
+        }
+        return Math.min(shared, 2);
+    }
+
+    private static List<String> words(String value) {
+        List<String> words = new ArrayList<>();
+        if (value == null) return words;
+        for (String word : value.toLowerCase().split("[^a-z0-9]+")) {
+            if (!word.isEmpty()) words.add(word);
+        }
+        return words;
+    }
+
+    private static boolean isSkippedFolder(Path dir) {
+        Path name = dir.getFileName();
+        return name != null && SKIPPED_FOLDERS.contains(name.toString().toLowerCase());
+    }
+
+    private static String queryOf(String title, String exeName, int maxDepth) {
+        return normalize(title) + ":" + (exeName != null ? exeName.toLowerCase() : "") + ":" + maxDepth;
+    }
+
+    private static Path toPath(String path) {
+        if (path == null || path.isEmpty()) return null;
+        try {
+            return Paths.get(path);
+        } catch (InvalidPathException e) {
+            return null;
+        }
+    }
+
+    private record Candidate(Path path, int depth, long size) {
+    }
+
+    /** A cached choice; {@code executable} is null when the folder had none. */
+    private record CacheEntry(long modified, String query, String executable) {
+    }
+
+    private record Lookup(long modified, String executable, boolean cached) {
+    }
+}
@@ -0,0 +1,319 @@
+package com.nexus.service;
+
+import com.nexus.model.Game;
+import com.nexus.util.GameTagUtil;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * In-memory facet filter over the library.
+ *
+ * Every game gets a slot, and every facet value (platform, status, favorite, tag) keeps a
+ * BitSet of the slots that have it. A selection is answered with bitwise operations:
+ * values of the same facet are ORed, different facets are ANDed. Counts are "live": the
+ * count shown for a value is the number of matches if that value were added, given the
+ * selection on every other facet.
+ *
+ * Slots are stable: updating a game flips only its own bits, and a removed game's slot
+ * goes on a free list for the next new game, so a change never re-indexes the library.
+ */
+public class GameFacetIndex {
+
+    private Game[] games = new Game[0];
+    private final Map<String, Integer> slotsByKey = new HashMap<>();
+    private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>();
+    private final BitSet occupied = new BitSet();
+    // Facet values each slot was indexed under, so an update can clear them even after
+    // the game instance itself has changed
+    private Game.Platform[] slotPlatforms = new Game.Platform[0];
+    private Game.Status[] slotStatuses = new Game.Status[0];
+    private List<String>[] slotTags = newTagArray(0);
+
+    private final EnumMap<Game.Platform, BitSet> platformBits = new EnumMap<>(Game.Platform.class);
+    private final EnumMap<Game.Status, BitSet> statusBits = new EnumMap<>(Game.Status.class);
+    private final BitSet favoriteBits = new BitSet();
+    private final Map<String, BitSet> tagBits = new TreeMap<>();
+
+    public GameFacetIndex() {
+        for (Game.Platform platform : Game.Platform.values()) {
+            platformBits.put(platform, new BitSet());
+        }
+        for (Game.Status status : Game.Status.values()) {
+            statusBits.put(status, new BitSet());
+        }
+    }
+
+    /**
+     * Replaces all indexed games.
+     */
+    public synchronized void rebuild(Collection<Game> allGames) {
+        games = new Game[allGames.size()];
+        slotPlatforms = new Game.Platform[games.length];
+        slotStatuses = new Game.Status[games.length];
+        slotTags = newTagArray(games.length);
+        slotsByKey.clear();
+        freeSlots.clear();
+        occupied.clear();
+        platformBits.values().forEach(BitSet::clear);
+        statusBits.values().forEach(BitSet::clear);
+        favoriteBits.clear();
+        tagBits.clear();
+
+        int next = 0;
+        for (Game game : allGames) {
+            String key = Game.identityKey(game);
+            Integer slot = slotsByKey.get(key);
+            if (slot != null) {
+                // Same game twice: the later copy wins, as it would with put
+                unindex(slot);
+            } else {
+                slot = next++;
+                slotsByKey.put(key, slot);
+            }
+            index(slot, game);
+        }
+        // Slots left over by duplicates
+        for (int slot = games.length - 1; slot >= next; slot--) {
+            freeSlots.push(slot);
+        }
+    }
+
+    /**
+     * Adds a game or replaces the indexed copy of the same game, keeping its slot.
+     */
+    public synchronized void put(Game game) {
+        if (game == null) return;
+        String key = Game.identityKey(game);
+        Integer slot = slotsByKey.get(key);
+        if (slot != null) {
+            unindex(slot);
+        } else {
+            slot = freeSlots.isEmpty() ? games.length : freeSlots.pop();
+            if (slot >= games.length) grow(slot + 1);
+            slotsByKey.put(key, slot);
+        }
+        index(slot, game);
+    }
+
+    public synchronized void remove(Game game) {
+        if (game == null) return;
+        Integer slot = slotsByKey.remove(Game.identityKey(game));
+        if (slot != null) {
+            unindex(slot);
+            games[slot] = null;
+            freeSlots.push(slot);
+        }
+    }
+
+    /**
+     * Filters all indexed games.
+     */
+    public synchronized Result filter(Selection selection) {
+        return filter(null, selection);
+    }
+
+    /**
+     * Filters a subset of the library (e.g. search results), keeping its order.
+     * Counts are computed within that subset as well.
+     *
+     * @param candidates Games to filter, or null for the whole library
+     */
+    public synchronized Result filter(List<Game> candidates, Selection selection) {
+        // Base set: the candidates, or every indexed game
+        BitSet base;
+        if (candidates == null) {
+            base = (BitSet) occupied.clone();
+        } else {
+            base = new BitSet(games.length);
+            for (Game game : candidates) {
+                Integer slot = slotsByKey.get(Game.identityKey(game));
+                if (slot != null) base.set(slot);
+            }
+        }
+
+        BitSet platforms = union(platformBits, selection.platforms);
+        BitSet statuses = union(statusBits, selection.statuses);
+        BitSet favorites = selection.favoritesOnly ? favoriteBits : null;
+        BitSet tags = union(tagBits, selection.tags);
+
+        Result result = new Result();
+
+        // Live counts: apply every facet except the one being counted
+        BitSet withoutPlatform = intersect(base, statuses, favorites, tags);
+        for (Map.Entry<Game.Platform, BitSet> entry : platformBits.entrySet()) {
+            result.platformCounts.put(entry.getKey(), countAnd(withoutPlatform, entry.getValue()));
+        }
+        BitSet withoutStatus = intersect(base, platforms, favorites, tags);
+        for (Map.Entry<Game.Status, BitSet> entry : statusBits.entrySet()) {
+            result.statusCounts.put(entry.getKey(), countAnd(withoutStatus, entry.getValue()));
+        }
+        BitSet withoutFavorite = intersect(base, platforms, statuses, tags);
+        result.favoriteCount = countAnd(withoutFavorite, favoriteBits);
+        BitSet withoutTags = intersect(base, platforms, statuses, favorites);
+        for (Map.Entry<String, BitSet> entry : tagBits.entrySet()) {
+            result.tagCounts.put(entry.getKey(), countAnd(withoutTags, entry.getValue()));
+        }
+
+        BitSet matches = intersect(withoutTags, tags, null, null);
+        if (candidates == null) {
+            for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+                result.games.add(games[slot]);
+            }
+        } else {
+            for (Game game : candidates) {
+                Integer slot = slotsByKey.get(Game.identityKey(game));
+                if (slot != null && matches.get(slot)) {
+                    result.games.add(games[slot]);
+                    matches.clear(slot);
+                }
+            }
+        }
+        return result;
+    }
+
+    private void index(int slot, Game game) {
+        games[slot] = game;
+        occupied.set(slot);
+        slotPlatforms[slot] = game.getPlatform();
+        if (game.getPlatform() != null) {
+            platformBits.get(game.getPlatform()).set(slot);
+        }
+        slotStatuses[slot] = game.getStatus();
+        if (game.getStatus() != null) {
+            statusBits.get(game.getStatus()).set(slot);
+        }
+        favoriteBits.set(slot, game.isFavorite());
+        List<String> tags = GameTagUtil.getTags(game);
+        slotTags[slot] = tags;
+        for (String tag : tags) {
+            tagBits.computeIfAbsent(tag, k -> new BitSet(games.length)).set(slot);
+        }
+    }
+
+    /**
+     * Clears a slot's bits, using the values it was indexed under.
+     */
+    private void unindex(int slot) {
+        occupied.clear(slot);
+        if (slotPlatforms[slot] != null) {
+            platformBits.get(slotPlatforms[slot]).clear(slot);
+        }
+        if (slotStatuses[slot] != null) {
+            statusBits.get(slotStatuses[slot]).clear(slot);
+        }
+        favoriteBits.clear(slot);
+        if (slotTags[slot] != null) {
+            for (String tag : slotTags[slot]) {
+                BitSet bits = tagBits.get(tag);
+                if (bits == null) continue;
+                bits.clear(slot);
+                // Tags no game has any more drop out of the counts
+                if (bits.isEmpty()) tagBits.remove(tag);
+            }
+        }
+        slotPlatforms[slot] = null;
+        slotStatuses[slot] = null;
+        slotTags[slot] = null;
+    }
+
+    private void grow(int minCapacity) {
+        int capacity = Math.max(minCapacity, games.length + (games.length >> 1) + 16);
+        games = Arrays.copyOf(games, capacity);
+        slotPlatforms = Arrays.copyOf(slotPlatforms, capacity);
+        slotStatuses = Arrays.copyOf(slotStatuses, capacity);
+        slotTags = Arrays.copyOf(slotTags, capacity);
+        // Slots past the ones in use are free, lowest first
+        for (int slot = capacity - 1; slot >= minCapacity; slot--) {
+            freeSlots.push(slot);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String>[] newTagArray(int length) {
+        return (List<String>[]) new List[length];
+    }
+
+    /**
+     * Union of the bitsets of the selected values, or null when nothing is selected
+     * (no constraint on that facet).
+     */
+    private static <K> BitSet union(Map<K, BitSet> bitsByValue, Set<K> selected) {
+        if (selected.isEmpty()) return null;
+        BitSet union = new BitSet();
+        for (K value : selected) {
+            BitSet bits = bitsByValue.get(value);
+            if (bits != null) union.or(bits);
+        }
+        return union;
+    }
+
+    private static BitSet intersect(BitSet base, BitSet a, BitSet b, BitSet c) {
+        BitSet result = (BitSet) base.clone();
+        if (a != null) result.and(a);
+        if (b != null) result.and(b);
+        if (c != null) result.and(c);
+        return result;
+    }
+
+    private static int countAnd(BitSet a, BitSet b) {
+        BitSet both = (BitSet) a.clone();
+        both.and(b);
+        return both.cardinality();
+    }
+
+    /**
+     * Selected facet values. Empty sets mean "no constraint" for that facet.
+     */
+    public static class Selection {
+        final Set<Game.Platform> platforms;
+        final Set<Game.Status> statuses;
+        final boolean favoritesOnly;
+        final Set<String> tags;
+
+        public Selection(Set<Game.Platform> platforms, Set<Game.Status> statuses,
+                         boolean favoritesOnly, Set<String> tags) {
+            this.platforms = platforms.isEmpty() ? EnumSet.noneOf(Game.Platform.class) : EnumSet.copyOf(platforms);
+            this.statuses = statuses.isEmpty() ? EnumSet.noneOf(Game.Status.class) : EnumSet.copyOf(statuses);
+            this.favoritesOnly = favoritesOnly;
+            this.tags = new TreeSet<>(tags);
+        }
+
+        public static Selection none() {
+            return new Selection(Set.of(), Set.of(), false, Set.of());
+        }
+
+        public boolean isEmpty() {
+            return platforms.isEmpty() && statuses.isEmpty() && !favoritesOnly && tags.isEmpty();
+        }
+    }
+
+    /**
+     * Filtered games plus live per-facet counts.
+     */
+    public static class Result {
+        final List<Game> games = new ArrayList<>();
+        final EnumMap<Game.Platform, Integer> platformCounts = new EnumMap<>(Game.Platform.class);
+        final EnumMap<Game.Status, Integer> statusCounts = new EnumMap<>(Game.Status.class);
+        final Map<String, Integer> tagCounts = new TreeMap<>();
+        int favoriteCount;
+
+        public List<Game> getGames() { return games; }
+        public Map<Game.Platform, Integer> getPlatformCounts() { return Collections.unmodifiableMap(platformCounts); }
+        public Map<Game.Status, Integer> getStatusCounts() { return Collections.unmodifiableMap(statusCounts); }
+        public Map<String, Integer> getTagCounts() { return Collections.unmodifiableMap(tagCounts); }
+        public int getFavoriteCount() { return favoriteCount; }
+    }
+}
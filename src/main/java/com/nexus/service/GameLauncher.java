@@ -4,6 +4,8 @@ import com.nexus.model.Game;
 import com.nexus.model.Game.Platform;
 import com.nexus.model.Game.Status;
 import com.nexus.repository.GameRepository;
+import com.nexus.repository.RepositoryFactory;
+import com.nexus.repository.WriteBehindQueue;
 
 import java.io.File;
 import java.io.IOException;
@@ -20,7 +22,7 @@ public class GameLauncher {
     private final GameRepository gameRepository;
 
     public GameLauncher() {
-        this.gameRepository = new GameRepository();
+        this.gameRepository = RepositoryFactory.getGameRepository();
     }
 
     public GameLauncher(GameRepository gameRepository) {
@@ -39,6 +41,11 @@ public class GameLauncher {
             throw new GameLaunchException("Game executable is missing: " + game.getTitle());
         }
 
+        // Library cards hold summaries; paths and app ids come with the full entity
+        if (!game.isDetailsLoaded() && game.getId() != null) {
+            gameRepository.findById(game.getId()).ifPresent(game::copyDetailsFrom);
+        }
+
         System.out.println("[GameLauncher] Launching: " + game.getTitle() + " (" + game.getPlatform() + ")");
 
         boolean success;
@@ -290,7 +297,7 @@ public class GameLauncher {
     private void updateLastPlayed(Game game) {
         try {
             game.setLastPlayed(LocalDateTime.now());
-            gameRepository.save(game);
+            WriteBehindQueue.getInstance().enqueue(WriteBehindQueue.Field.GAME_LAST_PLAYED, game.getId(), game.getLastPlayed());
         } catch (Exception e) {
             System.err.println("[GameLauncher] Failed to update lastPlayed: " + e.getMessage());
         }
@@ -0,0 +1,292 @@
+package com.nexus.service;
+
+import com.nexus.model.Game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory substring index over game titles, developers and platforms.
+ *
+ * Each game gets a slot holding a lowercased haystack ("title\ndeveloper\nplatform").
+ * Every trigram of a haystack maps to a posting list of slots, so a query token of three
+ * or more characters only verifies the slots that contain all of its trigrams instead of
+ * scanning the library. Query tokens are ANDed and matched as substrings, like the
+ * previous {@code LIKE '%keyword%'} query but also across developer and platform.
+ *
+ * Updates append a new slot and tombstone the old one, so they cost O(haystack length);
+ * the index is compacted once more than half of its slots are dead.
+ */
+public class GameSearchIndex {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final char FIELD_SEPARATOR = '\n';
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> slotsByKey = new HashMap<>();
+    private final Map<Long, PostingList> postings = new HashMap<>();
+    private Game[] games = new Game[INITIAL_CAPACITY];
+    private String[] haystacks = new String[INITIAL_CAPACITY];
+    private int slotCount;
+    private int liveCount;
+    private boolean loaded;
+
+    /**
+     * Replaces the whole index content.
+     */
+    public void rebuild(Collection<Game> allGames) {
+        lock.writeLock().lock();
+        try {
+            clearInternal();
+            for (Game game : allGames) {
+                putInternal(game);
+            }
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a game or replaces the indexed copy of the same game.
+     */
+    public void put(Game game) {
+        if (game == null) return;
+        lock.writeLock().lock();
+        try {
+            putInternal(game);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a game from the index.
+     */
+    public void remove(Game game) {
+        if (game == null) return;
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsByKey.remove(Game.identityKey(game));
+            if (slot != null) {
+                killSlot(slot);
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Whether the index has been built at least once.
+     */
+    public boolean isLoaded() {
+        lock.readLock().lock();
+        try {
+            return loaded;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the games whose title, developer or platform contain every
+     * whitespace-separated token of the query (case-insensitive).
+     * An empty query returns all games.
+     */
+    public List<Game> search(String query) {
+        String[] tokens = tokenize(query);
+
+        lock.readLock().lock();
+        try {
+            List<Game> results = new ArrayList<>();
+            if (tokens.length == 0) {
+                for (int slot = 0; slot < slotCount; slot++) {
+                    if (games[slot] != null) results.add(games[slot]);
+                }
+                return results;
+            }
+
+            // Narrow down candidates with the trigrams of the longest token
+            String longest = tokens[0];
+            for (String token : tokens) {
+                if (token.length() > longest.length()) longest = token;
+            }
+
+            if (longest.length() < 3) {
+                for (int slot = 0; slot < slotCount; slot++) {
+                    addIfMatches(slot, tokens, results);
+                }
+                return results;
+            }
+
+            PostingList[] lists = postingsFor(longest);
+            if (lists == null) {
+                return results;
+            }
+
+            // Walk the shortest posting list, checking membership in the others
+            PostingList shortest = lists[0];
+            for (int i = 0; i < shortest.size; i++) {
+                int slot = shortest.slots[i];
+                if (containsInAll(lists, slot)) {
+                    addIfMatches(slot, tokens, results);
+                }
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ==================== Internals (callers hold the lock) ====================
+
+    private void putInternal(Game game) {
+        String key = Game.identityKey(game);
+        Integer existing = slotsByKey.get(key);
+        if (existing != null) {
+            killSlot(existing);
+        }
+
+        ensureCapacity(slotCount + 1);
+        int slot = slotCount++;
+        String haystack = haystackOf(game);
+        games[slot] = game;
+        haystacks[slot] = haystack;
+        slotsByKey.put(key, slot);
+        liveCount++;
+
+        // Slots only grow, so posting lists stay sorted
+        long previous = -1;
+        for (int i = 0; i + 3 <= haystack.length(); i++) {
+            long trigram = trigramAt(haystack, i);
+            if (trigram == previous) continue;
+            postings.computeIfAbsent(trigram, k -> new PostingList()).addIfLast(slot);
+            previous = trigram;
+        }
+    }
+
+    private void killSlot(int slot) {
+        if (games[slot] != null) {
+            games[slot] = null;
+            haystacks[slot] = null;
+            liveCount--;
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (slotCount > INITIAL_CAPACITY && liveCount * 2 < slotCount) {
+            List<Game> live = new ArrayList<>(liveCount);
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (games[slot] != null) live.add(games[slot]);
+            }
+            clearInternal();
+            for (Game game : live) {
+                putInternal(game);
+            }
+        }
+    }
+
+    private void clearInternal() {
+        slotsByKey.clear();
+        postings.clear();
+        Arrays.fill(games, 0, slotCount, null);
+        Arrays.fill(haystacks, 0, slotCount, null);
+        slotCount = 0;
+        liveCount = 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > games.length) {
+            int newCapacity = Math.max(capacity, games.length * 2);
+            games = Arrays.copyOf(games, newCapacity);
+            haystacks = Arrays.copyOf(haystacks, newCapacity);
+        }
+    }
+
+    /**
+     * Posting lists for every trigram of the token, shortest first,
+     * or null when one of the trigrams does not occur at all.
+     */
+    private PostingList[] postingsFor(String token) {
+        PostingList[] lists = new PostingList[token.length() - 2];
+        for (int i = 0; i < lists.length; i++) {
+            PostingList list = postings.get(trigramAt(token, i));
+            if (list == null) return null;
+            lists[i] = list;
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+        return lists;
+    }
+
+    private static boolean containsInAll(PostingList[] lists, int slot) {
+        for (int i = 1; i < lists.length; i++) {
+            if (Arrays.binarySearch(lists[i].slots, 0, lists[i].size, slot) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void addIfMatches(int slot, String[] tokens, List<Game> results) {
+        String haystack = haystacks[slot];
+        if (haystack == null) return;
+        for (String token : tokens) {
+            if (!haystack.contains(token)) return;
+        }
+        results.add(games[slot]);
+    }
+
+    private static String[] tokenize(String query) {
+        if (query == null) return new String[0];
+        String trimmed = query.trim().toLowerCase(Locale.ROOT);
+        return trimmed.isEmpty() ? new String[0] : trimmed.split("\\s+");
+    }
+
+    private static long trigramAt(String text, int index) {
+        return ((long) text.charAt(index) << 32) | ((long) text.charAt(index + 1) << 16) | text.charAt(index + 2);
+    }
+
+    private static String haystackOf(Game game) {
+        StringBuilder sb = new StringBuilder();
+        if (game.getTitle() != null) sb.append(game.getTitle());
+        sb.append(FIELD_SEPARATOR);
+        if (game.getDeveloper() != null) sb.append(game.getDeveloper());
+        sb.append(FIELD_SEPARATOR);
+        if (game.getPlatform() != null) sb.append(game.getPlatform().name());
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Growable sorted array of slots.
+     */
+    private static class PostingList {
+        int[] slots = new int[4];
+        int size;
+
+        void addIfLast(int slot) {
+            if (size > 0 && slots[size - 1] == slot) return;
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+    }
+}
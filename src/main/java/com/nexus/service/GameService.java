@@ -1,11 +1,18 @@
 package com.nexus.service;
 
 import com.nexus.model.Game;
+import com.nexus.model.GameSummary;
+import com.nexus.model.GameTextMatch;
 import com.nexus.model.IgnoredGame;
 import com.nexus.repository.GameRepository;
 import com.nexus.repository.IgnoredGameRepository;
+import com.nexus.repository.RepositoryFactory;
+import com.nexus.repository.WriteBehindQueue;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Service layer for game data operations.
@@ -13,14 +20,23 @@ import java.util.*;
  */
 public class GameService {
 
+    private static final int LIBRARY_PAGE_SIZE = 1000;
+    private static final int MIN_FULL_TEXT_QUERY_LENGTH = 3;
+    private static final int FULL_TEXT_LIMIT = 200;
+
     private static GameService instance;
     private final GameRepository gameRepository;
     private final IgnoredGameRepository ignoredGameRepository;
     private final MetadataService metadataService;
+    private final GameSearchIndex searchIndex = new GameSearchIndex();
+    private final LibrarySearchEngine searchEngine = new LibrarySearchEngine();
+    private final GameFacetIndex facetIndex = new GameFacetIndex();
+    /** Library instances by id, to resolve full-text hits. */
+    private final Map<Long, Game> gamesById = new ConcurrentHashMap<>();
 
     private GameService() {
-        this.gameRepository = new GameRepository();
-        this.ignoredGameRepository = new IgnoredGameRepository();
+        this.gameRepository = RepositoryFactory.getGameRepository();
+        this.ignoredGameRepository = RepositoryFactory.getIgnoredGameRepository();
         // Use dynamic API-based metadata service
         this.metadataService = new CombinedMetadataService();
     }
@@ -33,92 +49,167 @@ public class GameService {
     }
 
     /**
-     * Gets all games from the database, deduplicated and with metadata.
+     * Gets the library for list views: games built from lightweight summaries, without
+     * description, paths or play stats. Call {@link #loadDetails(Game)} before showing
+     * or editing the rest.
      */
-    public List<Game> getAllGames() {
-        List<Game> games = gameRepository.findAll();
-
-        // Deduplicate by uniqueId (keep first occurrence)
-        Map<String, Game> uniqueGames = new LinkedHashMap<>();
-        List<Long> duplicateIds = new ArrayList<>();
+    public List<Game> getLibraryGames() {
+        List<Game> result = new ArrayList<>();
+        loadLibraryPages(LIBRARY_PAGE_SIZE, result::addAll);
+        return result;
+    }
 
-        for (Game game : games) {
-            String key = game.getUniqueId();
-            if (key == null || key.isEmpty()) {
-                // Use title + platform as fallback key
-                key = (game.getTitle() + "_" + game.getPlatform()).toLowerCase();
+    /**
+     * Loads the library in keyset pages (ordered by title, then id), deduplicated and
+     * indexed as they arrive, handing each page to the consumer. Lets callers show the
+     * first games before the rest of a large library has been read.
+     */
+    public void loadLibraryPages(int pageSize, Consumer<List<Game>> pageConsumer) {
+        Set<String> seenKeys = new HashSet<>();
+        boolean firstPage = true;
+        GameSummary last = null;
+        while (true) {
+            List<GameSummary> page = gameRepository.findSummaryPageAfter(last, pageSize);
+
+            List<Game> games = new ArrayList<>(page.size());
+            for (GameSummary summary : page) {
+                Game game = summary.toGame();
+                if (seenKeys.add(Game.identityKey(game))) {
+                    games.add(game);
+                }
             }
-
-            if (!uniqueGames.containsKey(key)) {
-                uniqueGames.put(key, game);
-                ensureMetadata(game);
+            if (firstPage) {
+                indexGames(games);
+                firstPage = false;
             } else {
-                // This is a duplicate - mark for deletion
-                duplicateIds.add(game.getId());
+                games.forEach(this::indexGame);
             }
-        }
-
-        // Delete duplicates from database
-        for (Long id : duplicateIds) {
-            try {
-                gameRepository.delete(id);
-                System.out.println("[GameService] Removed duplicate game with id: " + id);
-            } catch (Exception e) {
-                // Ignore deletion errors
+            if (!games.isEmpty()) {
+                pageConsumer.accept(games);
             }
+
+            if (page.size() < pageSize) break;
+            last = page.get(page.size() - 1);
         }
+    }
 
-        return new ArrayList<>(uniqueGames.values());
+    /**
+     * Loads the full entity behind a summary-only game into that same instance.
+     * No-op once loaded. Blocking: call from a background thread where possible.
+     */
+    public void loadDetails(Game game) {
+        if (game == null || game.isDetailsLoaded() || game.getId() == null) return;
+        gameRepository.findById(game.getId()).ifPresent(game::copyDetailsFrom);
     }
 
     /**
-     * Gets favorite games.
+     * Searches games. Ranked, typo-tolerant title matches come first, followed by games
+     * that only match on developer or platform (both in memory), then games whose
+     * description matches in the full-text index, by BM25 rank.
+     * An empty query returns all games without touching the database.
      */
-    public List<Game> getFavoriteGames() {
-        List<Game> games = gameRepository.findByFavorite(true);
-        for (Game game : games) {
-            ensureMetadata(game);
+    public List<Game> searchGames(String query) {
+        if (!searchIndex.isLoaded()) {
+            getLibraryGames();
+        }
+        if (query == null || query.isBlank()) {
+            return searchIndex.search(query);
+        }
+
+        List<Game> results = searchEngine.search(query);
+        Set<Game> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        seen.addAll(results);
+        for (Game game : searchIndex.search(query)) {
+            if (seen.add(game)) {
+                results.add(game);
+            }
         }
-        return games;
+        // Descriptions are not held in memory (the library is loaded as summaries)
+        if (query.strip().length() >= MIN_FULL_TEXT_QUERY_LENGTH) {
+            for (GameTextMatch match : searchFullText(query, FULL_TEXT_LIMIT)) {
+                Game game = gamesById.get(match.gameId());
+                if (game != null && seen.add(game)) {
+                    results.add(game);
+                }
+            }
+        }
+        return results;
     }
 
     /**
-     * Searches games by title.
+     * Full-text search over titles, developers and descriptions, with BM25 ranking and
+     * highlighted snippets. Returns no matches if the index is unavailable.
      */
-    public List<Game> searchGames(String query) {
-        if (query == null || query.trim().isEmpty()) {
-            return getAllGames();
+    public List<GameTextMatch> searchFullText(String query, int limit) {
+        try {
+            return gameRepository.searchFullText(query, limit);
+        } catch (RuntimeException e) {
+            System.err.println("[GameService] Full-text search failed: " + e.getMessage());
+            return List.of();
         }
-        List<Game> games = gameRepository.searchByTitle(query.trim());
+    }
+
+    /**
+     * Replaces the search index content with games that were written directly
+     * through the repository (e.g. by a library scan).
+     */
+    public void indexGames(List<Game> games) {
+        gamesById.clear();
         for (Game game : games) {
-            ensureMetadata(game);
+            if (game.getId() != null) gamesById.put(game.getId(), game);
         }
-        return games;
+        searchIndex.rebuild(games);
+        searchEngine.rebuild(games);
+        facetIndex.rebuild(games);
+    }
+
+    private void indexGame(Game game) {
+        if (game.getId() != null) gamesById.put(game.getId(), game);
+        searchIndex.put(game);
+        searchEngine.put(game);
+        facetIndex.put(game);
+    }
+
+    private void unindexGame(Game game) {
+        if (game.getId() != null) gamesById.remove(game.getId());
+        searchIndex.remove(game);
+        searchEngine.remove(game);
+        facetIndex.remove(game);
+    }
+
+    /**
+     * Searches games and narrows the results down with facet filters (platform, status,
+     * favorite, tags). The result keeps the search order and carries live facet counts.
+     */
+    public GameFacetIndex.Result filterGames(String query, GameFacetIndex.Selection selection) {
+        List<Game> matches = searchGames(query);
+        boolean allGames = query == null || query.isBlank();
+        return facetIndex.filter(allGames ? null : matches, selection);
     }
 
     /**
      * Gets a game by ID.
      */
     public Optional<Game> getGameById(Long id) {
-        Optional<Game> game = gameRepository.findById(id);
-        game.ifPresent(this::ensureMetadata);
-        return game;
+        return gameRepository.findById(id);
     }
 
     /**
      * Gets a game by unique ID.
      */
     public Optional<Game> getGameByUniqueId(String uniqueId) {
-        Optional<Game> game = gameRepository.findByUniqueId(uniqueId);
-        game.ifPresent(this::ensureMetadata);
-        return game;
+        return gameRepository.findByUniqueId(uniqueId);
     }
 
     /**
      * Saves or updates a game.
      */
     public Game saveGame(Game game) {
-        return gameRepository.save(game);
+        // Never merge a summary-only game: it would blank the columns it does not carry
+        loadDetails(game);
+        Game saved = gameRepository.save(game);
+        indexGame(saved);
+        return saved;
     }
 
     /**
@@ -126,7 +217,12 @@ public class GameService {
      */
     public void toggleFavorite(Game game) {
         game.setFavorite(!game.isFavorite());
-        gameRepository.save(game);
+        if (game.getId() != null) {
+            WriteBehindQueue.getInstance().enqueue(WriteBehindQueue.Field.GAME_FAVORITE, game.getId(), game.isFavorite());
+        } else {
+            saveGame(game);
+        }
+        indexGame(game);
     }
 
     /**
@@ -135,70 +231,68 @@ public class GameService {
     public void deleteGame(Game game) {
         if (game != null && game.getId() != null) {
             gameRepository.delete(game.getId());
+            unindexGame(game);
         }
     }
 
     /**
-     * Gets the total count of games.
+     * Whether a game is missing its cover or description.
      */
-    public long getGameCount() {
-        return gameRepository.count();
+    public boolean needsMetadata(Game game) {
+        if (game == null) return false;
+
+        // Check if cover URL is missing or invalid
+        String coverUrl = game.getCoverImageUrl();
+        if (coverUrl == null || coverUrl.isEmpty() || coverUrl.startsWith("/assets/")) {
+            return true;
+        }
+
+        // Check if description is missing
+        return game.getDescription() == null || game.getDescription().isEmpty() ||
+            game.getDescription().startsWith("No description");
     }
 
     /**
-     * Gets games by platform.
+     * Ids of stored games missing a cover or description (see {@link #needsMetadata(Game)}).
      */
-    public List<Game> getGamesByPlatform(Game.Platform platform) {
-        List<Game> games = gameRepository.findByPlatform(platform);
-        for (Game game : games) {
-            ensureMetadata(game);
-        }
-        return games;
+    public List<Long> getGameIdsNeedingMetadata() {
+        return gameRepository.findIdsNeedingMetadata();
     }
 
     /**
-     * Ensures a game has metadata (cover, description, etc.).
-     * Only applies if current values are empty/null.
+     * Fetches metadata (cover, description, etc.) for a game into a fresh copy loaded from
+     * the database, without saving it. The given instance is not touched, so it may be one
+     * the UI is showing. Returns null if the game is no longer stored.
+     * May block on network calls; only call from a background worker.
      */
-    private void ensureMetadata(Game game) {
-        if (game == null) return;
-
-        boolean needsUpdate = false;
-
-        // Check if cover URL is missing or invalid
-        String coverUrl = game.getCoverImageUrl();
-        if (coverUrl == null || coverUrl.isEmpty() || coverUrl.startsWith("/assets/")) {
-            metadataService.applyMetadata(game);
-            needsUpdate = true;
-        }
-
-        // Check if description is missing
-        if (game.getDescription() == null || game.getDescription().isEmpty() ||
-            game.getDescription().startsWith("No description")) {
-            metadataService.applyMetadata(game);
-            needsUpdate = true;
+    public Game fetchMetadata(Game game) {
+        if (game == null || game.getId() == null) return null;
+        Game copy = gameRepository.findById(game.getId()).orElse(null);
+        if (copy != null) {
+            metadataService.applyMetadata(copy);
         }
+        return copy;
+    }
 
-        // Save updated metadata
-        if (needsUpdate && game.getId() != null) {
-            try {
-                gameRepository.save(game);
-            } catch (Exception e) {
-                // Ignore save errors for metadata updates
-            }
-        }
+    /**
+     * Persists fetched metadata through the write-behind queue and re-indexes the game.
+     */
+    public void queueMetadataUpdate(Game game) {
+        WriteBehindQueue queue = WriteBehindQueue.getInstance();
+        queue.enqueue(WriteBehindQueue.Field.GAME_DESCRIPTION, game.getId(), game.getDescription());
+        queue.enqueue(WriteBehindQueue.Field.GAME_DEVELOPER, game.getId(), game.getDeveloper());
+        queue.enqueue(WriteBehindQueue.Field.GAME_COVER_IMAGE_URL, game.getId(), game.getCoverImageUrl());
+        queue.enqueue(WriteBehindQueue.Field.GAME_HERO_IMAGE_URL, game.getId(), game.getHeroImageUrl());
+        indexGame(game);
     }
 
     /**
-     * Clears all games from the database (useful for rescan).
+     * Removes duplicate rows from the database in one batched statement.
+     *
+     * @return number of rows deleted
      */
-    public void clearAllGames() {
-        List<Game> games = gameRepository.findAll();
-        for (Game game : games) {
-            if (game.getPlatform() != Game.Platform.MANUAL) {
-                gameRepository.delete(game.getId());
-            }
-        }
+    public int removeDuplicateGames() {
+        return gameRepository.deleteDuplicates();
     }
 
     /**
@@ -209,6 +303,7 @@ public class GameService {
      */
     public void ignoreGame(Game game) {
         if (game == null) return;
+        loadDetails(game);
 
         // Create an IgnoredGame record
         IgnoredGame ignoredGame = new IgnoredGame(
@@ -229,10 +324,40 @@ public class GameService {
         // Delete the game from the main games table
         if (game.getId() != null) {
             gameRepository.delete(game.getId());
+            unindexGame(game);
             System.out.println("[GameService] Game removed from library: " + game.getTitle());
         }
     }
 
+    /**
+     * Adds an ignore rule (a folder or a title pattern, see IgnoredGame.RuleType) and removes
+     * the library games it covers. Manually added games are kept, as scans never re-add them.
+     *
+     * @return the games removed from the library
+     */
+    public List<Game> addIgnoreRule(IgnoredGame rule) {
+        ignoredGameRepository.save(rule);
+        System.out.println("[GameService] Ignore rule added: " + rule.getRuleType() + " " + rule.getTitle());
+
+        // Delete once the stream has released its connection
+        IgnoreIndex.Snapshot rules = IgnoreIndex.getInstance().snapshot();
+        List<Game> covered;
+        try (Stream<Game> games = gameRepository.streamAll()) {
+            covered = games
+                .filter(game -> game.getPlatform() != Game.Platform.MANUAL)
+                .filter(rules::shouldIgnore)
+                .toList();
+        }
+        for (Game game : covered) {
+            gameRepository.delete(game.getId());
+            unindexGame(game);
+        }
+        if (!covered.isEmpty()) {
+            System.out.println("[GameService] Removed " + covered.size() + " game(s) covered by the rule");
+        }
+        return covered;
+    }
+
     /**
      * Restores a previously ignored game.
      * The game will reappear on the next scan.
@@ -0,0 +1,246 @@
+package com.nexus.service;
+
+import com.nexus.model.Game;
+import com.nexus.model.IgnoredGame;
+import com.nexus.model.IgnoredGame.RuleType;
+import com.nexus.repository.IgnoredGameRepository;
+import com.nexus.repository.RepositoryFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * In-memory index of the ignore rules, used by the scanner to skip ignored games.
+ *
+ * Rules are loaded from IgnoredGameRepository once and reloaded only after the repository
+ * reports a change, not on every scan. Paths are normalized once when the index is built
+ * and kept in a trie of path segments, so checking a game's install path costs one pass
+ * over that path, whether it is ignored exactly (GAME) or lies under an ignored folder
+ * (FOLDER). Unique ids and normalized titles are hash lookups; title globs and regular
+ * expressions are compiled once per reload.
+ */
+public class IgnoreIndex {
+
+    private static IgnoreIndex instance;
+
+    private final AtomicLong changes = new AtomicLong();
+    private final Runnable changeListener = changes::incrementAndGet;
+    private IgnoredGameRepository repository;
+    private Snapshot snapshot;
+    private long snapshotVersion = -1;
+
+    private IgnoreIndex() {
+    }
+
+    public static synchronized IgnoreIndex getInstance() {
+        if (instance == null) {
+            instance = new IgnoreIndex();
+        }
+        return instance;
+    }
+
+    /**
+     * The current rules, reloaded first if they changed since the last call.
+     */
+    public synchronized Snapshot snapshot() {
+        IgnoredGameRepository current = RepositoryFactory.getIgnoredGameRepository();
+        if (current != repository) {
+            // First use, or the repositories were recreated
+            if (repository != null) repository.removeChangeListener(changeListener);
+            current.addChangeListener(changeListener);
+            repository = current;
+            snapshot = null;
+        }
+
+        long version = changes.get();
+        if (snapshot == null || version != snapshotVersion) {
+            // Read after taking the version: a change committed meanwhile triggers another reload
+            snapshot = load(repository.findAll());
+            snapshotVersion = version;
+        }
+        return snapshot;
+    }
+
+    public boolean shouldIgnore(Game game) {
+        return snapshot().shouldIgnore(game);
+    }
+
+    /**
+     * Checks that a title rule compiles; returns the error message, or null if it is valid.
+     */
+    public static String validate(String pattern, RuleType ruleType) {
+        if (pattern == null || pattern.isBlank()) return "The pattern is empty";
+        try {
+            compile(pattern.strip(), ruleType);
+            return null;
+        } catch (PatternSyntaxException e) {
+            return e.getDescription();
+        }
+    }
+
+    private static Snapshot load(List<IgnoredGame> rules) {
+        long start = System.nanoTime();
+        Set<String> uniqueIds = new HashSet<>();
+        Set<String> normalizedTitles = new HashSet<>();
+        PathNode paths = new PathNode();
+        List<Pattern> titlePatterns = new ArrayList<>();
+        int folders = 0;
+
+        for (IgnoredGame rule : rules) {
+            switch (rule.getRuleType()) {
+                case GAME -> {
+                    if (rule.getUniqueId() != null) uniqueIds.add(rule.getUniqueId());
+                    if (rule.getNormalizedTitle() != null && !rule.getNormalizedTitle().isEmpty()) {
+                        normalizedTitles.add(rule.getNormalizedTitle());
+                    }
+                    PathNode node = paths.insert(rule.getInstallPath());
+                    if (node != null) node.exact = true;
+                }
+                case FOLDER -> {
+                    PathNode node = paths.insert(rule.getInstallPath());
+                    if (node != null) {
+                        node.folder = true;
+                        folders++;
+                    }
+                }
+                case TITLE_GLOB, TITLE_REGEX -> {
+                    if (rule.getTitle() == null || rule.getTitle().isBlank()) continue;
+                    try {
+                        titlePatterns.add(compile(rule.getTitle().strip(), rule.getRuleType()));
+                    } catch (PatternSyntaxException e) {
+                        System.err.println("[IgnoreIndex] Skipping invalid title rule '" + rule.getTitle() + "': "
+                                + e.getDescription());
+                    }
+                }
+            }
+        }
+
+        System.out.printf("[IgnoreIndex] Loaded %d ignored ids, %d titles, %d folders, %d title patterns (%.1f ms)%n",
+                uniqueIds.size(), normalizedTitles.size(), folders, titlePatterns.size(),
+                (System.nanoTime() - start) / 1_000_000.0);
+        return new Snapshot(uniqueIds, normalizedTitles, paths, titlePatterns);
+    }
+
+    /**
+     * Globs match the whole title ("*" any text, "?" one character); regular expressions
+     * match anywhere in it. Both ignore case.
+     */
+    private static Pattern compile(String pattern, RuleType ruleType) {
+        if (ruleType == RuleType.TITLE_REGEX) {
+            return Pattern.compile(pattern, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+        }
+        StringBuilder regex = new StringBuilder("^");
+        StringBuilder literal = new StringBuilder();
+        for (char c : pattern.toCharArray()) {
+            if (c == '*' || c == '?') {
+                if (!literal.isEmpty()) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(c == '*' ? ".*" : ".");
+            } else {
+                literal.append(c);
+            }
+        }
+        if (!literal.isEmpty()) regex.append(Pattern.quote(literal.toString()));
+        return Pattern.compile(regex.append('$').toString(), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+    }
+
+    /**
+     * An immutable view of the rules, safe to use for a whole scan.
+     */
+    public static class Snapshot {
+        private final Set<String> uniqueIds;
+        private final Set<String> normalizedTitles;
+        private final PathNode paths;
+        private final List<Pattern> titlePatterns;
+
+        private Snapshot(Set<String> uniqueIds, Set<String> normalizedTitles, PathNode paths,
+                         List<Pattern> titlePatterns) {
+            this.uniqueIds = uniqueIds;
+            this.normalizedTitles = normalizedTitles;
+            this.paths = paths;
+            this.titlePatterns = titlePatterns;
+        }
+
+        /**
+         * Checks if a game should be ignored by uniqueId, normalized title, install path
+         * (exact or below an ignored folder) or a title pattern.
+         */
+        public boolean shouldIgnore(Game game) {
+            if (game.getUniqueId() != null && uniqueIds.contains(game.getUniqueId())) {
+                return true;
+            }
+
+            String title = game.getTitle();
+            String normalizedTitle = IgnoredGame.normalizeTitle(title);
+            if (!normalizedTitle.isEmpty() && normalizedTitles.contains(normalizedTitle)) {
+                return true;
+            }
+
+            if (paths.matches(game.getInstallPath())) {
+                return true;
+            }
+
+            if (title != null) {
+                for (Pattern pattern : titlePatterns) {
+                    if (pattern.matcher(title).find()) return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Trie over path segments. Paths are compared case-insensitively with either separator,
+     * so "D:/Games/Foo" and "d:\games\foo\" are the same key.
+     */
+    private static class PathNode {
+        private final Map<String, PathNode> children = new HashMap<>(4);
+        /** A GAME rule has exactly this install path. */
+        boolean exact;
+        /** A FOLDER rule covers this path and everything below it. */
+        boolean folder;
+
+        /** The node for a path, or null for a blank path (which would cover everything). */
+        PathNode insert(String path) {
+            if (path == null || segments(path).isEmpty()) return null;
+            PathNode node = this;
+            for (String segment : segments(path)) {
+                node = node.children.computeIfAbsent(segment, key -> new PathNode());
+            }
+            return node;
+        }
+
+        boolean matches(String path) {
+            if (path == null || path.isBlank()) return false;
+            PathNode node = this;
+            for (String segment : segments(path)) {
+                if (node.folder) return true;
+                node = node.children.get(segment);
+                if (node == null) return false;
+            }
+            return node.folder || node.exact;
+        }
+
+        private static List<String> segments(String path) {
+            List<String> segments = new ArrayList<>();
+            String normalized = path.strip().toLowerCase();
+            int start = 0;
+            for (int i = 0; i <= normalized.length(); i++) {
+                if (i == normalized.length() || normalized.charAt(i) == '\\' || normalized.charAt(i) == '/') {
+                    if (i > start) segments.add(normalized.substring(start, i));
+                    start = i + 1;
+                }
+            }
+            return segments;
+        }
+    }
+}
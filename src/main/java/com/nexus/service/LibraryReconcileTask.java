@@ -0,0 +1,167 @@
+package com.nexus.service;
+
+import com.nexus.model.Game;
+import javafx.concurrent.Task;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * JavaFX Task that reconciles the library in the background, so the GameService
+ * read path never writes or blocks on the network.
+ *
+ * 1. Removes duplicate rows with one batched DELETE.
+ * 2. Fetches missing metadata through a small bounded worker pool; when its queue is
+ *    full the task thread runs the fetch itself, which throttles submission. Workers
+ *    fill in copies loaded from the database, never the games the UI is showing.
+ * 3. Hands the copies to the LibraryStore in batches; it applies them to its games on
+ *    the FX thread and persists them through the write-behind queue, so views update
+ *    once per batch instead of once per game.
+ */
+public class LibraryReconcileTask extends Task<LibraryReconcileTask.Result> {
+
+    private static final int METADATA_WORKERS = 2;
+    private static final int METADATA_QUEUE_SIZE = 8;
+    private static final int SAVE_BATCH_SIZE = 16;
+
+    private final GameService gameService = GameService.getInstance();
+    private final LibraryStore libraryStore = LibraryStore.getInstance();
+
+    @Override
+    protected Result call() throws Exception {
+        updateMessage("Cleaning up library...");
+        updateProgress(-1, 1);
+
+        int removed = gameService.removeDuplicateGames();
+        if (removed > 0) {
+            System.out.println("[LibraryReconcileTask] Removed " + removed + " duplicate game(s)");
+            // The store may hold a row that was just deleted; resync it with the database
+            libraryStore.replaceAll(gameService.getLibraryGames());
+        } else {
+            libraryStore.load();
+        }
+
+        // Library games are summaries, so ask the database which ones lack metadata
+        Set<Long> missing = new HashSet<>(gameService.getGameIdsNeedingMetadata());
+        List<Game> pending = new ArrayList<>();
+        for (Game game : libraryStore.getGames()) {
+            if (missing.contains(game.getId())) {
+                pending.add(game);
+            }
+        }
+        if (pending.isEmpty() || isCancelled()) {
+            return new Result(removed, 0);
+        }
+
+        int total = pending.size();
+        int updated = 0;
+        int done = 0;
+        List<Game> batch = new ArrayList<>(SAVE_BATCH_SIZE);
+        ThreadPoolExecutor executor = createMetadataExecutor();
+        CompletionService<Game> completion = new ExecutorCompletionService<>(executor);
+        try {
+            int submitted = 0;
+            for (Game game : pending) {
+                if (isCancelled()) break;
+                completion.submit(() -> gameService.fetchMetadata(game));
+                submitted++;
+
+                // Drain whatever finished meanwhile
+                Future<Game> finished;
+                while ((finished = completion.poll()) != null) {
+                    updated += collect(finished, batch);
+                    reportProgress(++done, total);
+                }
+            }
+
+            while (done < submitted && !isCancelled()) {
+                updated += collect(completion.take(), batch);
+                reportProgress(++done, total);
+            }
+        } finally {
+            executor.shutdownNow();
+            if (!batch.isEmpty()) {
+                libraryStore.applyMetadata(new ArrayList<>(batch));
+            }
+        }
+
+        updateMessage("Library up to date");
+        return new Result(removed, updated);
+    }
+
+    /**
+     * Adds a finished fetch to the save batch, flushing it to the store when full.
+     *
+     * @return 1 if the game now has metadata, 0 otherwise
+     */
+    private int collect(Future<Game> finished, List<Game> batch) throws InterruptedException {
+        try {
+            Game game = finished.get();
+            if (game == null) return 0;  // Deleted meanwhile
+            batch.add(game);
+            if (batch.size() >= SAVE_BATCH_SIZE) {
+                libraryStore.applyMetadata(new ArrayList<>(batch));
+                batch.clear();
+            }
+            return gameService.needsMetadata(game) ? 0 : 1;
+        } catch (ExecutionException e) {
+            System.err.println("[LibraryReconcileTask] Metadata fetch failed: " + e.getCause());
+            return 0;
+        }
+    }
+
+    private void reportProgress(int done, int total) {
+        updateProgress(done, total);
+        updateMessage("Fetching metadata " + done + "/" + total + "...");
+    }
+
+    private static ThreadPoolExecutor createMetadataExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(METADATA_WORKERS, METADATA_WORKERS, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(METADATA_QUEUE_SIZE),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "metadata-worker-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Override
+    protected void succeeded() {
+        super.succeeded();
+        Result result = getValue();
+        System.out.println("[LibraryReconcileTask] Reconcile done: " + result.duplicatesRemoved
+                + " duplicate(s) removed, " + result.metadataUpdated + " game(s) updated");
+    }
+
+    @Override
+    protected void failed() {
+        super.failed();
+        Throwable exception = getException();
+        System.err.println("[LibraryReconcileTask] Reconcile failed: " + (exception != null ? exception.getMessage() : "Unknown error"));
+    }
+
+    /**
+     * Outcome of a reconcile run.
+     */
+    public static class Result {
+        public final int duplicatesRemoved;
+        public final int metadataUpdated;
+
+        Result(int duplicatesRemoved, int metadataUpdated) {
+            this.duplicatesRemoved = duplicatesRemoved;
+            this.metadataUpdated = metadataUpdated;
+        }
+    }
+}
@@ -0,0 +1,417 @@
+package com.nexus.service;
+
+import com.nexus.model.Game;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ranked, typo-tolerant search over game titles.
+ *
+ * Titles are normalized once when indexed: accents and punctuation are dropped, letters
+ * are lowercased and word starts are recorded ("The Witcher 3" becomes "thewitcher3" with
+ * words at 0, 3 and 10, acronym "tw3"). A query is normalized the same way and each title
+ * is scored by the best tier it reaches:
+ *
+ *   exact > prefix > word start > acronym > substring > subsequence > edit distance
+ *
+ * The edit distance tier uses optimal string alignment (adjacent transpositions count as
+ * one edit) against the best matching window of the title, so "wticher" still finds
+ * "The Witcher 3". It is computed bit-parallel (Hyyrö's variant of Myers' algorithm),
+ * one 64-bit word per title character. Scoring reuses preallocated buffers, so ranking
+ * does not allocate per keystroke; only the returned list is new.
+ */
+public class LibrarySearchEngine {
+
+    private static final int SCORE_EXACT = 10_000;
+    private static final int SCORE_PREFIX = 9_000;
+    private static final int SCORE_WORD_START = 8_000;
+    private static final int SCORE_ACRONYM = 7_000;
+    private static final int SCORE_SUBSTRING = 6_000;
+    private static final int SCORE_SUBSEQUENCE = 4_000;
+    private static final int SCORE_FUZZY = 2_000;
+    private static final int NO_MATCH = 0;
+
+    // Minimum query length for the looser tiers, to avoid matching everything on one letter
+    private static final int MIN_SUBSEQUENCE_LENGTH = 3;
+    private static final int MIN_FUZZY_LENGTH = 4;
+    // Bit-parallel edit distance keeps one query position per bit
+    private static final int MAX_FUZZY_LENGTH = 64;
+
+    private final Map<String, Entry> entriesByKey = new LinkedHashMap<>();
+    private Entry[] entries = new Entry[0];
+    private boolean dirty;
+
+    // Scratch buffers reused across searches
+    private char[] queryBuffer = new char[32];
+    private long[] ranked = new long[0];
+    // Per-character bitmasks of query positions: ASCII in a table, anything else in a short list
+    private final long[] asciiMasks = new long[128];
+    private final char[] otherChars = new char[MAX_FUZZY_LENGTH];
+    private final long[] otherMasks = new long[MAX_FUZZY_LENGTH];
+    private int otherCount;
+    private long queryCharSet;
+    // Number of query positions per character set bit
+    private final int[] queryCharCounts = new int[64];
+
+    /**
+     * Replaces all indexed games.
+     */
+    public synchronized void rebuild(Collection<Game> games) {
+        entriesByKey.clear();
+        for (Game game : games) {
+            entriesByKey.put(Game.identityKey(game), new Entry(game));
+        }
+        dirty = true;
+    }
+
+    /**
+     * Adds a game or replaces the indexed copy of the same game.
+     */
+    public synchronized void put(Game game) {
+        if (game == null) return;
+        entriesByKey.put(Game.identityKey(game), new Entry(game));
+        dirty = true;
+    }
+
+    public synchronized void remove(Game game) {
+        if (game == null) return;
+        if (entriesByKey.remove(Game.identityKey(game)) != null) {
+            dirty = true;
+        }
+    }
+
+    /**
+     * Returns games whose title matches the query, best match first.
+     * Within a tier, earlier matches and shorter titles rank first; remaining ties keep
+     * library order.
+     */
+    public synchronized List<Game> search(String query) {
+        if (dirty) {
+            entries = entriesByKey.values().toArray(new Entry[0]);
+            dirty = false;
+        }
+
+        int queryLength = normalizeQuery(query);
+        if (queryLength == 0) {
+            return new ArrayList<>();
+        }
+        prepareMasks(queryLength);
+
+        if (ranked.length < entries.length) {
+            ranked = new long[entries.length];
+        }
+
+        // Pack (score, entry index) into a long so sorting needs no boxing or comparator
+        int matches = 0;
+        for (int i = 0; i < entries.length; i++) {
+            int score = score(entries[i], queryLength);
+            if (score != NO_MATCH) {
+                ranked[matches++] = ((long) (Integer.MAX_VALUE - score) << 32) | i;
+            }
+        }
+        Arrays.sort(ranked, 0, matches);
+
+        List<Game> results = new ArrayList<>(matches);
+        for (int i = 0; i < matches; i++) {
+            results.add(entries[(int) ranked[i]].game);
+        }
+        return results;
+    }
+
+    // ==================== Scoring ====================
+
+    private int score(Entry entry, int queryLength) {
+        char[] text = entry.text;
+        int textLength = text.length;
+        char[] query = queryBuffer;
+
+        // Shorter titles rank higher within a tier
+        int lengthPenalty = Math.min(textLength, 99);
+
+        // Every query position whose character is missing from the title costs at least one edit
+        int missingChars = 0;
+        long missing = queryCharSet & ~entry.charSet;
+        while (missing != 0) {
+            missingChars += queryCharCounts[Long.numberOfTrailingZeros(missing)];
+            missing &= missing - 1;
+        }
+
+        if (missingChars == 0 && queryLength <= textLength) {
+            int position = indexOf(text, query, queryLength, 0);
+            if (position == 0) {
+                return (queryLength == textLength ? SCORE_EXACT : SCORE_PREFIX) - lengthPenalty;
+            }
+
+            // Substring: prefer a hit that starts a word
+            int firstHit = position;
+            while (position >= 0) {
+                if (entry.isWordStart(position)) {
+                    return SCORE_WORD_START - Math.min(entry.wordIndex(position), 9) * 100 - lengthPenalty;
+                }
+                position = indexOf(text, query, queryLength, position + 1);
+            }
+
+            if (queryLength >= 2 && queryLength <= entry.acronym.length) {
+                int acronymHit = indexOf(entry.acronym, query, queryLength, 0);
+                if (acronymHit >= 0) {
+                    return SCORE_ACRONYM - Math.min(acronymHit, 9) * 100 - lengthPenalty;
+                }
+            }
+
+            if (firstHit >= 0) {
+                return SCORE_SUBSTRING - Math.min(firstHit, 99) * 10 - lengthPenalty;
+            }
+
+            if (queryLength >= MIN_SUBSEQUENCE_LENGTH) {
+                int span = subsequenceSpan(text, query, queryLength);
+                if (span > 0) {
+                    // Tighter spans rank higher
+                    return SCORE_SUBSEQUENCE - Math.min(span - queryLength, 99) * 10 - lengthPenalty;
+                }
+            }
+        }
+
+        if (queryLength >= MIN_FUZZY_LENGTH && queryLength <= MAX_FUZZY_LENGTH) {
+            int maxEdits = queryLength <= 5 ? 1 : queryLength <= 9 ? 2 : 3;
+            if (missingChars > maxEdits) {
+                return NO_MATCH;
+            }
+            int distance = windowDistance(text, queryLength);
+            if (distance <= maxEdits) {
+                return SCORE_FUZZY - distance * 500 - lengthPenalty;
+            }
+        }
+
+        return NO_MATCH;
+    }
+
+    private static int indexOf(char[] text, char[] query, int queryLength, int from) {
+        int last = text.length - queryLength;
+        outer:
+        for (int i = from; i <= last; i++) {
+            for (int j = 0; j < queryLength; j++) {
+                if (text[i + j] != query[j]) continue outer;
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Length of the text span covering the query as a subsequence, starting at the first
+     * occurrence of its first character, or -1 when the query is not a subsequence.
+     */
+    private static int subsequenceSpan(char[] text, char[] query, int queryLength) {
+        int start = -1;
+        int q = 0;
+        for (int i = 0; i < text.length; i++) {
+            if (text[i] == query[q]) {
+                if (q == 0) start = i;
+                if (++q == queryLength) {
+                    return i + 1 - start;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Smallest optimal string alignment distance between the query and any window of the
+     * text (the query may start and end anywhere in the title). Bit i of the vertical
+     * delta vectors tracks query position i; the score follows the last query row.
+     */
+    private int windowDistance(char[] text, int queryLength) {
+        long lastBit = 1L << (queryLength - 1);
+        long positive = queryLength == 64 ? -1L : (1L << queryLength) - 1;
+        long negative = 0;
+        long diagonalZero = 0;
+        long previousMatch = 0;
+        int distance = queryLength;
+        int best = queryLength;
+
+        for (char t : text) {
+            long match = maskOf(t);
+            long transposition = (((~diagonalZero) & match) << 1) & previousMatch;
+            diagonalZero = (((match & positive) + positive) ^ positive) | match | negative | transposition;
+            long horizontalPositive = negative | ~(diagonalZero | positive);
+            long horizontalNegative = diagonalZero & positive;
+            if ((horizontalPositive & lastBit) != 0) {
+                distance++;
+            } else if ((horizontalNegative & lastBit) != 0) {
+                distance--;
+            }
+            // No carry-in at row 0: a match may start anywhere in the title
+            horizontalPositive <<= 1;
+            horizontalNegative <<= 1;
+            positive = horizontalNegative | ~(diagonalZero | horizontalPositive);
+            negative = horizontalPositive & diagonalZero;
+            previousMatch = match;
+            best = Math.min(best, distance);
+        }
+        return best;
+    }
+
+    private void prepareMasks(int queryLength) {
+        for (int i = 0; i < otherCount; i++) {
+            otherMasks[i] = 0;
+        }
+        otherCount = 0;
+        Arrays.fill(asciiMasks, 0);
+
+        queryCharSet = 0;
+        Arrays.fill(queryCharCounts, 0);
+        for (int i = 0; i < queryLength; i++) {
+            long bit = charBit(queryBuffer[i]);
+            queryCharSet |= bit;
+            queryCharCounts[Long.numberOfTrailingZeros(bit)]++;
+        }
+
+        int length = Math.min(queryLength, MAX_FUZZY_LENGTH);
+        for (int i = 0; i < length; i++) {
+            char c = queryBuffer[i];
+            if (c < 128) {
+                asciiMasks[c] |= 1L << i;
+                continue;
+            }
+            int slot = 0;
+            while (slot < otherCount && otherChars[slot] != c) slot++;
+            if (slot == otherCount) {
+                otherChars[otherCount++] = c;
+            }
+            otherMasks[slot] |= 1L << i;
+        }
+    }
+
+    private long maskOf(char c) {
+        if (c < 128) return asciiMasks[c];
+        for (int i = 0; i < otherCount; i++) {
+            if (otherChars[i] == c) return otherMasks[i];
+        }
+        return 0;
+    }
+
+    // ==================== Normalization ====================
+
+    /**
+     * Normalizes the query into the shared buffer and returns its length.
+     */
+    private int normalizeQuery(String query) {
+        if (query == null) return 0;
+        String source = needsDecomposition(query) ? decompose(query) : query;
+
+        if (queryBuffer.length < source.length()) {
+            queryBuffer = new char[source.length()];
+        }
+
+        int length = 0;
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                queryBuffer[length++] = Character.toLowerCase(c);
+            }
+        }
+        return length;
+    }
+
+    private static boolean needsDecomposition(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) > 127) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Splits accented characters into base letter + combining mark, so the mark is
+     * dropped as punctuation ("Pokémon" matches "pokemon").
+     */
+    private static String decompose(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFD);
+    }
+
+    /**
+     * Bit for a character in a 64-bit character set: letters and digits get their own bit,
+     * everything else shares the top bit (which can only make the filter more permissive).
+     */
+    private static long charBit(char c) {
+        if (c >= 'a' && c <= 'z') return 1L << (c - 'a');
+        if (c >= '0' && c <= '9') return 1L << (26 + c - '0');
+        return 1L << 63;
+    }
+
+    /**
+     * Precomputed normalized forms of one title.
+     */
+    private static class Entry {
+        final Game game;
+        final char[] text;
+        final char[] acronym;
+        // Offsets in text where a word starts, ascending
+        final int[] wordStarts;
+        // Characters occurring in text, see charBit
+        final long charSet;
+
+        Entry(Game game) {
+            this.game = game;
+            String title = game.getTitle() != null ? game.getTitle() : "";
+            if (needsDecomposition(title)) {
+                title = decompose(title);
+            }
+
+            StringBuilder normalized = new StringBuilder(title.length());
+            StringBuilder initials = new StringBuilder();
+            int[] starts = new int[title.length() + 1];
+            int wordCount = 0;
+
+            char previous = ' ';
+            boolean previousKept = false;
+            for (int i = 0; i < title.length(); i++) {
+                char c = title.charAt(i);
+                if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                    continue;
+                }
+                if (!Character.isLetterOrDigit(c)) {
+                    previousKept = false;
+                    previous = c;
+                    continue;
+                }
+
+                // New word after punctuation/space, on letter<->digit changes and on camel case
+                boolean wordStart = !previousKept
+                        || Character.isDigit(c) != Character.isDigit(previous)
+                        || (Character.isUpperCase(c) && Character.isLowerCase(previous));
+                if (wordStart) {
+                    starts[wordCount++] = normalized.length();
+                    initials.append(Character.toLowerCase(c));
+                }
+                normalized.append(Character.toLowerCase(c));
+                previous = c;
+                previousKept = true;
+            }
+
+            this.text = normalized.toString().toCharArray();
+            this.acronym = initials.toString().toCharArray();
+            this.wordStarts = Arrays.copyOf(starts, wordCount);
+
+            long chars = 0;
+            for (char c : text) {
+                chars |= charBit(c);
+            }
+            this.charSet = chars;
+        }
+
+        boolean isWordStart(int position) {
+            return Arrays.binarySearch(wordStarts, position) >= 0;
+        }
+
+        int wordIndex(int position) {
+            int index = Arrays.binarySearch(wordStarts, position);
+            return index >= 0 ? index : -index - 1;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.nexus.service;
+
+import com.nexus.model.Game;
+import com.nexus.model.GameSummary;
+import com.nexus.util.AppConfig;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Compact binary copy of the library's card fields (GameSummary), read at startup
+ * so the grid can be painted before the database is open.
+ *
+ * The file is only a cache: the database stays the source of truth and the store
+ * reconciles against it once it is ready. A missing, outdated or damaged snapshot is
+ * ignored. Writes go to a temporary file that is then moved over the old one, so a
+ * crash mid-write never leaves a torn snapshot.
+ *
+ * Layout: magic, format version, platform and status name tables, game count, one record
+ * per game, CRC32. Records refer to platforms and statuses by their position in the name
+ * tables, so reordering the enums does not misread an older snapshot; a renamed or removed
+ * constant makes it outdated.
+ */
+public class LibrarySnapshot {
+
+    private static final int MAGIC = 0x4E584C53; // "NXLS"
+    private static final int VERSION = 2;
+    private static final String DEFAULT_PATH = "library.snapshot";
+
+    private static final int HAS_UNIQUE_ID = 1;
+    private static final int HAS_DEVELOPER = 1 << 1;
+    private static final int HAS_COVER = 1 << 2;
+    private static final int FAVORITE = 1 << 3;
+
+    private final Path file;
+
+    public LibrarySnapshot() {
+        this(Path.of(AppConfig.get("nexus.snapshot.path", DEFAULT_PATH)));
+    }
+
+    public LibrarySnapshot(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Reads the snapshot. Returns an empty list if there is none or it cannot be used.
+     */
+    public List<GameSummary> read() {
+        if (!Files.isRegularFile(file)) {
+            return Collections.emptyList();
+        }
+        try (InputStream raw = new BufferedInputStream(Files.newInputStream(file))) {
+            CRC32 crc = new CRC32();
+            DataInputStream in = new DataInputStream(new CheckedInputStream(raw, crc));
+            if (in.readInt() != MAGIC || in.readUnsignedShort() != VERSION) {
+                System.out.println("[LibrarySnapshot] Ignoring snapshot written by another version");
+                return Collections.emptyList();
+            }
+            List<Game.Platform> platforms = readNameTable(in, Game.Platform.class);
+            List<Game.Status> statuses = readNameTable(in, Game.Status.class);
+            if (platforms == null || statuses == null) {
+                System.out.println("[LibrarySnapshot] Ignoring snapshot with unknown platforms or statuses");
+                return Collections.emptyList();
+            }
+
+            int count = in.readInt();
+            // A damaged count must not size the list; the checksum catches it afterwards
+            List<GameSummary> games = new ArrayList<>(Math.max(0, Math.min(count, 10_000)));
+            for (int i = 0; i < count; i++) {
+                long id = in.readLong();
+                int flags = in.readUnsignedByte();
+                Game.Platform platform = platforms.get(in.readUnsignedByte());
+                Game.Status status = statuses.get(in.readUnsignedByte());
+                String title = readString(in);
+                String uniqueId = (flags & HAS_UNIQUE_ID) != 0 ? readString(in) : null;
+                String developer = (flags & HAS_DEVELOPER) != 0 ? readString(in) : null;
+                String cover = (flags & HAS_COVER) != 0 ? readString(in) : null;
+                games.add(new GameSummary(id, uniqueId, title, developer, cover, platform, status,
+                        (flags & FAVORITE) != 0));
+            }
+
+            long expected = crc.getValue();
+            if (new DataInputStream(raw).readLong() != expected) {
+                System.err.println("[LibrarySnapshot] Ignoring damaged snapshot " + file);
+                return Collections.emptyList();
+            }
+            return games;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("[LibrarySnapshot] Could not read snapshot " + file + ": " + e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Replaces the snapshot with the given games. Games without an id (never persisted) are skipped.
+     */
+    public void write(List<GameSummary> games) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+
+        List<GameSummary> persisted = new ArrayList<>(games.size());
+        for (GameSummary game : games) {
+            if (game.id() != null && game.title() != null && game.platform() != null && game.status() != null) {
+                persisted.add(game);
+            }
+        }
+
+        try (OutputStream raw = new BufferedOutputStream(Files.newOutputStream(temp))) {
+            CRC32 crc = new CRC32();
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(raw, crc));
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            writeNameTable(out, Game.Platform.values());
+            writeNameTable(out, Game.Status.values());
+            out.writeInt(persisted.size());
+            for (GameSummary game : persisted) {
+                int flags = (game.uniqueId() != null ? HAS_UNIQUE_ID : 0)
+                        | (game.developer() != null ? HAS_DEVELOPER : 0)
+                        | (game.coverImageUrl() != null ? HAS_COVER : 0)
+                        | (game.favorite() ? FAVORITE : 0);
+                out.writeLong(game.id());
+                out.writeByte(flags);
+                out.writeByte(game.platform().ordinal());
+                out.writeByte(game.status().ordinal());
+                writeString(out, game.title());
+                if (game.uniqueId() != null) writeString(out, game.uniqueId());
+                if (game.developer() != null) writeString(out, game.developer());
+                if (game.coverImageUrl() != null) writeString(out, game.coverImageUrl());
+            }
+            out.flush();
+            new DataOutputStream(raw).writeLong(crc.getValue());
+        }
+
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /** Enum constant names in ordinal order, which is what the records' codes refer to. */
+    private static void writeNameTable(DataOutputStream out, Enum<?>[] constants) throws IOException {
+        out.writeByte(constants.length);
+        for (Enum<?> constant : constants) {
+            writeString(out, constant.name());
+        }
+    }
+
+    /**
+     * Maps the codes of a name table to the current constants, or returns null if a name
+     * is no longer one of them.
+     */
+    private static <E extends Enum<E>> List<E> readNameTable(DataInputStream in, Class<E> type) throws IOException {
+        int size = in.readUnsignedByte();
+        List<E> constants = new ArrayList<>(size);
+        boolean known = true;
+        for (int i = 0; i < size; i++) {
+            String name = readString(in);
+            try {
+                constants.add(Enum.valueOf(type, name));
+            } catch (IllegalArgumentException e) {
+                known = false;
+            }
+        }
+        return known ? constants : null;
+    }
+
+    /** Strings as length-prefixed UTF-8 (writeUTF caps them at 64 KB). */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Negative string length");
+        }
+        return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,427 @@
+package com.nexus.service;
+
+import com.nexus.model.Game;
+import com.nexus.model.GameSummary;
+import com.nexus.model.IgnoredGame;
+import javafx.application.Platform;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Application-wide in-memory library, the single source of truth for every view.
+ *
+ * The store is loaded from the database once; after that, scans, edits, deletes and
+ * favorite toggles go through it, so it persists the change (via GameService) and
+ * publishes a {@link Change} describing exactly which games were added, updated or
+ * removed. Views read from the store and subscribe to changes instead of re-querying
+ * the database on navigation. Listeners are always notified on the FX thread.
+ *
+ * The card fields of the library are also kept in a {@link LibrarySnapshot}, rewritten
+ * shortly after every change, so the next start can show the grid from it before the
+ * database is open ({@link #loadSnapshot()}).
+ */
+public class LibraryStore {
+
+    private static final int LOAD_PAGE_SIZE = 500;
+    /** Changes arriving within this delay are written to the snapshot together. */
+    private static final long SNAPSHOT_DELAY_MS = 2_000;
+
+    private static LibraryStore instance;
+
+    private final GameService gameService = GameService.getInstance();
+    private final Map<String, Game> gamesByKey = new LinkedHashMap<>();
+    private final List<Consumer<Change>> listeners = new CopyOnWriteArrayList<>();
+    private final Object loadLock = new Object();
+    private volatile boolean loaded;
+    /** The store holds games from the snapshot that the database has not confirmed yet. */
+    private volatile boolean fromSnapshot;
+
+    private final LibrarySnapshot snapshot = new LibrarySnapshot();
+    private final ScheduledExecutorService snapshotWriter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "library-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private ScheduledFuture<?> pendingSnapshot;
+
+    private LibraryStore() {
+    }
+
+    public static synchronized LibraryStore getInstance() {
+        if (instance == null) {
+            instance = new LibraryStore();
+        }
+        return instance;
+    }
+
+    // ==================== Reads (in-memory, no I/O once loaded) ====================
+
+    /**
+     * Shows the library saved in the snapshot, without touching the database, and publishes
+     * it as RESET. Does nothing once the database has been loaded. Games from the snapshot
+     * are summaries with their database ids; {@link #load()} later reconciles them.
+     *
+     * @return number of games shown
+     */
+    public int loadSnapshot() {
+        synchronized (loadLock) {
+            if (loaded || fromSnapshot) return 0;
+            long start = System.nanoTime();
+            List<Game> games = new ArrayList<>();
+            for (GameSummary summary : snapshot.read()) {
+                games.add(summary.toGame());
+            }
+            if (games.isEmpty()) return 0;
+
+            synchronized (this) {
+                for (Game game : games) {
+                    gamesByKey.putIfAbsent(Game.identityKey(game), game);
+                }
+            }
+            gameService.indexGames(games);
+            fromSnapshot = true;
+            publish(new Change(ChangeType.RESET, games));
+            System.out.printf("[LibraryStore] Showing %d games from snapshot (%.1f ms)%n",
+                    games.size(), (System.nanoTime() - start) / 1_000_000.0);
+            return games.size();
+        }
+    }
+
+    /**
+     * Loads the library from the database on first use. Blocking: call from a background thread.
+     * Games arrive in pages: the first page is published as RESET so views can paint right
+     * away, the following ones as ADDED. If the snapshot is already on screen, the database
+     * content is read in full and only the differences are published.
+     */
+    public void load() {
+        if (loaded) return;
+        synchronized (loadLock) {
+            if (loaded) return;
+            if (fromSnapshot) {
+                List<Game> games = gameService.getLibraryGames();
+                reconcile(games);
+                fromSnapshot = false;
+                scheduleSnapshot();
+                System.out.println("[LibraryStore] Loaded " + games.size() + " games, reconciled with snapshot");
+                return;
+            }
+            int[] count = {0};
+            gameService.loadLibraryPages(LOAD_PAGE_SIZE, page -> {
+                synchronized (this) {
+                    for (Game game : page) {
+                        gamesByKey.putIfAbsent(Game.identityKey(game), game);
+                    }
+                }
+                publish(new Change(count[0] == 0 ? ChangeType.RESET : ChangeType.ADDED, page));
+                count[0] += page.size();
+            });
+            if (count[0] == 0) {
+                publish(new Change(ChangeType.RESET, List.of()));
+            }
+            loaded = true;
+            scheduleSnapshot();
+            System.out.println("[LibraryStore] Loaded " + count[0] + " games");
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Snapshot of all games in library order.
+     */
+    public synchronized List<Game> getGames() {
+        return new ArrayList<>(gamesByKey.values());
+    }
+
+    public synchronized List<Game> getFavorites() {
+        List<Game> favorites = new ArrayList<>();
+        for (Game game : gamesByKey.values()) {
+            if (game.isFavorite()) favorites.add(game);
+        }
+        favorites.sort((a, b) -> {
+            String titleA = a.getTitle() != null ? a.getTitle() : "";
+            String titleB = b.getTitle() != null ? b.getTitle() : "";
+            return titleA.compareTo(titleB);
+        });
+        return favorites;
+    }
+
+    /**
+     * Returns the store's instance of a game, or null if it is no longer in the library.
+     */
+    public synchronized Game find(Game game) {
+        return game != null ? gamesByKey.get(Game.identityKey(game)) : null;
+    }
+
+    /**
+     * Loads the full details (description, paths, play stats) of a library game in place.
+     * Games are held as lightweight summaries until something needs more than a card.
+     * Blocking: call from a background thread where possible.
+     */
+    public void loadDetails(Game game) {
+        gameService.loadDetails(game);
+    }
+
+    // ==================== Mutations (persist, then publish) ====================
+
+    /**
+     * Adds or updates a game. Returns the persisted instance held by the store.
+     */
+    public Game save(Game game) {
+        Game saved = gameService.saveGame(game);
+        boolean added;
+        synchronized (this) {
+            added = gamesByKey.put(Game.identityKey(saved), saved) == null;
+        }
+        publish(new Change(added ? ChangeType.ADDED : ChangeType.UPDATED, List.of(saved)));
+        return saved;
+    }
+
+    /**
+     * Copies fetched metadata into the library's games, persists it (written behind) and
+     * publishes them as a single change. The fetched games are copies (see
+     * GameService.fetchMetadata); the shared instances are only written on the FX thread.
+     */
+    public void applyMetadata(List<Game> fetched) {
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(() -> applyMetadata(fetched));
+            return;
+        }
+        List<Game> updated = new ArrayList<>(fetched.size());
+        for (Game copy : fetched) {
+            Game held = find(copy);
+            if (held == null) continue;
+            held.copyMetadataFrom(copy);
+            gameService.queueMetadataUpdate(held);
+            updated.add(held);
+        }
+        if (!updated.isEmpty()) {
+            publish(new Change(ChangeType.UPDATED, updated));
+        }
+    }
+
+    public void toggleFavorite(Game game) {
+        gameService.toggleFavorite(game);
+        synchronized (this) {
+            gamesByKey.put(Game.identityKey(game), game);
+        }
+        publish(new Change(ChangeType.UPDATED, List.of(game)));
+    }
+
+    public void delete(Game game) {
+        gameService.deleteGame(game);
+        removeAndPublish(game);
+    }
+
+    /**
+     * Ignores a game: it is removed from the library and skipped by future scans.
+     */
+    public void ignore(Game game) {
+        gameService.ignoreGame(game);
+        removeAndPublish(game);
+    }
+
+    /**
+     * Adds an ignore rule; the library games it covers are removed and skipped by future scans.
+     */
+    public void addIgnoreRule(IgnoredGame rule) {
+        List<Game> covered = gameService.addIgnoreRule(rule);
+        List<Game> removed = new ArrayList<>();
+        synchronized (this) {
+            for (Game game : covered) {
+                Game held = gamesByKey.remove(Game.identityKey(game));
+                if (held != null) removed.add(held);
+            }
+        }
+        if (!removed.isEmpty()) {
+            publish(new Change(ChangeType.REMOVED, removed));
+        }
+    }
+
+    /**
+     * Replaces the library content with the whole library as stored after a scan (already
+     * persisted by the scanner) and publishes only the differences. Games missing from the
+     * collection are removed from the views, so never pass only the detected games.
+     */
+    public void replaceAll(Collection<Game> games) {
+        gameService.indexGames(new ArrayList<>(games));
+        reconcile(games);
+    }
+
+    /**
+     * Makes the store hold exactly these (already indexed) games and publishes the differences.
+     */
+    private void reconcile(Collection<Game> games) {
+        List<Game> added = new ArrayList<>();
+        List<Game> updated = new ArrayList<>();
+        List<Game> removed;
+        synchronized (this) {
+            Map<String, Game> previous = new LinkedHashMap<>(gamesByKey);
+            gamesByKey.clear();
+            for (Game game : games) {
+                String key = Game.identityKey(game);
+                Game old = previous.remove(key);
+                gamesByKey.put(key, game);
+                if (old == null) {
+                    added.add(game);
+                } else if (hasChanged(old, game)) {
+                    updated.add(game);
+                }
+            }
+            removed = new ArrayList<>(previous.values());
+            loaded = true;
+            fromSnapshot = false;
+        }
+
+        if (!removed.isEmpty()) publish(new Change(ChangeType.REMOVED, removed));
+        if (!added.isEmpty()) publish(new Change(ChangeType.ADDED, added));
+        if (!updated.isEmpty()) publish(new Change(ChangeType.UPDATED, updated));
+    }
+
+    /**
+     * Whether a rescanned game differs from the stored one in any persisted field.
+     */
+    private static boolean hasChanged(Game old, Game game) {
+        boolean summaryChanged = !Objects.equals(old.getId(), game.getId())
+                || !Objects.equals(old.getTitle(), game.getTitle())
+                || !Objects.equals(old.getDeveloper(), game.getDeveloper())
+                || !Objects.equals(old.getCoverImageUrl(), game.getCoverImageUrl())
+                || old.getPlatform() != game.getPlatform()
+                || old.getStatus() != game.getStatus()
+                || old.isFavorite() != game.isFavorite();
+        if (summaryChanged || !old.isDetailsLoaded() || !game.isDetailsLoaded()) {
+            // A summary-only game has nothing else to compare against
+            return summaryChanged;
+        }
+        return !Objects.equals(old.getDescription(), game.getDescription())
+                || !Objects.equals(old.getReleaseDate(), game.getReleaseDate())
+                || !Objects.equals(old.getExecutablePath(), game.getExecutablePath())
+                || !Objects.equals(old.getHeroImageUrl(), game.getHeroImageUrl())
+                || !Objects.equals(old.getAppId(), game.getAppId())
+                || !Objects.equals(old.getInstallPath(), game.getInstallPath())
+                || !Objects.equals(old.getLastPlayed(), game.getLastPlayed())
+                || old.getTotalPlayTime() != game.getTotalPlayTime()
+                || !Objects.equals(old.getIconPath(), game.getIconPath());
+    }
+
+    private void removeAndPublish(Game game) {
+        Game removed;
+        synchronized (this) {
+            removed = gamesByKey.remove(Game.identityKey(game));
+        }
+        if (removed != null) {
+            publish(new Change(ChangeType.REMOVED, List.of(removed)));
+        }
+    }
+
+    // ==================== Snapshot ====================
+
+    /**
+     * Writes the snapshot now (e.g. on shutdown) instead of after the usual delay.
+     */
+    public void saveSnapshot() {
+        synchronized (snapshotWriter) {
+            if (pendingSnapshot != null) {
+                pendingSnapshot.cancel(false);
+                pendingSnapshot = null;
+            }
+        }
+        writeSnapshot();
+    }
+
+    private void scheduleSnapshot() {
+        synchronized (snapshotWriter) {
+            if (pendingSnapshot != null) {
+                pendingSnapshot.cancel(false);
+            }
+            pendingSnapshot = snapshotWriter.schedule(this::writeSnapshot, SNAPSHOT_DELAY_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void writeSnapshot() {
+        // Only what the database confirmed is worth saving
+        if (!loaded) return;
+        List<GameSummary> summaries = new ArrayList<>();
+        for (Game game : getGames()) {
+            summaries.add(GameSummary.of(game));
+        }
+        try {
+            snapshot.write(summaries);
+        } catch (IOException e) {
+            System.err.println("[LibraryStore] Failed to write library snapshot: " + e.getMessage());
+        }
+    }
+
+    // ==================== Change events ====================
+
+    public void addListener(Consumer<Change> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<Change> listener) {
+        listeners.remove(listener);
+    }
+
+    private void publish(Change change) {
+        if (loaded) {
+            scheduleSnapshot();
+        }
+        if (listeners.isEmpty()) return;
+        if (Platform.isFxApplicationThread()) {
+            listeners.forEach(listener -> listener.accept(change));
+        } else {
+            Platform.runLater(() -> listeners.forEach(listener -> listener.accept(change)));
+        }
+    }
+
+    public enum ChangeType {
+        /** The whole library was (re)loaded. */
+        RESET,
+        ADDED,
+        UPDATED,
+        REMOVED
+    }
+
+    /**
+     * A change to the library: its type and the games it affects.
+     */
+    public static class Change {
+        private final ChangeType type;
+        private final List<Game> games;
+
+        Change(ChangeType type, List<Game> games) {
+            this.type = type;
+            this.games = Collections.unmodifiableList(games);
+        }
+
+        public ChangeType getType() { return type; }
+        public List<Game> getGames() { return games; }
+
+        /**
+         * Whether this change affects the given game (matched by uniqueId/id).
+         */
+        public boolean affects(Game game) {
+            if (game == null) return false;
+            String key = Game.identityKey(game);
+            for (Game changed : games) {
+                if (Game.identityKey(changed).equals(key)) return true;
+            }
+            return false;
+        }
+    }
+}
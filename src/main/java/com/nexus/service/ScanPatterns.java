@@ -0,0 +1,120 @@
+package com.nexus.service;
+
+import com.nexus.util.AppConfig;
+import com.nexus.util.KeywordMatcher;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * The keyword lists the scanner classifies names with: registry names of known standalone
+ * games and names of Steam and Epic apps that are not games.
+ *
+ * The lists are read from the bundled scan-patterns.txt, then from a scan-patterns.txt in the
+ * working directory (nexus.scan.patterns.path), whose entries are added to the bundled ones.
+ * Each list is compiled into a KeywordMatcher, so classifying a name is one pass over it
+ * regardless of how many patterns there are.
+ */
+public class ScanPatterns {
+
+    private static final String FILE_NAME = "scan-patterns.txt";
+
+    private static ScanPatterns instance;
+
+    private final KeywordMatcher.Builder<String> knownGames = KeywordMatcher.builder();
+    private final KeywordMatcher.Builder<Boolean> steamNonGames = KeywordMatcher.builder();
+    private final KeywordMatcher.Builder<Boolean> epicNonGames = KeywordMatcher.builder();
+    private final KeywordMatcher<String> knownGameMatcher;
+    private final KeywordMatcher<Boolean> steamNonGameMatcher;
+    private final KeywordMatcher<Boolean> epicNonGameMatcher;
+
+    private ScanPatterns() {
+        try (InputStream in = ScanPatterns.class.getResourceAsStream("/" + FILE_NAME)) {
+            if (in != null) {
+                read(in, "bundled " + FILE_NAME);
+            }
+        } catch (IOException e) {
+            System.err.println("[ScanPatterns] Could not read bundled " + FILE_NAME + ": " + e.getMessage());
+        }
+
+        Path file = Path.of(AppConfig.get("nexus.scan.patterns.path", FILE_NAME));
+        if (Files.isRegularFile(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                read(in, file.toAbsolutePath().toString());
+                System.out.println("[ScanPatterns] Loaded " + file.toAbsolutePath());
+            } catch (IOException e) {
+                System.err.println("[ScanPatterns] Could not read " + file.toAbsolutePath() + ": " + e.getMessage());
+            }
+        }
+
+        knownGameMatcher = knownGames.build();
+        steamNonGameMatcher = steamNonGames.build();
+        epicNonGameMatcher = epicNonGames.build();
+    }
+
+    public static synchronized ScanPatterns getInstance() {
+        if (instance == null) {
+            instance = new ScanPatterns();
+        }
+        return instance;
+    }
+
+    /**
+     * The canonical title for a registry DisplayName, from the longest known pattern it contains.
+     */
+    public Optional<String> matchKnownGame(String displayName) {
+        return knownGameMatcher.findBest(displayName);
+    }
+
+    public boolean isSteamNonGame(String name) {
+        return steamNonGameMatcher.matchesAny(name);
+    }
+
+    public boolean isEpicNonGame(String name) {
+        return epicNonGameMatcher.matchesAny(name);
+    }
+
+    /**
+     * Reads one patterns file: "[section]" headers, "pattern = Title" lines under
+     * [known-games], one pattern per line elsewhere, and "#" comments.
+     */
+    private void read(InputStream in, String source) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String section = null;
+        String line;
+        int number = 0;
+        while ((line = reader.readLine()) != null) {
+            number++;
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+
+            if (line.startsWith("[") && line.endsWith("]")) {
+                section = line.substring(1, line.length() - 1).strip().toLowerCase();
+                continue;
+            }
+            switch (section != null ? section : "") {
+                case "known-games" -> {
+                    int separator = line.lastIndexOf('=');
+                    if (separator <= 0 || separator == line.length() - 1) {
+                        System.err.println("[ScanPatterns] " + source + ":" + number + ": expected 'pattern = Title'");
+                    } else {
+                        knownGames.add(line.substring(0, separator).strip(), line.substring(separator + 1).strip());
+                    }
+                }
+                case "non-games" -> {
+                    steamNonGames.add(line, true);
+                    epicNonGames.add(line, true);
+                }
+                case "steam-non-games" -> steamNonGames.add(line, true);
+                case "epic-non-games" -> epicNonGames.add(line, true);
+                default -> System.err.println("[ScanPatterns] " + source + ":" + number + ": line outside a known section");
+            }
+        }
+    }
+}
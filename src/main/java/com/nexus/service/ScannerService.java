@@ -3,9 +3,9 @@ package com.nexus.service;
 import com.nexus.model.Game;
 import com.nexus.model.Game.Platform;
 import com.nexus.model.Game.Status;
-import com.nexus.model.IgnoredGame;
 import com.nexus.repository.GameRepository;
-import com.nexus.repository.IgnoredGameRepository;
+import com.nexus.repository.RepositoryFactory;
+import com.nexus.repository.WriteBehindQueue;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
@@ -13,6 +13,7 @@ import java.nio.file.*;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 /**
  * Service responsible for scanning installed games from multiple sources:
@@ -26,125 +27,77 @@ import java.util.regex.Pattern;
 public class ScannerService {
 
     private final GameRepository gameRepository;
-    private final IgnoredGameRepository ignoredGameRepository;
     private final MetadataService metadataService;
-
-    // ==================== KNOWN STANDALONE GAMES WHITELIST ====================
-    // Maps registry DisplayName patterns to canonical game names
-    private static final Map<String, String> KNOWN_STANDALONE_GAMES = new LinkedHashMap<>();
-    static {
-        // Minecraft / Mojang
-        KNOWN_STANDALONE_GAMES.put("minecraft launcher", "Minecraft");
-        KNOWN_STANDALONE_GAMES.put("minecraft dungeons", "Minecraft Dungeons");
-        KNOWN_STANDALONE_GAMES.put("minecraft legends", "Minecraft Legends");
-
-        // Roblox
-        KNOWN_STANDALONE_GAMES.put("roblox", "Roblox");
-
-        // miHoYo / HoYoverse
-        KNOWN_STANDALONE_GAMES.put("genshin impact", "Genshin Impact");
-        KNOWN_STANDALONE_GAMES.put("honkai: star rail", "Honkai: Star Rail");
-        KNOWN_STANDALONE_GAMES.put("honkai impact", "Honkai Impact 3rd");
-        KNOWN_STANDALONE_GAMES.put("zenless zone zero", "Zenless Zone Zero");
-
-        // Other popular standalone games
-        KNOWN_STANDALONE_GAMES.put("osu!", "osu!");
-        KNOWN_STANDALONE_GAMES.put("warframe", "Warframe");
-        KNOWN_STANDALONE_GAMES.put("path of exile", "Path of Exile");
-        KNOWN_STANDALONE_GAMES.put("escape from tarkov", "Escape From Tarkov");
-        KNOWN_STANDALONE_GAMES.put("escapefromtarkov", "Escape From Tarkov");
-        KNOWN_STANDALONE_GAMES.put("star citizen", "Star Citizen");
-        KNOWN_STANDALONE_GAMES.put("guild wars 2", "Guild Wars 2");
-        KNOWN_STANDALONE_GAMES.put("final fantasy xiv", "Final Fantasy XIV");
-        KNOWN_STANDALONE_GAMES.put("ffxiv", "Final Fantasy XIV");
-        KNOWN_STANDALONE_GAMES.put("phantasy star online 2", "Phantasy Star Online 2");
-        KNOWN_STANDALONE_GAMES.put("pso2", "Phantasy Star Online 2");
-        KNOWN_STANDALONE_GAMES.put("maplestory", "MapleStory");
-        KNOWN_STANDALONE_GAMES.put("lost ark", "Lost Ark");
-        KNOWN_STANDALONE_GAMES.put("black desert", "Black Desert Online");
-        KNOWN_STANDALONE_GAMES.put("albion online", "Albion Online");
-        KNOWN_STANDALONE_GAMES.put("runescape", "RuneScape");
-        KNOWN_STANDALONE_GAMES.put("old school runescape", "Old School RuneScape");
-        KNOWN_STANDALONE_GAMES.put("world of tanks", "World of Tanks");
-        KNOWN_STANDALONE_GAMES.put("world of warships", "World of Warships");
-        KNOWN_STANDALONE_GAMES.put("war thunder", "War Thunder");
-        KNOWN_STANDALONE_GAMES.put("crossfire", "CrossFire");
-        KNOWN_STANDALONE_GAMES.put("growtopia", "Growtopia");
-        KNOWN_STANDALONE_GAMES.put("rec room", "Rec Room");
-        KNOWN_STANDALONE_GAMES.put("vrchat", "VRChat");
-        KNOWN_STANDALONE_GAMES.put("tower of fantasy", "Tower of Fantasy");
-        KNOWN_STANDALONE_GAMES.put("wuthering waves", "Wuthering Waves");
-        KNOWN_STANDALONE_GAMES.put("the finals", "THE FINALS");
-        KNOWN_STANDALONE_GAMES.put("multiversus", "MultiVersus");
-        KNOWN_STANDALONE_GAMES.put("brawlhalla", "Brawlhalla");
-        KNOWN_STANDALONE_GAMES.put("trackmania", "Trackmania");
-        KNOWN_STANDALONE_GAMES.put("enlisted", "Enlisted");
-        KNOWN_STANDALONE_GAMES.put("smite", "SMITE");
-        KNOWN_STANDALONE_GAMES.put("paladins", "Paladins");
-        KNOWN_STANDALONE_GAMES.put("realm royale", "Realm Royale");
-        KNOWN_STANDALONE_GAMES.put("dauntless", "Dauntless");
-        KNOWN_STANDALONE_GAMES.put("neverwinter", "Neverwinter");
-        KNOWN_STANDALONE_GAMES.put("tera", "TERA");
-        KNOWN_STANDALONE_GAMES.put("blade & soul", "Blade & Soul");
-        KNOWN_STANDALONE_GAMES.put("aion", "Aion");
-        KNOWN_STANDALONE_GAMES.put("lineage", "Lineage");
-        KNOWN_STANDALONE_GAMES.put("elden ring", "Elden Ring");
-        KNOWN_STANDALONE_GAMES.put("armored core vi", "Armored Core VI");
-        KNOWN_STANDALONE_GAMES.put("dark souls", "Dark Souls");
-        KNOWN_STANDALONE_GAMES.put("sekiro", "Sekiro: Shadows Die Twice");
-        KNOWN_STANDALONE_GAMES.put("cyberpunk 2077", "Cyberpunk 2077");
-        KNOWN_STANDALONE_GAMES.put("the witcher 3", "The Witcher 3");
-        KNOWN_STANDALONE_GAMES.put("hogwarts legacy", "Hogwarts Legacy");
-        KNOWN_STANDALONE_GAMES.put("baldur's gate 3", "Baldur's Gate 3");
-        KNOWN_STANDALONE_GAMES.put("lethal company", "Lethal Company");
-        KNOWN_STANDALONE_GAMES.put("palworld", "Palworld");
-        KNOWN_STANDALONE_GAMES.put("satisfactory", "Satisfactory");
-        KNOWN_STANDALONE_GAMES.put("factorio", "Factorio");
-    }
+    private final VolumeProbe volumeProbe = VolumeProbe.getInstance();
+    private final ExecutableDiscovery executableDiscovery = ExecutableDiscovery.getInstance();
+    private final ScanPatterns scanPatterns = ScanPatterns.getInstance();
+    private final IgnoreIndex ignoreIndex = IgnoreIndex.getInstance();
 
     public ScannerService() {
-        this.gameRepository = new GameRepository();
-        this.ignoredGameRepository = new IgnoredGameRepository();
+        this.gameRepository = RepositoryFactory.getGameRepository();
         this.metadataService = new CombinedMetadataService();
-
-        // Migrate existing ignored games to have normalizedTitle
-        this.ignoredGameRepository.migrateNormalizedTitles();
     }
 
     public ScannerService(GameRepository gameRepository, MetadataService metadataService) {
         this.gameRepository = gameRepository;
-        this.ignoredGameRepository = new IgnoredGameRepository();
         this.metadataService = metadataService;
-
-        // Migrate existing ignored games to have normalizedTitle
-        this.ignoredGameRepository.migrateNormalizedTitles();
     }
 
+    /**
+     * Rescans every source and replaces the scanned games with the result in one transaction
+     * (see GameRepository.replaceScanned). The current library stays intact and readable
+     * while the sources are scanned; favorites, play time and last played survive the swap.
+     *
+     * @return the whole library after the rescan, sorted by title
+     */
     public List<Game> fullRescan() {
         System.out.println("[ScannerService] Performing full rescan...");
-        try {
-            gameRepository.deleteAll();
-        } catch (Exception e) {
-            System.err.println("[ScannerService] Error clearing database: " + e.getMessage());
+        long start = System.currentTimeMillis();
+
+        IgnoreIndex.Snapshot ignoreChecker = ignoreIndex.snapshot();
+        List<Game> detected = new ArrayList<>();
+        Set<String> seenTitles = new HashSet<>();
+        for (Game game : detectGames(ignoreChecker)) {
+            // Same de-duplication as the incremental merge
+            if (!ignoreChecker.shouldIgnore(game) && seenTitles.add(normalizeTitle(game.getTitle()))) {
+                detected.add(game);
+            }
         }
-        return scanAll();
+
+        int removed = gameRepository.replaceScanned(detected);
+        removeIgnoredGames(ignoreChecker);
+
+        List<Game> library = gameRepository.findAll();
+        sortByTitle(library);
+        System.out.println("[ScannerService] Full rescan complete in " + (System.currentTimeMillis() - start)
+                + " ms. Detected " + detected.size() + " games, removed " + removed + ", library now " + library.size());
+        return library;
     }
 
     public List<Game> scanAll() {
         System.out.println("[ScannerService] Starting full scan...");
 
-        // Get ALL ignore data for comprehensive matching
-        Set<String> ignoredIds = new HashSet<>(ignoredGameRepository.findAllUniqueIds());
-        Set<String> ignoredNormalizedTitles = new HashSet<>(ignoredGameRepository.findAllNormalizedTitles());
-        Set<String> ignoredInstallPaths = new HashSet<>(ignoredGameRepository.findAllInstallPaths());
+        // Merge against the latest state, including favorites/last played still queued
+        WriteBehindQueue.getInstance().flushBeforeWrite();
 
-        System.out.println("[ScannerService] Found " + ignoredIds.size() + " ignored uniqueIds, "
-            + ignoredNormalizedTitles.size() + " ignored titles, "
-            + ignoredInstallPaths.size() + " ignored paths");
+        IgnoreIndex.Snapshot ignoreChecker = ignoreIndex.snapshot();
+        List<Game> allGames = detectGames(ignoreChecker);
+        List<Game> mergedGames = mergeWithDatabase(allGames, ignoreChecker);
+
+        // Sort alphabetically by title to ensure consistent ordering
+        sortByTitle(mergedGames);
+
+        System.out.println("[ScannerService] Scan complete. Total games: " + mergedGames.size());
 
-        // Create a combined ignore checker
-        IgnoreChecker ignoreChecker = new IgnoreChecker(ignoredIds, ignoredNormalizedTitles, ignoredInstallPaths);
+        return mergedGames;
+    }
 
+    /**
+     * Scans every source and returns the installed games that are not ignored, one per uniqueId.
+     * Library games on a volume that did not answer are returned as MISSING, so neither the
+     * merge nor a full rescan drops them. Writes nothing to the games table.
+     */
+    private List<Game> detectGames(IgnoreIndex.Snapshot ignoreChecker) {
         Map<String, Game> gameByUniqueId = new LinkedHashMap<>();
         Set<String> seenNormalizedTitles = new HashSet<>();
 
@@ -166,69 +119,48 @@ public class ScannerService {
         // 6. Scan known standalone games from registry
         addGames(gameByUniqueId, seenNormalizedTitles, scanKnownStandalones(), "Standalone", ignoreChecker);
 
-        List<Game> allGames = new ArrayList<>(gameByUniqueId.values());
-        List<Game> mergedGames = mergeWithDatabase(allGames, ignoreChecker);
+        // 7. Keep games whose drive is asleep or unplugged
+        addGames(gameByUniqueId, seenNormalizedTitles, findGamesOnUnavailableVolumes(gameByUniqueId.keySet()),
+                "unreachable", ignoreChecker);
 
-        // Sort alphabetically by title to ensure consistent ordering
-        mergedGames.sort((a, b) -> {
-            String titleA = a.getTitle() != null ? a.getTitle().toLowerCase() : "";
-            String titleB = b.getTitle() != null ? b.getTitle().toLowerCase() : "";
-            return titleA.compareTo(titleB);
-        });
+        executableDiscovery.saveIfChanged();
 
-        System.out.println("[ScannerService] Scan complete. Total games: " + mergedGames.size());
-
-        return mergedGames;
+        return new ArrayList<>(gameByUniqueId.values());
     }
 
     /**
-     * Helper class to check if a game should be ignored using multiple criteria.
+     * Scanned library games that were not detected because their volume is slow or unavailable,
+     * marked MISSING. Games that are simply uninstalled from a reachable volume are not returned.
      */
-    private static class IgnoreChecker {
-        private final Set<String> ignoredIds;
-        private final Set<String> ignoredNormalizedTitles;
-        private final Set<String> ignoredInstallPaths;
-
-        IgnoreChecker(Set<String> ignoredIds, Set<String> ignoredNormalizedTitles, Set<String> ignoredInstallPaths) {
-            this.ignoredIds = ignoredIds;
-            this.ignoredNormalizedTitles = ignoredNormalizedTitles;
-            this.ignoredInstallPaths = ignoredInstallPaths;
-        }
-
-        /**
-         * Checks if a game should be ignored based on uniqueId, normalized title, OR install path.
-         */
-        boolean shouldIgnore(Game game) {
-            // Check by unique ID
-            if (game.getUniqueId() != null && ignoredIds.contains(game.getUniqueId())) {
-                return true;
-            }
-
-            // Check by normalized title
-            String normalizedTitle = IgnoredGame.normalizeTitle(game.getTitle());
-            if (!normalizedTitle.isEmpty() && ignoredNormalizedTitles.contains(normalizedTitle)) {
-                return true;
-            }
-
-            // Check by install path (normalize paths for comparison)
-            String installPath = game.getInstallPath();
-            if (installPath != null && !installPath.isEmpty()) {
-                String normalizedPath = installPath.toLowerCase().replace("/", "\\");
-                for (String ignoredPath : ignoredInstallPaths) {
-                    if (ignoredPath != null) {
-                        String normalizedIgnoredPath = ignoredPath.toLowerCase().replace("/", "\\");
-                        if (normalizedPath.equals(normalizedIgnoredPath)) {
-                            return true;
-                        }
-                    }
-                }
+    private List<Game> findGamesOnUnavailableVolumes(Set<String> detectedIds) {
+        List<Game> undetected;
+        try (Stream<Game> stored = gameRepository.streamAll()) {
+            undetected = stored
+                .filter(g -> g.getPlatform() != Platform.MANUAL)
+                .filter(g -> g.getUniqueId() != null && !detectedIds.contains(g.getUniqueId()))
+                .filter(g -> g.getInstallPath() != null && !g.getInstallPath().isEmpty())
+                .toList();
+        }
+
+        List<Game> unreachable = new ArrayList<>();
+        for (Game game : undetected) {
+            if (!volumeProbe.isAvailable(game.getInstallPath())) {
+                game.setStatus(Status.MISSING);
+                unreachable.add(game);
             }
-
-            return false;
         }
+        return unreachable;
+    }
+
+    private static void sortByTitle(List<Game> games) {
+        games.sort((a, b) -> {
+            String titleA = a.getTitle() != null ? a.getTitle().toLowerCase() : "";
+            String titleB = b.getTitle() != null ? b.getTitle().toLowerCase() : "";
+            return titleA.compareTo(titleB);
+        });
     }
 
-    private void addGames(Map<String, Game> gameMap, Set<String> seenTitles, List<Game> games, String source, IgnoreChecker ignoreChecker) {
+    private void addGames(Map<String, Game> gameMap, Set<String> seenTitles, List<Game> games, String source, IgnoreIndex.Snapshot ignoreChecker) {
         System.out.println("[ScannerService] Found " + games.size() + " " + source + " games");
         for (Game g : games) {
             String normalizedTitle = normalizeTitle(g.getTitle());
@@ -266,17 +198,17 @@ public class ScannerService {
 
         for (String libraryPath : libraryPaths) {
             Path steamappsPath = Paths.get(libraryPath, "steamapps");
-            if (!Files.exists(steamappsPath)) continue;
 
-            try (DirectoryStream<Path> stream = Files.newDirectoryStream(steamappsPath, "appmanifest_*.acf")) {
-                for (Path acfFile : stream) {
-                    Game game = parseSteamAcf(acfFile);
-                    if (game != null && game.getAppId() != null && !gamesByAppId.containsKey(game.getAppId())) {
-                        gamesByAppId.put(game.getAppId(), game);
-                    }
+            // Libraries often sit on secondary drives; read all manifests in one bounded call
+            Optional<Map<Path, String>> manifests = volumeProbe.check(steamappsPath, VolumeProbe.WALK_DEADLINE,
+                    () -> readManifests(steamappsPath, "appmanifest_*.acf"));
+            if (manifests.isEmpty()) continue;
+
+            for (Map.Entry<Path, String> manifest : manifests.get().entrySet()) {
+                Game game = parseSteamAcf(manifest.getKey(), manifest.getValue());
+                if (game != null && game.getAppId() != null && !gamesByAppId.containsKey(game.getAppId())) {
+                    gamesByAppId.put(game.getAppId(), game);
                 }
-            } catch (IOException e) {
-                System.err.println("[ScannerService] Error reading Steam library: " + e.getMessage());
             }
         }
 
@@ -311,59 +243,62 @@ public class ScannerService {
         paths.add(steamPath);
 
         Path libraryFoldersPath = Paths.get(steamPath, "steamapps", "libraryfolders.vdf");
-        if (Files.exists(libraryFoldersPath)) {
-            try {
-                String content = Files.readString(libraryFoldersPath);
-                Pattern pathPattern = Pattern.compile("\"path\"\\s*\"([^\"]+)\"");
-                Matcher matcher = pathPattern.matcher(content);
-                while (matcher.find()) {
-                    String path = matcher.group(1).replace("\\\\", "\\");
-                    if (!paths.contains(path)) paths.add(path);
-                }
-            } catch (IOException e) {
-                System.err.println("[ScannerService] Error reading libraryfolders.vdf");
+        readText(libraryFoldersPath).ifPresent(content -> {
+            Pattern pathPattern = Pattern.compile("\"path\"\\s*\"([^\"]+)\"");
+            Matcher matcher = pathPattern.matcher(content);
+            while (matcher.find()) {
+                String path = matcher.group(1).replace("\\\\", "\\");
+                if (!paths.contains(path)) paths.add(path);
             }
-        }
+        });
 
         return paths;
     }
 
-    private Game parseSteamAcf(Path acfFile) {
-        try {
-            String content = Files.readString(acfFile, StandardCharsets.UTF_8);
-
-            String appId = extractVdfValue(content, "appid");
-            String name = extractVdfValue(content, "name");
-            String installDir = extractVdfValue(content, "installdir");
-
-            if (appId == null || name == null || name.isEmpty() || installDir == null) return null;
-
-            // Skip non-games
-            String nameLower = name.toLowerCase();
-            if (nameLower.contains("proton") || nameLower.contains("steamworks") ||
-                nameLower.contains("redistributable") || nameLower.contains("sdk") ||
-                nameLower.contains("directx") || nameLower.contains("vcredist") ||
-                nameLower.contains("runtime") || nameLower.contains("tool") ||
-                nameLower.contains("soundtrack") || nameLower.contains("dedicated server")) {
-                return null;
+    /**
+     * Reads every manifest matching the glob in a folder. Blocks on the filesystem, so it is
+     * only called inside volumeProbe.check.
+     */
+    private static Map<Path, String> readManifests(Path folder, String glob) throws IOException {
+        Map<Path, String> manifests = new LinkedHashMap<>();
+        if (!Files.isDirectory(folder)) return manifests;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(folder, glob)) {
+            for (Path file : stream) {
+                try {
+                    manifests.put(file, Files.readString(file, StandardCharsets.UTF_8));
+                } catch (IOException e) {
+                    // Skip unreadable manifests
+                }
             }
+        }
+        return manifests;
+    }
 
-            Game game = new Game();
-            game.setTitle(name);
-            game.setAppId(appId);
-            game.setPlatform(Platform.STEAM);
-            game.setUniqueId(Game.generateUniqueId(Platform.STEAM, appId));
+    private Game parseSteamAcf(Path acfFile, String content) {
+        String appId = extractVdfValue(content, "appid");
+        String name = extractVdfValue(content, "name");
+        String installDir = extractVdfValue(content, "installdir");
 
-            Path steamappsPath = acfFile.getParent();
-            Path gamePath = steamappsPath.resolve("common").resolve(installDir);
-            game.setInstallPath(gamePath.toString());
-            game.setStatus(Files.exists(gamePath) ? Status.READY : Status.MISSING);
+        if (appId == null || name == null || name.isEmpty() || installDir == null) return null;
 
-            metadataService.applyMetadata(game);
-            return game;
-        } catch (IOException e) {
+        // Skip non-games
+        if (scanPatterns.isSteamNonGame(name)) {
             return null;
         }
+
+        Game game = new Game();
+        game.setTitle(name);
+        game.setAppId(appId);
+        game.setPlatform(Platform.STEAM);
+        game.setUniqueId(Game.generateUniqueId(Platform.STEAM, appId));
+
+        Path steamappsPath = acfFile.getParent();
+        Path gamePath = steamappsPath.resolve("common").resolve(installDir);
+        game.setInstallPath(gamePath.toString());
+        game.setStatus(volumeProbe.exists(gamePath) ? Status.READY : Status.MISSING);
+
+        metadataService.applyMetadata(game);
+        return game;
     }
 
     private String extractVdfValue(String content, String key) {
@@ -381,58 +316,48 @@ public class ScannerService {
         if (programData == null) programData = "C:\\ProgramData";
 
         Path manifestsPath = Paths.get(programData, "Epic", "EpicGamesLauncher", "Data", "Manifests");
-        if (!Files.exists(manifestsPath)) return games;
+        Optional<Map<Path, String>> manifests = volumeProbe.check(manifestsPath, VolumeProbe.WALK_DEADLINE,
+                () -> readManifests(manifestsPath, "*.item"));
+        if (manifests.isEmpty()) return games;
 
-        try (DirectoryStream<Path> stream = Files.newDirectoryStream(manifestsPath, "*.item")) {
-            for (Path itemFile : stream) {
-                Game game = parseEpicManifest(itemFile);
-                if (game != null) games.add(game);
-            }
-        } catch (IOException e) {
-            System.err.println("[ScannerService] Error reading Epic manifests: " + e.getMessage());
+        for (String content : manifests.get().values()) {
+            Game game = parseEpicManifest(content);
+            if (game != null) games.add(game);
         }
 
         return games;
     }
 
-    private Game parseEpicManifest(Path itemFile) {
-        try {
-            String content = Files.readString(itemFile, StandardCharsets.UTF_8);
-
-            String displayName = extractJsonValue(content, "DisplayName");
-            String installLocation = extractJsonValue(content, "InstallLocation");
-            String launchExecutable = extractJsonValue(content, "LaunchExecutable");
-            String appName = extractJsonValue(content, "AppName");
-
-            if (displayName == null || displayName.isEmpty()) return null;
-
-            // Skip launchers and tools
-            String nameLower = displayName.toLowerCase();
-            if (nameLower.contains("launcher") || nameLower.contains("plugin") ||
-                nameLower.contains("unreal engine") || nameLower.contains("editor")) {
-                return null;
-            }
+    private Game parseEpicManifest(String content) {
+        String displayName = extractJsonValue(content, "DisplayName");
+        String installLocation = extractJsonValue(content, "InstallLocation");
+        String launchExecutable = extractJsonValue(content, "LaunchExecutable");
+        String appName = extractJsonValue(content, "AppName");
 
-            Game game = new Game();
-            game.setTitle(displayName);
-            game.setAppId(appName);
-            game.setPlatform(Platform.EPIC);
-            game.setUniqueId(Game.generateUniqueId(Platform.EPIC, appName != null ? appName : displayName));
-            game.setInstallPath(installLocation);
-
-            if (installLocation != null && launchExecutable != null) {
-                Path exePath = Paths.get(installLocation, launchExecutable);
-                game.setExecutablePath(exePath.toString());
-                game.setStatus(Files.exists(exePath) ? Status.READY : Status.MISSING);
-            } else {
-                game.setStatus(Status.MISSING);
-            }
+        if (displayName == null || displayName.isEmpty()) return null;
 
-            metadataService.applyMetadata(game);
-            return game;
-        } catch (IOException e) {
+        // Skip launchers and tools
+        if (scanPatterns.isEpicNonGame(displayName)) {
             return null;
         }
+
+        Game game = new Game();
+        game.setTitle(displayName);
+        game.setAppId(appName);
+        game.setPlatform(Platform.EPIC);
+        game.setUniqueId(Game.generateUniqueId(Platform.EPIC, appName != null ? appName : displayName));
+        game.setInstallPath(installLocation);
+
+        if (installLocation != null && launchExecutable != null) {
+            Path exePath = Paths.get(installLocation, launchExecutable);
+            game.setExecutablePath(exePath.toString());
+            game.setStatus(volumeProbe.exists(exePath) ? Status.READY : Status.MISSING);
+        } else {
+            game.setStatus(Status.MISSING);
+        }
+
+        metadataService.applyMetadata(game);
+        return game;
     }
 
     private String extractJsonValue(String json, String key) {
@@ -455,14 +380,7 @@ public class ScannerService {
 
         Path riotInstallsPath = Paths.get(programData, "Riot Games", "RiotClientInstalls.json");
 
-        if (Files.exists(riotInstallsPath)) {
-            try {
-                String content = Files.readString(riotInstallsPath, StandardCharsets.UTF_8);
-                games.addAll(parseRiotInstalls(content));
-            } catch (IOException e) {
-                System.err.println("[ScannerService] Error reading Riot installs: " + e.getMessage());
-            }
-        }
+        readText(riotInstallsPath).ifPresent(content -> games.addAll(parseRiotInstalls(content)));
 
         // Also check common Riot Games installation paths
         String[] riotPaths = {
@@ -474,7 +392,7 @@ public class ScannerService {
         for (String riotPath : riotPaths) {
             if (riotPath == null) continue;
             Path path = Paths.get(riotPath);
-            if (Files.exists(path)) {
+            if (volumeProbe.exists(path)) {
                 games.addAll(scanRiotDirectory(path));
             }
         }
@@ -505,7 +423,7 @@ public class ScannerService {
 
             while (matcher.find()) {
                 String value = matcher.group(2).replace("\\\\", "\\");
-                if (value.contains("Riot") || value.contains("Games") || Files.exists(Paths.get(value))) {
+                if (value.contains("Riot") || value.contains("Games") || volumeProbe.exists(value)) {
                     Game game = createRiotGame(gameName, value);
                     if (game != null && game.getStatus() == Status.READY) {
                         games.add(game);
@@ -532,7 +450,7 @@ public class ScannerService {
         try {
             for (Map.Entry<String, String> entry : riotFolders.entrySet()) {
                 Path gamePath = riotPath.resolve(entry.getKey());
-                if (Files.exists(gamePath)) {
+                if (volumeProbe.exists(gamePath)) {
                     Game game = createRiotGame(entry.getValue(), gamePath.toString());
                     if (game != null) games.add(game);
                 }
@@ -560,17 +478,11 @@ public class ScannerService {
         };
 
         if (exeName != null) {
-            try (var stream = Files.walk(Paths.get(installPath), 4)) {
-                Optional<Path> exe = stream
-                    .filter(p -> p.getFileName().toString().equalsIgnoreCase(exeName))
-                    .findFirst();
-                if (exe.isPresent()) {
-                    game.setExecutablePath(exe.get().toString());
-                    game.setStatus(Status.READY);
-                } else {
-                    game.setStatus(Status.MISSING);
-                }
-            } catch (IOException e) {
+            Optional<Path> exe = executableDiscovery.find(installPath, title, exeName, 4);
+            if (exe.isPresent()) {
+                game.setExecutablePath(exe.get().toString());
+                game.setStatus(Status.READY);
+            } else {
                 game.setStatus(Status.MISSING);
             }
         } else {
@@ -627,46 +539,35 @@ public class ScannerService {
 
         for (String basePath : bnetPaths) {
             Path base = Paths.get(basePath);
-            if (!Files.exists(base)) continue;
-
-            try (var dirs = Files.list(base)) {
-                dirs.filter(Files::isDirectory).forEach(dir -> {
-                    String folderName = dir.getFileName().toString().toLowerCase();
-
-                    for (Map.Entry<String, String> product : bnetProducts.entrySet()) {
-                        String gameName = product.getValue();
-                        if (folderName.contains(gameName.toLowerCase().replace(" ", "").replace(":", "")) ||
-                            folderName.contains(product.getKey())) {
-                            Game game = createBattleNetGame(gameName, dir.toString());
-                            if (game != null) games.add(game);
-                        }
+            for (Path dir : listDirectories(base)) {
+                String folderName = dir.getFileName().toString().toLowerCase();
+
+                for (Map.Entry<String, String> product : bnetProducts.entrySet()) {
+                    String gameName = product.getValue();
+                    if (folderName.contains(gameName.toLowerCase().replace(" ", "").replace(":", "")) ||
+                        folderName.contains(product.getKey())) {
+                        Game game = createBattleNetGame(gameName, dir.toString());
+                        if (game != null) games.add(game);
                     }
-                });
-            } catch (IOException e) {
-                // Continue
+                }
             }
         }
 
         // Also check Battle.net config for installed games
-        if (Files.exists(configPath)) {
-            try {
-                String config = Files.readString(configPath, StandardCharsets.UTF_8);
-                for (Map.Entry<String, String> product : bnetProducts.entrySet()) {
-                    if (config.contains("\"" + product.getKey() + "\"")) {
-                        // Game is likely installed, try to find it
-                        Pattern pathPattern = Pattern.compile("\"" + product.getKey() + "\"[^}]*?\"InstallPath\"\\s*:\\s*\"([^\"]+)\"");
-                        Matcher matcher = pathPattern.matcher(config);
-                        if (matcher.find()) {
-                            String installPath = matcher.group(1).replace("\\\\", "\\");
-                            Game game = createBattleNetGame(product.getValue(), installPath);
-                            if (game != null) games.add(game);
-                        }
+        readText(configPath).ifPresent(config -> {
+            for (Map.Entry<String, String> product : bnetProducts.entrySet()) {
+                if (config.contains("\"" + product.getKey() + "\"")) {
+                    // Game is likely installed, try to find it
+                    Pattern pathPattern = Pattern.compile("\"" + product.getKey() + "\"[^}]*?\"InstallPath\"\\s*:\\s*\"([^\"]+)\"");
+                    Matcher matcher = pathPattern.matcher(config);
+                    if (matcher.find()) {
+                        String installPath = matcher.group(1).replace("\\\\", "\\");
+                        Game game = createBattleNetGame(product.getValue(), installPath);
+                        if (game != null) games.add(game);
                     }
                 }
-            } catch (IOException e) {
-                // Continue
             }
-        }
+        });
 
         return games;
     }
@@ -679,25 +580,16 @@ public class ScannerService {
         game.setInstallPath(installPath);
 
         // Check if path exists
-        if (!Files.exists(Paths.get(installPath))) {
+        if (!volumeProbe.exists(installPath)) {
             return null;
         }
 
         // Try to find an executable
-        try (var stream = Files.walk(Paths.get(installPath), 2)) {
-            Optional<Path> exe = stream
-                .filter(p -> p.toString().toLowerCase().endsWith(".exe"))
-                .filter(p -> !p.getFileName().toString().toLowerCase().contains("unins"))
-                .filter(p -> !p.getFileName().toString().toLowerCase().contains("crash"))
-                .filter(p -> !p.getFileName().toString().toLowerCase().contains("update"))
-                .findFirst();
-            if (exe.isPresent()) {
-                game.setExecutablePath(exe.get().toString());
-                game.setStatus(Status.READY);
-            } else {
-                game.setStatus(Status.MISSING);
-            }
-        } catch (IOException e) {
+        Optional<Path> exe = executableDiscovery.find(installPath, title, null, 2);
+        if (exe.isPresent()) {
+            game.setExecutablePath(exe.get().toString());
+            game.setStatus(Status.READY);
+        } else {
             game.setStatus(Status.MISSING);
         }
 
@@ -718,14 +610,10 @@ public class ScannerService {
         Path originContentPath = Paths.get(programData, "Origin", "LocalContent");
 
         // Scan EA Desktop content
-        if (Files.exists(eaContentPath)) {
-            games.addAll(scanEADirectory(eaContentPath, "EA"));
-        }
+        games.addAll(scanEADirectory(eaContentPath, "EA"));
 
         // Scan Origin content (legacy)
-        if (Files.exists(originContentPath)) {
-            games.addAll(scanEADirectory(originContentPath, "Origin"));
-        }
+        games.addAll(scanEADirectory(originContentPath, "Origin"));
 
         // Check common EA game install locations
         String[] eaPaths = {
@@ -738,9 +626,7 @@ public class ScannerService {
         };
 
         for (String eaPath : eaPaths) {
-            if (Files.exists(Paths.get(eaPath))) {
-                games.addAll(scanEADirectory(Paths.get(eaPath), "EA"));
-            }
+            games.addAll(scanEADirectory(Paths.get(eaPath), "EA"));
         }
 
         return games;
@@ -749,29 +635,46 @@ public class ScannerService {
     private List<Game> scanEADirectory(Path basePath, String source) {
         List<Game> games = new ArrayList<>();
 
-        try (var dirs = Files.list(basePath)) {
-            dirs.filter(Files::isDirectory).forEach(dir -> {
-                String folderName = dir.getFileName().toString();
+        for (Path dir : listDirectories(basePath)) {
+            String folderName = dir.getFileName().toString();
 
-                // Skip non-game folders
-                if (folderName.startsWith("_") || folderName.startsWith(".") ||
-                    folderName.equalsIgnoreCase("__Installer") ||
-                    folderName.toLowerCase().contains("redist")) {
-                    return;
-                }
+            // Skip non-game folders
+            if (folderName.startsWith("_") || folderName.startsWith(".") ||
+                folderName.equalsIgnoreCase("__Installer") ||
+                folderName.toLowerCase().contains("redist")) {
+                continue;
+            }
 
-                Game game = createEAGame(folderName, dir.toString());
-                if (game != null && game.getStatus() == Status.READY) {
-                    games.add(game);
-                }
-            });
-        } catch (IOException e) {
-            System.err.println("[ScannerService] Error scanning " + source + " directory: " + e.getMessage());
+            Game game = createEAGame(folderName, dir.toString());
+            if (game != null && game.getStatus() == Status.READY) {
+                games.add(game);
+            }
         }
 
         return games;
     }
 
+    /**
+     * The contents of a small text file, or empty if it is missing, unreadable or its volume
+     * does not answer in time.
+     */
+    private Optional<String> readText(Path file) {
+        return volumeProbe.check(file, VolumeProbe.CHECK_DEADLINE,
+                () -> Files.isRegularFile(file) ? Files.readString(file, StandardCharsets.UTF_8) : null);
+    }
+
+    /**
+     * The subdirectories of a folder, or none if it is missing or its volume does not answer in time.
+     */
+    private List<Path> listDirectories(Path basePath) {
+        return volumeProbe.check(basePath, VolumeProbe.WALK_DEADLINE, () -> {
+            if (!Files.isDirectory(basePath)) return List.<Path>of();
+            try (var dirs = Files.list(basePath)) {
+                return dirs.filter(Files::isDirectory).toList();
+            }
+        }).orElse(List.of());
+    }
+
     private Game createEAGame(String folderName, String installPath) {
         // Clean up folder name to game title
         String title = folderName
@@ -786,22 +689,12 @@ public class ScannerService {
         game.setInstallPath(installPath);
 
         // Find executable
-        try (var stream = Files.walk(Paths.get(installPath), 2)) {
-            Optional<Path> exe = stream
-                .filter(p -> p.toString().toLowerCase().endsWith(".exe"))
-                .filter(p -> !p.getFileName().toString().toLowerCase().contains("unins"))
-                .filter(p -> !p.getFileName().toString().toLowerCase().contains("crash"))
-                .filter(p -> !p.getFileName().toString().toLowerCase().contains("redist"))
-                .filter(p -> !p.getFileName().toString().toLowerCase().contains("setup"))
-                .findFirst();
-            if (exe.isPresent()) {
-                game.setExecutablePath(exe.get().toString());
-                game.setStatus(Status.READY);
-            } else {
-                return null; // No executable found
-            }
-        } catch (IOException e) {
-            return null;
+        Optional<Path> exe = executableDiscovery.find(installPath, title, null, 2);
+        if (exe.isPresent()) {
+            game.setExecutablePath(exe.get().toString());
+            game.setStatus(Status.READY);
+        } else {
+            return null; // No executable found
         }
 
         metadataService.applyMetadata(game);
@@ -871,30 +764,28 @@ public class ScannerService {
             if (displayName == null) return null;
 
             // Check if this matches a known game
-            String displayNameLower = displayName.toLowerCase();
-            for (Map.Entry<String, String> entry : KNOWN_STANDALONE_GAMES.entrySet()) {
-                if (displayNameLower.contains(entry.getKey())) {
-                    String gameName = entry.getValue();
-                    String uniqueKey = normalizeTitle(gameName);
-
-                    if (foundGames.contains(uniqueKey)) return null;
-                    foundGames.add(uniqueKey);
-
-                    Game game = new Game();
-                    game.setTitle(gameName);
-                    game.setPlatform(Platform.SYSTEM);
-                    game.setUniqueId(Game.generateUniqueId(Platform.SYSTEM, gameName));
-                    game.setInstallPath(installLocation);
-
-                    // Find executable
-                    String exePath = findExecutable(installLocation, displayIcon, gameName);
-                    game.setExecutablePath(exePath);
-                    game.setStatus(exePath != null && Files.exists(Paths.get(exePath)) ? Status.READY : Status.MISSING);
-
-                    metadataService.applyMetadata(game);
-                    return game;
-                }
-            }
+            Optional<String> knownGame = scanPatterns.matchKnownGame(displayName);
+            if (knownGame.isEmpty()) return null;
+
+            String gameName = knownGame.get();
+            String uniqueKey = normalizeTitle(gameName);
+
+            if (foundGames.contains(uniqueKey)) return null;
+            foundGames.add(uniqueKey);
+
+            Game game = new Game();
+            game.setTitle(gameName);
+            game.setPlatform(Platform.SYSTEM);
+            game.setUniqueId(Game.generateUniqueId(Platform.SYSTEM, gameName));
+            game.setInstallPath(installLocation);
+
+            // Find executable
+            String exePath = findExecutable(installLocation, displayIcon, gameName);
+            game.setExecutablePath(exePath);
+            game.setStatus(volumeProbe.exists(exePath) ? Status.READY : Status.MISSING);
+
+            metadataService.applyMetadata(game);
+            return game;
         } catch (Exception e) {
             // Continue
         }
@@ -914,25 +805,14 @@ public class ScannerService {
         // Try display icon first
         if (displayIcon != null) {
             String iconPath = displayIcon.split(",")[0].replace("\"", "").trim();
-            if (iconPath.toLowerCase().endsWith(".exe") && Files.exists(Paths.get(iconPath))) {
+            if (iconPath.toLowerCase().endsWith(".exe") && volumeProbe.exists(iconPath)) {
                 return iconPath;
             }
         }
 
         // Search in install location
-        if (installLocation != null && !installLocation.isEmpty() && Files.exists(Paths.get(installLocation))) {
-            try (var stream = Files.walk(Paths.get(installLocation), 3)) {
-                Optional<Path> exe = stream
-                    .filter(p -> p.toString().toLowerCase().endsWith(".exe"))
-                    .filter(p -> !p.getFileName().toString().toLowerCase().contains("unins"))
-                    .filter(p -> !p.getFileName().toString().toLowerCase().contains("crash"))
-                    .filter(p -> !p.getFileName().toString().toLowerCase().contains("update"))
-                    .findFirst();
-                if (exe.isPresent()) return exe.get().toString();
-            } catch (IOException e) {
-                // Continue
-            }
-        }
+        Optional<Path> exe = executableDiscovery.find(installLocation, gameName, null, 3);
+        if (exe.isPresent()) return exe.get().toString();
 
         return null;
     }
@@ -942,7 +822,7 @@ public class ScannerService {
 
         // Minecraft
         String minecraftPath = System.getenv("APPDATA") + "\\.minecraft";
-        if (Files.exists(Paths.get(minecraftPath)) && !foundGames.contains(normalizeTitle("Minecraft"))) {
+        if (volumeProbe.exists(minecraftPath) && !foundGames.contains(normalizeTitle("Minecraft"))) {
             String[] possibleExes = {
                 System.getenv("ProgramFiles(x86)") + "\\Minecraft Launcher\\MinecraftLauncher.exe",
                 System.getenv("ProgramFiles") + "\\Minecraft Launcher\\MinecraftLauncher.exe",
@@ -950,7 +830,7 @@ public class ScannerService {
             };
 
             for (String exe : possibleExes) {
-                if (exe != null && Files.exists(Paths.get(exe))) {
+                if (exe != null && volumeProbe.exists(exe)) {
                     Game minecraft = new Game();
                     minecraft.setTitle("Minecraft");
                     minecraft.setPlatform(Platform.SYSTEM);
@@ -971,7 +851,7 @@ public class ScannerService {
 
     // ==================== DATABASE OPERATIONS ====================
 
-    private List<Game> mergeWithDatabase(List<Game> scannedGames, IgnoreChecker ignoreChecker) {
+    private List<Game> mergeWithDatabase(List<Game> scannedGames, IgnoreIndex.Snapshot ignoreChecker) {
         List<Game> result = new ArrayList<>();
         Set<String> processedTitles = new HashSet<>();
         Set<String> processedUniqueIds = new HashSet<>();
@@ -1030,20 +910,31 @@ public class ScannerService {
         }
 
         // Clean up: Remove any games from DB that should be ignored (zombie cleanup)
-        // This catches games that were added before being ignored or with different uniqueIds
+        removeIgnoredGames(ignoreChecker);
+
+        return result;
+    }
+
+    /**
+     * Removes games from the DB that should be ignored (zombies). This catches games that
+     * were added before being ignored or with different uniqueIds.
+     */
+    private void removeIgnoredGames(IgnoreIndex.Snapshot ignoreChecker) {
         try {
-            List<Game> allDbGames = gameRepository.findAll();
-            for (Game dbGame : allDbGames) {
-                if (ignoreChecker.shouldIgnore(dbGame)) {
+            // Stream rather than load the table; delete once the stream has released its session
+            List<Long> zombieIds = new ArrayList<>();
+            try (Stream<Game> allDbGames = gameRepository.streamAll()) {
+                allDbGames.filter(ignoreChecker::shouldIgnore).forEach(dbGame -> {
                     System.out.println("[ScannerService] Removing zombie ignored game from DB: " + dbGame.getTitle());
-                    gameRepository.delete(dbGame.getId());
-                }
+                    zombieIds.add(dbGame.getId());
+                });
+            }
+            for (Long id : zombieIds) {
+                gameRepository.delete(id);
             }
         } catch (Exception e) {
             System.err.println("[ScannerService] Error during zombie cleanup: " + e.getMessage());
         }
-
-        return result;
     }
 
     public String getDetectedSteamPath() {
@@ -0,0 +1,211 @@
+package com.nexus.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs the scanner's filesystem checks with deadlines, per volume, so one sleeping disk,
+ * unplugged USB drive or dropped network share cannot stall a scan.
+ *
+ * Every check runs on a virtual thread and the caller waits at most a deadline for it; a
+ * check that misses its deadline returns "not found" for that call only. Volume health is
+ * decided by probing the volume's root alone: a root that does not answer in time makes
+ * the volume SLOW, a missing root makes it UNAVAILABLE, and checks on such volumes return
+ * "not found" immediately, so their games end up MISSING. A long walk of a big install on
+ * a healthy drive therefore never takes the drive down. Health is cached between scans: a
+ * slow volume becomes available again as soon as its root probe completes, and any other
+ * state is re-probed once it is stale.
+ */
+public class VolumeProbe {
+
+    public enum Health {
+        AVAILABLE,
+        SLOW,
+        UNAVAILABLE
+    }
+
+    /** Deadline for single checks (exists, reading a manifest). */
+    public static final Duration CHECK_DEADLINE = Duration.ofMillis(1500);
+    /** Deadline for directory listings and shallow walks. */
+    public static final Duration WALK_DEADLINE = Duration.ofSeconds(5);
+
+    private static final Duration ROOT_DEADLINE = Duration.ofSeconds(2);
+    private static final Duration AVAILABLE_TTL = Duration.ofMinutes(5);
+    private static final Duration UNHEALTHY_TTL = Duration.ofSeconds(30);
+
+    private static VolumeProbe instance;
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("volume-probe-", 0).factory());
+    private final Map<String, VolumeState> volumes = new ConcurrentHashMap<>();
+
+    private VolumeProbe() {
+    }
+
+    public static synchronized VolumeProbe getInstance() {
+        if (instance == null) {
+            instance = new VolumeProbe();
+        }
+        return instance;
+    }
+
+    /**
+     * A filesystem call that may block.
+     */
+    @FunctionalInterface
+    public interface Check<T> {
+        T run() throws IOException;
+    }
+
+    /**
+     * Runs a check against a path, waiting at most the deadline.
+     *
+     * @return the result, or empty if the volume is slow or unavailable, the deadline passed
+     *         or the check failed. A missed deadline does not change the volume's health.
+     */
+    public <T> Optional<T> check(Path path, Duration deadline, Check<T> check) {
+        String volume = volumeOf(path);
+        if (volume == null || !isVolumeAvailable(volume)) {
+            return Optional.empty();
+        }
+        Future<T> future = executor.submit(check::run);
+        try {
+            return Optional.ofNullable(future.get(deadline.toMillis(), TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            System.out.println("[VolumeProbe] No answer for " + path + " within " + deadline.toMillis() + " ms");
+            return Optional.empty();
+        } catch (ExecutionException e) {
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Files.exists with a deadline; false when the volume does not answer.
+     */
+    public boolean exists(Path path) {
+        return path != null && check(path, CHECK_DEADLINE, () -> Files.exists(path)).orElse(false);
+    }
+
+    public boolean exists(String path) {
+        Path resolved = toPath(path);
+        return resolved != null && exists(resolved);
+    }
+
+    /**
+     * Whether the path's volume is answering, probing it if its health is unknown or stale.
+     */
+    public boolean isAvailable(String path) {
+        Path resolved = toPath(path);
+        String volume = resolved != null ? volumeOf(resolved) : null;
+        return volume != null && isVolumeAvailable(volume);
+    }
+
+    private boolean isVolumeAvailable(String volume) {
+        VolumeState state = volumes.get(volume);
+        if (state == null || state.isStale()) {
+            state = probeRoot(volume, state);
+        }
+        return state.health == Health.AVAILABLE;
+    }
+
+    private VolumeState probeRoot(String volume, VolumeState previous) {
+        // A slow volume keeps its pending probe; it reports back when the volume wakes up
+        if (previous != null && previous.health == Health.SLOW && previous.pending != null
+                && !previous.pending.isDone()) {
+            return previous;
+        }
+        long start = System.nanoTime();
+        Future<Boolean> future = executor.submit(() -> Files.isDirectory(Paths.get(volume)));
+        VolumeState state;
+        try {
+            boolean present = future.get(ROOT_DEADLINE.toMillis(), TimeUnit.MILLISECONDS);
+            state = new VolumeState(present ? Health.AVAILABLE : Health.UNAVAILABLE, null);
+            if (!present || previous == null || previous.health != state.health) {
+                System.out.printf("[VolumeProbe] Volume %s is %s (%d ms)%n", volume, state.health,
+                        (System.nanoTime() - start) / 1_000_000);
+            }
+        } catch (TimeoutException e) {
+            return markSlow(volume, future, "root did not answer within " + ROOT_DEADLINE.toMillis() + " ms");
+        } catch (ExecutionException e) {
+            state = new VolumeState(Health.UNAVAILABLE, null);
+            System.out.println("[VolumeProbe] Volume " + volume + " is UNAVAILABLE: " + e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return new VolumeState(Health.UNAVAILABLE, null);
+        }
+        volumes.put(volume, state);
+        return state;
+    }
+
+    private VolumeState markSlow(String volume, Future<?> pending, String reason) {
+        VolumeState state = new VolumeState(Health.SLOW, pending);
+        VolumeState previous = volumes.put(volume, state);
+        if (previous == null || previous.health != Health.SLOW) {
+            System.out.println("[VolumeProbe] Volume " + volume + " is SLOW (" + reason + "); its games are marked missing");
+        }
+        // When the stalled call finally returns, the volume is usable again
+        executor.execute(() -> {
+            try {
+                pending.get();
+            } catch (Exception e) {
+                // Only the completion matters
+            }
+            if (volumes.replace(volume, state, new VolumeState(Health.AVAILABLE, null))) {
+                System.out.println("[VolumeProbe] Volume " + volume + " answered again");
+            }
+        });
+        return state;
+    }
+
+    /**
+     * The volume a path lives on: its root ("D:\", "\\server\share\" or "/").
+     */
+    private static String volumeOf(Path path) {
+        Path root = path.toAbsolutePath().getRoot();
+        return root != null ? root.toString() : null;
+    }
+
+    private static Path toPath(String path) {
+        if (path == null || path.isEmpty()) return null;
+        try {
+            return Paths.get(path);
+        } catch (InvalidPathException e) {
+            return null;
+        }
+    }
+
+    private static class VolumeState {
+        final Health health;
+        final Future<?> pending;
+        final long checkedAt = System.nanoTime();
+
+        VolumeState(Health health, Future<?> pending) {
+            this.health = health;
+            this.pending = pending;
+        }
+
+        boolean isStale() {
+            Duration ttl = health == Health.AVAILABLE ? AVAILABLE_TTL : UNHEALTHY_TTL;
+            return System.nanoTime() - checkedAt > ttl.toNanos();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.nexus.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * Application configuration from nexus.properties.
+ *
+ * Values are looked up in order: JVM system property ({@code -Dkey=value}), a
+ * nexus.properties file in the working directory (next to the database), then the
+ * nexus.properties bundled with the application.
+ */
+public class AppConfig {
+
+    private static final String FILE_NAME = "nexus.properties";
+
+    private static final Properties properties = load();
+
+    private AppConfig() {
+    }
+
+    public static String get(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null) {
+            value = properties.getProperty(key);
+        }
+        return value != null && !value.isBlank() ? value.trim() : defaultValue;
+    }
+
+    private static Properties load() {
+        Properties bundled = new Properties();
+        try (InputStream in = AppConfig.class.getResourceAsStream("/" + FILE_NAME)) {
+            if (in != null) {
+                bundled.load(in);
+            }
+        } catch (IOException e) {
+            System.err.println("[AppConfig] Could not read bundled " + FILE_NAME + ": " + e.getMessage());
+        }
+
+        Properties local = new Properties(bundled);
+        Path file = Path.of(FILE_NAME);
+        if (Files.isRegularFile(file)) {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                local.load(reader);
+                System.out.println("[AppConfig] Loaded " + file.toAbsolutePath());
+            } catch (IOException e) {
+                System.err.println("[AppConfig] Could not read " + file.toAbsolutePath() + ": " + e.getMessage());
+            }
+        }
+        return local;
+    }
+}
@@ -0,0 +1,80 @@
+package com.nexus.util;
+
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hit/miss counters of the Hibernate second-level and query caches.
+ *
+ * Hibernate only collects them when nexus.db.statistics is true (off by default, since
+ * the counters cost on every cache access); otherwise every counter reads 0 and nothing
+ * is logged on shutdown.
+ */
+public class CacheStatistics {
+
+    /**
+     * Counters of one cache region.
+     */
+    public record RegionStats(String region, long hits, long misses, long puts, long elements) {
+
+        /** Share of lookups served from the cache, 0 when the region was never read. */
+        public double hitRatio() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+    }
+
+    private CacheStatistics() {
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(AppConfig.get("nexus.db.statistics", "false"));
+    }
+
+    /**
+     * Current counters of every second-level cache region (entities and query results).
+     */
+    public static List<RegionStats> snapshot() {
+        Statistics statistics = HibernateUtil.getSessionFactory().getStatistics();
+        List<RegionStats> regions = new ArrayList<>();
+        for (String name : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics region;
+            try {
+                region = statistics.getDomainDataRegionStatistics(name);
+            } catch (IllegalArgumentException e) {
+                // Query result regions are not domain data regions
+                region = statistics.getQueryRegionStatistics(name);
+            }
+            if (region != null) {
+                regions.add(new RegionStats(name, region.getHitCount(), region.getMissCount(),
+                        region.getPutCount(), region.getElementCountInMemory()));
+            }
+        }
+        return regions;
+    }
+
+    /**
+     * Overall hit ratio of the second-level cache (entity and collection lookups).
+     */
+    public static double overallHitRatio() {
+        Statistics statistics = HibernateUtil.getSessionFactory().getStatistics();
+        long hits = statistics.getSecondLevelCacheHitCount();
+        long lookups = hits + statistics.getSecondLevelCacheMissCount();
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    /**
+     * Prints one line per region to stdout.
+     */
+    public static void log() {
+        if (!isEnabled()) return;
+        for (RegionStats region : snapshot()) {
+            System.out.printf("[CacheStatistics] %-30s hits %6d  misses %6d  puts %6d  hit ratio %5.1f%%%n",
+                    region.region(), region.hits(), region.misses(), region.puts(), region.hitRatio() * 100);
+        }
+        System.out.printf("[CacheStatistics] second-level overall hit ratio %5.1f%%%n", overallHitRatio() * 100);
+    }
+}
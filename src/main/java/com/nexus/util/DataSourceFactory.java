@@ -0,0 +1,74 @@
+package com.nexus.util;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.sqlite.SQLiteConfig;
+import org.sqlite.SQLiteDataSource;
+
+/**
+ * Builds the pooled SQLite DataSource used by the repositories and the schema migrator.
+ *
+ * The default profile puts the database in WAL mode, so readers (library loads, search,
+ * details) keep running while a scan writes, and uses a small pool so they actually can.
+ * Pragmas are set on the SQLiteDataSource and therefore applied to every new connection.
+ *
+ * Select the profile with {@code nexus.db.profile=wal|rollback} (see AppConfig). The rollback profile
+ * (single connection, classic rollback journal) is for databases on network shares,
+ * where WAL's shared memory does not work.
+ */
+public class DataSourceFactory {
+
+    public enum Profile {
+        WAL,
+        ROLLBACK
+    }
+
+    private static final int WAL_POOL_SIZE = 4;
+    private static final int BUSY_TIMEOUT_MS = 5_000;
+    /** Negative cache_size is in KiB: 16 MB of page cache per connection. */
+    private static final int CACHE_SIZE_KIB = -16_384;
+    private static final long MMAP_SIZE_BYTES = 256L * 1024 * 1024;
+
+    private DataSourceFactory() {
+    }
+
+    public static Profile getProfile() {
+        String profile = AppConfig.get("nexus.db.profile", "wal");
+        return "rollback".equalsIgnoreCase(profile) ? Profile.ROLLBACK : Profile.WAL;
+    }
+
+    public static HikariDataSource create(String url) {
+        return create(url, getProfile());
+    }
+
+    public static HikariDataSource create(String url, Profile profile) {
+        SQLiteConfig sqliteConfig = new SQLiteConfig();
+        sqliteConfig.setBusyTimeout(BUSY_TIMEOUT_MS);
+        sqliteConfig.setCacheSize(CACHE_SIZE_KIB);
+        sqliteConfig.setTempStore(SQLiteConfig.TempStore.MEMORY);
+        if (profile == Profile.WAL) {
+            sqliteConfig.setJournalMode(SQLiteConfig.JournalMode.WAL);
+            // NORMAL is durable across application crashes in WAL mode; only a power
+            // loss can roll back the last commits
+            sqliteConfig.setSynchronous(SQLiteConfig.SynchronousMode.NORMAL);
+            sqliteConfig.setPragma(SQLiteConfig.Pragma.MMAP_SIZE, Long.toString(MMAP_SIZE_BYTES));
+        } else {
+            sqliteConfig.setJournalMode(SQLiteConfig.JournalMode.DELETE);
+            sqliteConfig.setSynchronous(SQLiteConfig.SynchronousMode.FULL);
+        }
+
+        SQLiteDataSource sqliteDataSource = new SQLiteDataSource(sqliteConfig);
+        sqliteDataSource.setUrl(url);
+
+        HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setDataSource(sqliteDataSource);
+        hikariConfig.setPoolName("nexus-db");
+        hikariConfig.setMaximumPoolSize(profile == Profile.WAL ? WAL_POOL_SIZE : 1);
+        hikariConfig.setMinimumIdle(1);
+        hikariConfig.setConnectionTimeout(10_000);
+
+        System.out.println("[DataSourceFactory] Opening " + url + " (" + profile + ", pool size "
+                + hikariConfig.getMaximumPoolSize() + ")");
+        return new HikariDataSource(hikariConfig);
+    }
+}
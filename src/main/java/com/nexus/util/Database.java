@@ -0,0 +1,52 @@
+package com.nexus.util;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * Owns the application's SQLite DataSource, shared by Hibernate and the JDBC repositories.
+ * The schema is migrated when the DataSource is first opened.
+ */
+public class Database {
+
+    private static final String DEFAULT_URL = "jdbc:sqlite:nexus.db";
+
+    private static volatile HikariDataSource dataSource;
+    private static final Object lock = new Object();
+
+    private Database() {
+    }
+
+    public static DataSource getDataSource() {
+        if (dataSource == null) {
+            synchronized (lock) {
+                if (dataSource == null) {
+                    dataSource = open();
+                }
+            }
+        }
+        return dataSource;
+    }
+
+    private static HikariDataSource open() {
+        HikariDataSource opened = DataSourceFactory.create(AppConfig.get("nexus.db.url", DEFAULT_URL));
+        try {
+            new SchemaMigrator(opened).migrate();
+            return opened;
+        } catch (Exception e) {
+            opened.close();
+            throw new IllegalStateException("Database migration failed: " + e.getMessage(), e);
+        }
+    }
+
+    public static void shutdown() {
+        synchronized (lock) {
+            if (dataSource != null) {
+                dataSource.close();
+                dataSource = null;
+                System.out.println("[Database] DataSource closed");
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.nexus.util;
+
+import com.nexus.model.Game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Derives genre tags for a game.
+ * Tags are not stored yet, so they come from simple title patterns; the details view
+ * and the library filter both use this so they always agree.
+ */
+public class GameTagUtil {
+
+    public static final String TAG_RPG = "RPG";
+    public static final String TAG_ACTION = "Action";
+    public static final String TAG_INDIE = "Indie";
+
+    private GameTagUtil() {
+    }
+
+    /**
+     * Returns the genre tags of a game (may be empty).
+     */
+    public static List<String> getTags(Game game) {
+        List<String> tags = new ArrayList<>(3);
+        if (game == null || game.getTitle() == null) {
+            return tags;
+        }
+
+        // In a real app, these would come from the game metadata
+        String title = game.getTitle().toLowerCase(Locale.ROOT);
+        if (title.contains("rpg") || title.contains("fantasy")) {
+            tags.add(TAG_RPG);
+        }
+        if (title.contains("action") || title.contains("shooter")) {
+            tags.add(TAG_ACTION);
+        }
+        if (title.contains("indie")) {
+            tags.add(TAG_INDIE);
+        }
+        return tags;
+    }
+}
@@ -5,6 +5,7 @@ import com.nexus.model.AppSettings;
 import com.nexus.model.IgnoredGame;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.Configuration;
 
 /**
@@ -13,7 +14,7 @@ import org.hibernate.cfg.Configuration;
  */
 public class HibernateUtil {
 
-    private static SessionFactory sessionFactory;
+    private static volatile SessionFactory sessionFactory;
     private static final Object lock = new Object();
 
     private static void buildSessionFactory() {
@@ -21,6 +22,12 @@ public class HibernateUtil {
             Configuration configuration = new Configuration();
             configuration.configure("hibernate.cfg.xml");
 
+            configuration.setProperty("hibernate.show_sql", AppConfig.get("nexus.db.showSql", "false"));
+            configuration.setProperty("hibernate.generate_statistics", String.valueOf(CacheStatistics.isEnabled()));
+
+            // Shared pooled DataSource; the schema is migrated when it opens (hbm2ddl is off)
+            configuration.getProperties().put(AvailableSettings.DATASOURCE, Database.getDataSource());
+
             // Explicitly add annotated classes
             configuration.addAnnotatedClass(Game.class);
             configuration.addAnnotatedClass(AppSettings.class);
@@ -67,9 +74,14 @@ public class HibernateUtil {
     }
 
     public static void shutdown() {
-        if (sessionFactory != null && !sessionFactory.isClosed()) {
-            sessionFactory.close();
-            System.out.println("[HibernateUtil] SessionFactory closed");
+        synchronized (lock) {
+            if (sessionFactory != null && !sessionFactory.isClosed()) {
+                CacheStatistics.log();
+                sessionFactory.close();
+                System.out.println("[HibernateUtil] SessionFactory closed");
+            }
+            sessionFactory = null;
+            Database.shutdown();
         }
     }
 }
@@ -0,0 +1,156 @@
+package com.nexus.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+
+/**
+ * Case-insensitive substring matcher for many keywords at once (Aho-Corasick).
+ *
+ * The keywords are compiled into one automaton, so finding which of them occur in a
+ * text takes a single pass over the text, however many keywords there are. Each
+ * keyword carries a value, e.g. the canonical title for a registry name.
+ */
+public class KeywordMatcher<V> {
+
+    private final List<Node> nodes;
+    private final List<String> keywords;
+    private final List<V> values;
+
+    private KeywordMatcher(List<Node> nodes, List<String> keywords, List<V> values) {
+        this.nodes = nodes;
+        this.keywords = keywords;
+        this.values = values;
+    }
+
+    public static <V> Builder<V> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Whether any keyword occurs in the text.
+     */
+    public boolean matchesAny(String text) {
+        if (text == null) return false;
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, Character.toLowerCase(text.charAt(i)));
+            if (nodes.get(state).longest >= 0) return true;
+        }
+        return false;
+    }
+
+    /**
+     * The value of the longest keyword that occurs in the text; on equal length, the
+     * keyword added first wins.
+     */
+    public Optional<V> findBest(String text) {
+        if (text == null) return Optional.empty();
+        int best = -1;
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, Character.toLowerCase(text.charAt(i)));
+            int match = nodes.get(state).longest;
+            if (match >= 0 && (best < 0 || keywords.get(match).length() > keywords.get(best).length()
+                    || (keywords.get(match).length() == keywords.get(best).length() && match < best))) {
+                best = match;
+            }
+        }
+        return best >= 0 ? Optional.ofNullable(values.get(best)) : Optional.empty();
+    }
+
+    public int size() {
+        return keywords.size();
+    }
+
+    private int next(int state, char c) {
+        while (true) {
+            Integer target = nodes.get(state).children.get(c);
+            if (target != null) return target;
+            if (state == 0) return 0;
+            state = nodes.get(state).fail;
+        }
+    }
+
+    private static class Node {
+        final Map<Character, Integer> children = new HashMap<>();
+        int fail;
+        /** Keyword ending exactly here, or -1. */
+        int keyword = -1;
+        /** Longest keyword that ends at this state, following failure links, or -1. */
+        int longest = -1;
+    }
+
+    public static class Builder<V> {
+        private final List<String> keywords = new ArrayList<>();
+        private final List<V> values = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a keyword. Blank keywords are ignored; a repeated keyword keeps its first value.
+         */
+        public Builder<V> add(String keyword, V value) {
+            if (keyword != null && !keyword.isBlank()) {
+                keywords.add(keyword.toLowerCase(Locale.ROOT));
+                values.add(value);
+            }
+            return this;
+        }
+
+        public KeywordMatcher<V> build() {
+            List<Node> nodes = new ArrayList<>();
+            nodes.add(new Node());
+            for (int k = 0; k < keywords.size(); k++) {
+                String keyword = keywords.get(k);
+                int state = 0;
+                for (int i = 0; i < keyword.length(); i++) {
+                    char c = keyword.charAt(i);
+                    Integer child = nodes.get(state).children.get(c);
+                    if (child == null) {
+                        child = nodes.size();
+                        nodes.add(new Node());
+                        nodes.get(state).children.put(c, child);
+                    }
+                    state = child;
+                }
+                if (nodes.get(state).keyword < 0) {
+                    nodes.get(state).keyword = k;
+                }
+            }
+
+            // Breadth-first, so every failure target is complete before it is used
+            Queue<Integer> queue = new ArrayDeque<>();
+            Node root = nodes.get(0);
+            root.longest = root.keyword;
+            for (int child : root.children.values()) {
+                Node node = nodes.get(child);
+                node.fail = 0;
+                node.longest = node.keyword;
+                queue.add(child);
+            }
+            while (!queue.isEmpty()) {
+                int state = queue.remove();
+                for (Map.Entry<Character, Integer> edge : nodes.get(state).children.entrySet()) {
+                    int fail = nodes.get(state).fail;
+                    while (fail != 0 && !nodes.get(fail).children.containsKey(edge.getKey())) {
+                        fail = nodes.get(fail).fail;
+                    }
+                    Integer target = nodes.get(fail).children.get(edge.getKey());
+                    Node node = nodes.get(edge.getValue());
+                    node.fail = target != null ? target : 0;
+                    // A keyword ending here is longer than any keyword ending at a proper suffix
+                    node.longest = node.keyword >= 0 ? node.keyword : nodes.get(node.fail).longest;
+                    queue.add(edge.getValue());
+                }
+            }
+            return new KeywordMatcher<>(nodes, List.copyOf(keywords), new ArrayList<>(values));
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.nexus.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+
+/**
+ * Versioned schema migrations, run once before Hibernate starts.
+ *
+ * Migrations are applied in version order and recorded in {@code schema_version};
+ * each one runs in its own transaction together with its version row, so a failed
+ * migration leaves the database at the previous version. Most migrations are SQL
+ * scripts under {@code /db/migration}; data fixes that need Java run as code.
+ * To change the schema, append a migration here - never edit an applied one.
+ */
+public class SchemaMigrator {
+
+    private static final String SCRIPT_DIR = "/db/migration/";
+
+    private static final List<Migration> MIGRATIONS = List.of(
+            Migration.script(1, "baseline schema", "V1__baseline_schema.sql"),
+            Migration.script(2, "indexes", "V2__indexes.sql"),
+            Migration.code(3, "normalize ignored game titles", SchemaMigrator::normalizeIgnoredTitles),
+            Migration.script(4, "games full-text index", "V4__games_fts.sql"),
+            Migration.script(5, "games staging table", "V5__games_staging.sql"),
+            Migration.script(6, "ignore rule types", "V6__ignore_rule_type.sql")
+    );
+
+    private final DataSource dataSource;
+
+    public SchemaMigrator(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Applies all pending migrations.
+     *
+     * @return number of migrations applied
+     */
+    public int migrate() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            createVersionTable(connection);
+            int current = currentVersion(connection);
+
+            int applied = 0;
+            for (Migration migration : MIGRATIONS) {
+                if (migration.version <= current) continue;
+                apply(connection, migration);
+                applied++;
+            }
+
+            if (applied > 0) {
+                System.out.println("[SchemaMigrator] Schema migrated from version " + current + " to "
+                        + MIGRATIONS.get(MIGRATIONS.size() - 1).version);
+            }
+            return applied;
+        }
+    }
+
+    private void apply(Connection connection, Migration migration) throws SQLException {
+        long start = System.currentTimeMillis();
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            migration.body.apply(connection);
+
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO schema_version (version, description, installed_at, execution_ms) VALUES (?, ?, ?, ?)")) {
+                insert.setInt(1, migration.version);
+                insert.setString(2, migration.description);
+                insert.setString(3, LocalDateTime.now().toString());
+                insert.setLong(4, System.currentTimeMillis() - start);
+                insert.executeUpdate();
+            }
+            connection.commit();
+            System.out.println("[SchemaMigrator] Applied V" + migration.version + " (" + migration.description + ") in "
+                    + (System.currentTimeMillis() - start) + " ms");
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw new SQLException("Migration V" + migration.version + " (" + migration.description + ") failed: "
+                    + e.getMessage(), e);
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private static void createVersionTable(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("CREATE TABLE IF NOT EXISTS schema_version (" +
+                    "version INTEGER PRIMARY KEY, " +
+                    "description TEXT NOT NULL, " +
+                    "installed_at TEXT NOT NULL, " +
+                    "execution_ms INTEGER NOT NULL)");
+        }
+    }
+
+    private static int currentVersion(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(version), 0) FROM schema_version")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    // ==================== SQL scripts ====================
+
+    private static void runScript(Connection connection, String name) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : readStatements(name)) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    /**
+     * Splits a script into statements on trailing semicolons. Trigger bodies
+     * (CREATE TRIGGER ... BEGIN ...; END;) are kept together. Comment lines are dropped.
+     */
+    static List<String> readStatements(String name) {
+        InputStream in = SchemaMigrator.class.getResourceAsStream(SCRIPT_DIR + name);
+        if (in == null) {
+            throw new IllegalStateException("Migration script not found: " + name);
+        }
+
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("--")) continue;
+
+                current.append(line).append('\n');
+                boolean inTrigger = current.toString().stripLeading().toUpperCase().startsWith("CREATE TRIGGER");
+                boolean complete = inTrigger ? trimmed.equalsIgnoreCase("END;") : trimmed.endsWith(";");
+                if (complete) {
+                    statements.add(current.toString().trim());
+                    current.setLength(0);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read migration script " + name, e);
+        }
+        if (!current.toString().isBlank()) {
+            statements.add(current.toString().trim());
+        }
+        return statements;
+    }
+
+    // ==================== Code migrations ====================
+
+    /**
+     * Fills ignored_games.normalized_title for rows written before the column existed.
+     * Replaces the check that used to run every time a ScannerService was created.
+     */
+    private static void normalizeIgnoredTitles(Connection connection) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        List<String> titles = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT id, title FROM ignored_games " +
+                     "WHERE (normalized_title IS NULL OR normalized_title = '') AND title IS NOT NULL")) {
+            while (rs.next()) {
+                ids.add(rs.getLong(1));
+                titles.add(rs.getString(2));
+            }
+        }
+
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE ignored_games SET normalized_title = ? WHERE id = ?")) {
+            for (int i = 0; i < ids.size(); i++) {
+                update.setString(1, normalizeTitleV3(titles.get(i)));
+                update.setLong(2, ids.get(i));
+                update.addBatch();
+            }
+            update.executeBatch();
+        }
+    }
+
+    /**
+     * IgnoredGame.normalizeTitle as it was when V3 shipped. Kept here so a later change to
+     * the live method cannot change what this migration writes.
+     */
+    private static String normalizeTitleV3(String title) {
+        if (title == null) return "";
+        return title.toLowerCase().replaceAll("[^a-z0-9]", "").trim();
+    }
+
+    @FunctionalInterface
+    private interface MigrationBody {
+        void apply(Connection connection) throws SQLException;
+    }
+
+    private static class Migration {
+        final int version;
+        final String description;
+        final MigrationBody body;
+
+        private Migration(int version, String description, MigrationBody body) {
+            this.version = version;
+            this.description = description;
+            this.body = body;
+        }
+
+        static Migration script(int version, String description, String scriptName) {
+            return new Migration(version, description, connection -> runScript(connection, scriptName));
+        }
+
+        static Migration code(int version, String description, MigrationBody body) {
+            return new Migration(version, description, body);
+        }
+    }
+}
@@ -3,9 +3,12 @@ module com.nexus.launcher {
     requires javafx.fxml;
     requires javafx.graphics;
     requires org.hibernate.orm.core;
+    requires org.hibernate.orm.jcache;
     requires jakarta.persistence;
     requires java.sql;
     requires java.naming;
+    requires com.zaxxer.hikari;
+    requires org.xerial.sqlitejdbc;
     requires atlantafx.base;
     requires org.kordamp.ikonli.javafx;
     requires org.kordamp.ikonli.fontawesome5;
@@ -0,0 +1,43 @@
+-- Baseline: the schema previously generated by hbm2ddl=update.
+-- IF NOT EXISTS keeps this a no-op on databases created before migrations existed.
+
+CREATE TABLE IF NOT EXISTS app_settings (
+    id integer,
+    closeToTray boolean not null,
+    darkMode boolean not null,
+    epicGamesPath varchar(255),
+    launchOnStartup boolean not null,
+    steamLibraryPath varchar(255),
+    primary key (id)
+);
+
+CREATE TABLE IF NOT EXISTS games (
+    id integer,
+    app_id varchar(255),
+    coverImageUrl varchar(255),
+    description varchar(2000),
+    developer varchar(255),
+    executablePath varchar(255),
+    favorite boolean not null,
+    heroImageUrl varchar(255),
+    icon_path varchar(255),
+    install_path varchar(255),
+    last_played timestamp,
+    platform varchar(255) check (platform in ('STEAM','EPIC','SYSTEM','MANUAL')),
+    releaseDate varchar(255),
+    status varchar(255) check (status in ('READY','MISSING','UPDATING')),
+    title varchar(255) not null,
+    total_play_time bigint,
+    unique_id varchar(255) unique,
+    primary key (id)
+);
+
+CREATE TABLE IF NOT EXISTS ignored_games (
+    id integer,
+    ignored_at timestamp,
+    install_path varchar(255),
+    normalized_title varchar(255),
+    title varchar(255) not null,
+    unique_id varchar(255),
+    primary key (id)
+);
@@ -0,0 +1,11 @@
+-- Library ordering and keyset paging: ORDER BY title, id
+CREATE INDEX IF NOT EXISTS idx_games_title_id ON games (title, id);
+
+-- Favorites and platform filters
+CREATE INDEX IF NOT EXISTS idx_games_favorite ON games (favorite);
+CREATE INDEX IF NOT EXISTS idx_games_platform ON games (platform);
+
+-- Ignore checks run for every scanned game
+CREATE INDEX IF NOT EXISTS idx_ignored_games_normalized_title ON ignored_games (normalized_title);
+CREATE INDEX IF NOT EXISTS idx_ignored_games_install_path ON ignored_games (install_path);
+CREATE INDEX IF NOT EXISTS idx_ignored_games_unique_id ON ignored_games (unique_id);
@@ -0,0 +1,36 @@
+-- Full-text index over titles, developers and descriptions.
+-- External content table: the text lives in games, the index only stores postings.
+-- Prefix indexes make 2- and 3-character prefix queries ("fro*") cheap.
+CREATE VIRTUAL TABLE IF NOT EXISTS games_fts USING fts5(
+    title,
+    developer,
+    description,
+    content = 'games',
+    content_rowid = 'id',
+    tokenize = 'unicode61 remove_diacritics 2',
+    prefix = '2 3'
+);
+
+-- Keep the index in sync with games
+CREATE TRIGGER IF NOT EXISTS games_fts_insert AFTER INSERT ON games
+BEGIN
+    INSERT INTO games_fts (rowid, title, developer, description)
+    VALUES (new.id, new.title, new.developer, new.description);
+END;
+
+CREATE TRIGGER IF NOT EXISTS games_fts_delete AFTER DELETE ON games
+BEGIN
+    INSERT INTO games_fts (games_fts, rowid, title, developer, description)
+    VALUES ('delete', old.id, old.title, old.developer, old.description);
+END;
+
+CREATE TRIGGER IF NOT EXISTS games_fts_update AFTER UPDATE OF title, developer, description ON games
+BEGIN
+    INSERT INTO games_fts (games_fts, rowid, title, developer, description)
+    VALUES ('delete', old.id, old.title, old.developer, old.description);
+    INSERT INTO games_fts (rowid, title, developer, description)
+    VALUES (new.id, new.title, new.developer, new.description);
+END;
+
+-- Index the games that already exist
+INSERT INTO games_fts (games_fts) VALUES ('rebuild');
@@ -0,0 +1,20 @@
+-- Staging area for full rescans. A scan is written here first and then swapped into games
+-- in one transaction, so games stays complete and readable while the scan runs and a crash
+-- mid-scan leaves it untouched. Only scanner-owned columns: favorites, play time and last
+-- played live in games and survive the swap.
+CREATE TABLE IF NOT EXISTS games_staging (
+    unique_id varchar(255) not null,
+    app_id varchar(255),
+    coverImageUrl varchar(255),
+    description varchar(2000),
+    developer varchar(255),
+    executablePath varchar(255),
+    heroImageUrl varchar(255),
+    icon_path varchar(255),
+    install_path varchar(255),
+    platform varchar(255),
+    releaseDate varchar(255),
+    status varchar(255),
+    title varchar(255) not null,
+    primary key (unique_id)
+);
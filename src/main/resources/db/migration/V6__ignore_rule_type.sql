@@ -0,0 +1,3 @@
+-- Ignore rules beyond single games: GAME (one game, the only kind so far), FOLDER (everything
+-- installed under install_path), TITLE_GLOB and TITLE_REGEX (the pattern is stored in title).
+ALTER TABLE ignored_games ADD COLUMN rule_type varchar(255) not null default 'GAME';